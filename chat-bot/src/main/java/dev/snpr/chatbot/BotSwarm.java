@@ -0,0 +1,253 @@
+package dev.snpr.chatbot;
+
+import org.geysermc.mcprotocollib.network.Session;
+import org.geysermc.mcprotocollib.network.event.session.DisconnectedEvent;
+import org.geysermc.mcprotocollib.network.event.session.SessionAdapter;
+import org.geysermc.mcprotocollib.network.factory.ClientNetworkSessionFactory;
+import org.geysermc.mcprotocollib.network.packet.Packet;
+import org.geysermc.mcprotocollib.network.session.ClientNetworkSession;
+import org.geysermc.mcprotocollib.protocol.MinecraftProtocol;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Load generator: N bots with their own usernames, one virtual thread each. Bot i connects after
+ * i * joinIntervalMillis, waits for the login packet and then chats and sends /answer at the configured
+ * per-minute rates (exponentially distributed gaps, so bursts happen) until holdSeconds have passed.
+ * Prints connection failures, disconnect reasons and per-bot message counts at the end.
+ */
+final class BotSwarm {
+    private static final int MAX_USERNAME_LENGTH = 16;
+    private static final long JOIN_TIMEOUT_MILLIS = 30_000L;
+
+    private final Options options;
+
+    record Options(
+            String host,
+            int port,
+            String usernamePrefix,
+            int bots,
+            long joinIntervalMillis,
+            double chatPerMinute,
+            double answersPerMinute,
+            long holdSeconds,
+            List<String> answers
+    ) {
+    }
+
+    BotSwarm(Options options) {
+        this.options = options;
+    }
+
+    void run() throws InterruptedException {
+        System.out.println("Starting swarm of " + options.bots() + " bots against " + options.host() + ":"
+                + options.port() + " (join every " + options.joinIntervalMillis() + " ms, "
+                + options.chatPerMinute() + " chat/min, " + options.answersPerMinute() + " answers/min per bot)");
+
+        List<Bot> bots = new ArrayList<>(options.bots());
+        for (int i = 1; i <= options.bots(); i++) {
+            bots.add(new Bot(username(options.usernamePrefix(), i, options.bots())));
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < bots.size(); i++) {
+                Bot bot = bots.get(i);
+                long joinAt = startedAt + i * options.joinIntervalMillis();
+                executor.submit(() -> {
+                    bot.run(joinAt);
+                    return null;
+                });
+            }
+        }
+
+        printSummary(bots, System.currentTimeMillis() - startedAt);
+    }
+
+    private static String username(String prefix, int index, int bots) {
+        String suffix = Integer.toString(index);
+        int width = Integer.toString(bots).length();
+        String padded = "0".repeat(Math.max(0, width - suffix.length())) + suffix;
+        String base = prefix.length() + padded.length() > MAX_USERNAME_LENGTH
+                ? prefix.substring(0, Math.max(0, MAX_USERNAME_LENGTH - padded.length()))
+                : prefix;
+        return base + padded;
+    }
+
+    private void printSummary(List<Bot> bots, long elapsedMillis) {
+        int joined = 0;
+        long received = 0L;
+        long chats = 0L;
+        long answers = 0L;
+        Map<String, Integer> failures = new TreeMap<>();
+        Map<String, Integer> disconnects = new TreeMap<>();
+        List<Long> joinMillis = new ArrayList<>();
+
+        System.out.println();
+        System.out.println("bot                joined  join_ms  received  chats_sent  answers_sent  disconnect");
+        bots.sort(Comparator.comparing(bot -> bot.username));
+        for (Bot bot : bots) {
+            if (bot.joinMillis >= 0L) {
+                joined++;
+                joinMillis.add(bot.joinMillis);
+            }
+            received += bot.received.get();
+            chats += bot.chatsSent;
+            answers += bot.answersSent;
+            if (bot.failure != null) {
+                failures.merge(bot.failure, 1, Integer::sum);
+            }
+            if (bot.disconnectReason != null) {
+                disconnects.merge(bot.disconnectReason, 1, Integer::sum);
+            }
+            System.out.printf("%-18s %-7s %7s  %8d  %10d  %12d  %s%n",
+                    bot.username,
+                    bot.joinMillis >= 0L ? "yes" : "no",
+                    bot.joinMillis >= 0L ? Long.toString(bot.joinMillis) : "-",
+                    bot.received.get(),
+                    bot.chatsSent,
+                    bot.answersSent,
+                    bot.failure != null ? "FAILED: " + bot.failure
+                            : bot.disconnectReason != null ? bot.disconnectReason : "");
+        }
+
+        System.out.println();
+        System.out.println("Swarm finished after " + elapsedMillis + " ms: " + joined + "/" + bots.size()
+                + " joined, " + received + " chat messages received, " + chats + " chats and " + answers
+                + " answers sent.");
+        if (!joinMillis.isEmpty()) {
+            joinMillis.sort(Long::compare);
+            System.out.println("Time to join (ms): min " + joinMillis.get(0)
+                    + ", p50 " + joinMillis.get((joinMillis.size() - 1) / 2)
+                    + ", p99 " + joinMillis.get((int) Math.ceil(joinMillis.size() * 0.99d) - 1)
+                    + ", max " + joinMillis.get(joinMillis.size() - 1));
+        }
+        printCounts("Connection failures", failures);
+        printCounts("Disconnect reasons", disconnects);
+    }
+
+    private static void printCounts(String title, Map<String, Integer> counts) {
+        if (counts.isEmpty()) {
+            System.out.println(title + ": none");
+            return;
+        }
+
+        System.out.println(title + ":");
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> System.out.println("  " + entry.getValue() + "x " + entry.getKey()));
+    }
+
+    private static long nextSendAt(long now, double perMinute) {
+        if (perMinute <= 0d) {
+            return Long.MAX_VALUE;
+        }
+
+        double meanMillis = 60_000d / perMinute;
+        return now + Math.max(1L, (long) (-Math.log(1d - ThreadLocalRandom.current().nextDouble()) * meanMillis));
+    }
+
+    private final class Bot {
+        private final String username;
+        private final AtomicInteger received = new AtomicInteger();
+        private final CountDownLatch loggedIn = new CountDownLatch(1);
+        private volatile String disconnectReason;
+        private String failure;
+        private long joinMillis = -1L;
+        private int chatsSent;
+        private int answersSent;
+
+        Bot(String username) {
+            this.username = username;
+        }
+
+        void run(long joinAt) throws InterruptedException {
+            long wait = joinAt - System.currentTimeMillis();
+            if (wait > 0L) {
+                Thread.sleep(wait);
+            }
+
+            long connectStarted = System.currentTimeMillis();
+            ClientNetworkSession session = ClientNetworkSessionFactory.factory()
+                    .setAddress(options.host(), options.port())
+                    .setProtocol(new MinecraftProtocol(username))
+                    .create();
+            session.addListener(new SessionAdapter() {
+                @Override
+                public void packetReceived(Session s, Packet packet) {
+                    String className = packet.getClass().getSimpleName();
+                    if ("ClientboundLoginPacket".equals(className)) {
+                        loggedIn.countDown();
+                    } else if (className.contains("Chat")) {
+                        received.incrementAndGet();
+                    }
+                }
+
+                @Override
+                public void disconnected(DisconnectedEvent event) {
+                    disconnectReason = event.getCause() == null
+                            ? String.valueOf(event.getReason())
+                            : event.getReason() + " (" + event.getCause() + ")";
+                    loggedIn.countDown();
+                }
+            });
+
+            try {
+                session.connect(true);
+            } catch (RuntimeException e) {
+                failure = e.getClass().getSimpleName() + ": " + e.getMessage();
+                return;
+            }
+            if (!loggedIn.await(JOIN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                failure = "no login packet within " + JOIN_TIMEOUT_MILLIS + " ms";
+                session.disconnect("Join timeout");
+                return;
+            }
+            if (!session.isConnected()) {
+                failure = "disconnected before login: " + disconnectReason;
+                disconnectReason = null;
+                return;
+            }
+            joinMillis = System.currentTimeMillis() - connectStarted;
+
+            long holdMillis = options.holdSeconds() > 0L ? options.holdSeconds() * 1_000L : 60_000L;
+            long deadline = System.currentTimeMillis() + holdMillis;
+            long now = System.currentTimeMillis();
+            long nextChat = nextSendAt(now, options.chatPerMinute());
+            long nextAnswer = nextSendAt(now, options.answersPerMinute());
+            while (session.isConnected()) {
+                now = System.currentTimeMillis();
+                if (now >= deadline) {
+                    break;
+                }
+                if (now >= nextChat) {
+                    TestChatBot.sendChat(session, "chat " + username + " #" + (chatsSent + 1));
+                    chatsSent++;
+                    nextChat = nextSendAt(now, options.chatPerMinute());
+                }
+                if (now >= nextAnswer) {
+                    List<String> answers = options.answers();
+                    TestChatBot.sendCommand(session,
+                            "answer " + answers.get(ThreadLocalRandom.current().nextInt(answers.size())));
+                    answersSent++;
+                    nextAnswer = nextSendAt(now, options.answersPerMinute());
+                }
+                Thread.sleep(Math.max(1L, Math.min(Math.min(nextChat, nextAnswer), deadline) - now));
+            }
+
+            if (session.isConnected()) {
+                session.disconnect("Swarm finished");
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package dev.snpr.chatbot;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/*
+ * Collects latency samples in milliseconds and prints percentiles plus a power-of-two bucket histogram.
+ * Solver runs produce at most a few thousand samples, so keeping every sample is cheaper than being clever.
+ */
+final class LatencyRecorder {
+    private static final int BAR_WIDTH = 40;
+
+    private final String name;
+    private double[] samples = new double[64];
+    private int count;
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    synchronized void recordNanos(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos / 1_000_000d;
+    }
+
+    synchronized String report() {
+        if (count == 0) {
+            return name + ": no samples\n";
+        }
+
+        double[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT,
+                "%s: n=%d min=%.1f p50=%.1f p90=%.1f p99=%.1f max=%.1f ms%n",
+                name, count, sorted[0], percentile(sorted, 50d), percentile(sorted, 90d),
+                percentile(sorted, 99d), sorted[count - 1]));
+
+        int maxBucket = bucket(sorted[count - 1]);
+        int[] buckets = new int[maxBucket + 1];
+        for (double sample : sorted) {
+            buckets[bucket(sample)]++;
+        }
+        int largest = Arrays.stream(buckets).max().orElse(1);
+        for (int i = bucket(sorted[0]); i <= maxBucket; i++) {
+            String range = i == 0 ? "< 1" : (1L << (i - 1)) + "-" + (1L << i);
+            int bar = (int) Math.ceil(buckets[i] * (double) BAR_WIDTH / largest);
+            out.append(String.format(Locale.ROOT, "  %12s ms | %-" + BAR_WIDTH + "s %d%n",
+                    range, "#".repeat(bar), buckets[i]));
+        }
+        return out.toString();
+    }
+
+    private static double percentile(double[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100d * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    // 0 is below 1 ms, bucket i covers [2^(i-1), 2^i) ms.
+    private static int bucket(double millis) {
+        if (millis < 1d) {
+            return 0;
+        }
+        return 64 - Long.numberOfLeadingZeros((long) millis);
+    }
+}
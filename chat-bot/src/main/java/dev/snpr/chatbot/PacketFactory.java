@@ -0,0 +1,220 @@
+package dev.snpr.chatbot;
+
+import org.geysermc.mcprotocollib.network.packet.Packet;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * Builds serverbound chat/command packets and reads the text of inbound chat packets without per-message
+ * reflection. MCProtocolLib changes the chat packet constructor between versions, so resolve() still picks
+ * the first constructor it can fill (fewest parameters first), but only once: the chosen constructor and the
+ * recipe for each of its arguments are cached as a MethodHandle, and text accessors are cached per packet
+ * class. resolve() throws if this MCProtocolLib version has no usable chat or command packet.
+ */
+final class PacketFactory {
+    private static final String CHAT_PACKET =
+            "org.geysermc.mcprotocollib.protocol.packet.ingame.serverbound.ServerboundChatPacket";
+    private static final String COMMAND_PACKET =
+            "org.geysermc.mcprotocollib.protocol.packet.ingame.serverbound.ServerboundChatCommandPacket";
+    private static final List<String> TEXT_ACCESSORS = List.of(
+            "content",
+            "message",
+            "text",
+            "getContent",
+            "getMessage",
+            "getText"
+    );
+    private static final MethodType TO_OBJECT = MethodType.methodType(Object.class, Object.class);
+    private static final ClassValue<MethodHandle[]> TEXT_HANDLES = new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> packetClass) {
+            return resolveTextAccessors(packetClass);
+        }
+    };
+
+    private final MethodHandle chatConstructor;
+    private final Argument[] chatArguments;
+    private final MethodHandle commandConstructor;
+
+    // How one constructor argument is produced from the message for each packet.
+    @FunctionalInterface
+    private interface Argument {
+        Object value(String message);
+    }
+
+    private PacketFactory(MethodHandle chatConstructor, Argument[] chatArguments, MethodHandle commandConstructor) {
+        this.chatConstructor = chatConstructor;
+        this.chatArguments = chatArguments;
+        this.commandConstructor = commandConstructor;
+    }
+
+    static PacketFactory resolve() {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        Class<?> chatClass = packetClass(CHAT_PACKET);
+        Class<?> commandClass = packetClass(COMMAND_PACKET);
+
+        Constructor<?>[] constructors = chatClass.getConstructors();
+        Arrays.sort(constructors, Comparator.comparingInt(Constructor::getParameterCount));
+        for (Constructor<?> constructor : constructors) {
+            Argument[] arguments = argumentsFor(constructor);
+            if (arguments == null) {
+                continue;
+            }
+
+            try {
+                MethodHandle handle = lookup.unreflectConstructor(constructor)
+                        .asSpreader(Object[].class, arguments.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+                if (build(handle, arguments, "probe") instanceof Packet) {
+                    return new PacketFactory(handle, arguments, commandConstructor(lookup, commandClass));
+                }
+            } catch (Throwable ignored) {
+            }
+        }
+
+        throw new IllegalStateException("Could not create ServerboundChatPacket for this MCProtocolLib version.");
+    }
+
+    Packet chat(String message) {
+        try {
+            return (Packet) build(chatConstructor, chatArguments, message);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create ServerboundChatPacket: " + e, e);
+        }
+    }
+
+    Packet command(String command) {
+        try {
+            return (Packet) (Object) commandConstructor.invokeExact(command);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create ServerboundChatCommandPacket: " + e, e);
+        }
+    }
+
+    static String chatText(Packet packet) {
+        for (MethodHandle accessor : TEXT_HANDLES.get(packet.getClass())) {
+            try {
+                Object value = (Object) accessor.invokeExact((Object) packet);
+                if (value != null) {
+                    return String.valueOf(value);
+                }
+            } catch (Throwable ignored) {
+            }
+        }
+
+        return packet.toString();
+    }
+
+    private static Object build(MethodHandle constructor, Argument[] arguments, String message) throws Throwable {
+        Object[] values = new Object[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            values[i] = arguments[i].value(message);
+        }
+        return (Object) constructor.invokeExact(values);
+    }
+
+    private static Class<?> packetClass(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(name + " is missing in this MCProtocolLib version.", e);
+        }
+    }
+
+    private static MethodHandle commandConstructor(MethodHandles.Lookup lookup, Class<?> commandClass) {
+        try {
+            MethodHandle handle = lookup.findConstructor(commandClass, MethodType.methodType(void.class, String.class))
+                    .asType(MethodType.methodType(Object.class, String.class));
+            if (!Packet.class.isAssignableFrom(commandClass)) {
+                throw new IllegalStateException(commandClass.getName() + " is not a Packet.");
+            }
+            return handle;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "Could not create ServerboundChatCommandPacket for this MCProtocolLib version.", e);
+        }
+    }
+
+    private static MethodHandle[] resolveTextAccessors(Class<?> packetClass) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        List<MethodHandle> accessors = new ArrayList<>();
+        for (String methodName : TEXT_ACCESSORS) {
+            try {
+                Method method = packetClass.getMethod(methodName);
+                if (method.getReturnType() != void.class) {
+                    accessors.add(lookup.unreflect(method).asType(TO_OBJECT));
+                }
+            } catch (ReflectiveOperationException ignored) {
+            }
+        }
+        return accessors.toArray(new MethodHandle[0]);
+    }
+
+    private static Argument[] argumentsFor(Constructor<?> constructor) {
+        Class<?>[] types = constructor.getParameterTypes();
+        Argument[] arguments = new Argument[types.length];
+        boolean timestampAssigned = false;
+        boolean messageAssigned = false;
+
+        for (int i = 0; i < types.length; i++) {
+            Class<?> type = types[i];
+            if (type == String.class) {
+                arguments[i] = message -> message;
+                messageAssigned = true;
+            } else if (type == long.class || type == Long.class) {
+                arguments[i] = timestampAssigned
+                        ? message -> ThreadLocalRandom.current().nextLong()
+                        : message -> Instant.now().toEpochMilli();
+                timestampAssigned = true;
+            } else if (type == int.class || type == Integer.class) {
+                arguments[i] = constant(0);
+            } else if (type == boolean.class || type == Boolean.class) {
+                arguments[i] = constant(false);
+            } else if (type == byte.class || type == Byte.class) {
+                arguments[i] = constant((byte) 0);
+            } else if (type == short.class || type == Short.class) {
+                arguments[i] = constant((short) 0);
+            } else if (type == float.class || type == Float.class) {
+                arguments[i] = constant(0.0f);
+            } else if (type == double.class || type == Double.class) {
+                arguments[i] = constant(0.0d);
+            } else if (type == char.class || type == Character.class) {
+                arguments[i] = constant('\0');
+            } else if (type == BitSet.class) {
+                arguments[i] = message -> new BitSet();
+            } else if (type == UUID.class) {
+                arguments[i] = message -> UUID.randomUUID();
+            } else if (type == Instant.class) {
+                arguments[i] = message -> Instant.now();
+            } else if (type.isEnum()) {
+                Object[] constants = type.getEnumConstants();
+                if (constants == null || constants.length == 0) {
+                    return null;
+                }
+                arguments[i] = constant(constants[0]);
+            } else if (!type.isPrimitive()) {
+                arguments[i] = constant(null);
+            } else {
+                return null;
+            }
+        }
+
+        return messageAssigned ? arguments : null;
+    }
+
+    private static Argument constant(Object value) {
+        return message -> value;
+    }
+}
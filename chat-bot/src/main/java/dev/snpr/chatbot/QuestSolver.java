@@ -0,0 +1,270 @@
+package dev.snpr.chatbot;
+
+import org.geysermc.mcprotocollib.network.Session;
+import org.geysermc.mcprotocollib.network.event.session.DisconnectedEvent;
+import org.geysermc.mcprotocollib.network.event.session.SessionAdapter;
+import org.geysermc.mcprotocollib.network.factory.ClientNetworkSessionFactory;
+import org.geysermc.mcprotocollib.network.packet.Packet;
+import org.geysermc.mcprotocollib.network.session.ClientNetworkSession;
+import org.geysermc.mcprotocollib.protocol.MinecraftProtocol;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Answers Jenkins quests from the same de_en.csv/de_fr.csv files the server loads and measures the
+ * plugin path end to end: quest broadcast seen -> answer sent after answerDelayMillis, answer sent ->
+ * first feedback for this bot, and (for correct answers) answer sent -> solution broadcast. Timer fire
+ * -> broadcast happens inside the server, so it is read from the plugin's metrics endpoint when a URL
+ * is given.
+ */
+final class QuestSolver {
+    private static final Pattern QUEST_PATTERN = Pattern.compile(
+            "Vokabel-Quest: Was ist das (englische|französische) Wort für: (.+?)\\? Antworte");
+    private static final String SOLUTION_MARKER = "Lösung: ";
+    private static final List<String> PRIVATE_FEEDBACK = List.of(
+            "Du hast 1 Emerald erhalten",
+            "bereits eine Belohnung erhalten",
+            "Diese Vokabel-Quest wurde bereits gelöst",
+            "Du antwortest zu schnell",
+            "Aktuell läuft keine Vokabel-Quest"
+    );
+
+    private final Options options;
+    private final Map<String, Map<String, String>> vocabulary;
+    private final LatencyRecorder broadcastToAnswer = new LatencyRecorder("broadcast -> answer sent");
+    private final LatencyRecorder answerToFeedback = new LatencyRecorder("answer sent -> feedback");
+    private final LatencyRecorder answerToSolution = new LatencyRecorder("correct answer sent -> solution broadcast");
+    private Quest current;
+    private int questsSeen;
+    private int unknownWords;
+    private int correctAnswers;
+    private int wrongAnswers;
+
+    record Options(
+            String host,
+            int port,
+            String username,
+            Path vocabularyDir,
+            long answerDelayMillis,
+            double correctRate,
+            long holdSeconds,
+            String metricsUrl
+    ) {
+    }
+
+    private static final class Quest {
+        private final String deWord;
+        private final String answer;
+        private final long seenNanos;
+        private long answerSentNanos = -1L;
+        private boolean answeredCorrectly;
+        private boolean feedbackSeen;
+
+        private Quest(String deWord, String answer, long seenNanos) {
+            this.deWord = deWord;
+            this.answer = answer;
+            this.seenNanos = seenNanos;
+        }
+    }
+
+    QuestSolver(Options options) throws IOException {
+        this.options = options;
+        this.vocabulary = Map.of(
+                "englische", loadVocabulary(options.vocabularyDir().resolve("de_en.csv")),
+                "französische", loadVocabulary(options.vocabularyDir().resolve("de_fr.csv"))
+        );
+    }
+
+    void run() throws InterruptedException {
+        System.out.println("Solver " + options.username() + " connecting to " + options.host() + ":" + options.port()
+                + " (" + vocabulary.get("englische").size() + " de_en and " + vocabulary.get("französische").size()
+                + " de_fr words, answer delay " + options.answerDelayMillis() + " ms, correct rate "
+                + options.correctRate() + ")");
+
+        ClientNetworkSession session = ClientNetworkSessionFactory.factory()
+                .setAddress(options.host(), options.port())
+                .setProtocol(new MinecraftProtocol(options.username()))
+                .create();
+        session.addListener(new SessionAdapter() {
+            @Override
+            public void packetReceived(Session s, Packet packet) {
+                if (packet.getClass().getSimpleName().contains("Chat")) {
+                    onChat(session, TestChatBot.extractChatText(packet), System.nanoTime());
+                }
+            }
+
+            @Override
+            public void disconnected(DisconnectedEvent event) {
+                System.err.println("Disconnected: " + event.getReason());
+            }
+        });
+        session.connect(true);
+
+        long holdMillis = options.holdSeconds() > 0L ? options.holdSeconds() * 1_000L : 600_000L;
+        long deadline = System.currentTimeMillis() + holdMillis;
+        while (session.isConnected() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100L);
+        }
+        if (session.isConnected()) {
+            session.disconnect("Solver finished");
+        }
+
+        printReport();
+    }
+
+    private void onChat(Session session, String text, long receivedNanos) {
+        Matcher quest = QUEST_PATTERN.matcher(text);
+        if (quest.find()) {
+            onQuest(session, quest.group(1), quest.group(2).trim(), receivedNanos);
+            return;
+        }
+
+        synchronized (this) {
+            if (current == null || current.answerSentNanos < 0L) {
+                return;
+            }
+            if (!current.feedbackSeen && isFeedbackForMe(text)) {
+                current.feedbackSeen = true;
+                answerToFeedback.recordNanos(receivedNanos - current.answerSentNanos);
+            }
+            if (text.contains(SOLUTION_MARKER + current.deWord + " -> ")) {
+                if (current.answeredCorrectly) {
+                    answerToSolution.recordNanos(receivedNanos - current.answerSentNanos);
+                }
+                current = null;
+            }
+        }
+    }
+
+    private void onQuest(Session session, String languageWord, String deWord, long seenNanos) {
+        String answer = vocabulary.getOrDefault(languageWord, Map.of()).get(deWord.toLowerCase(Locale.ROOT));
+        Quest quest = new Quest(deWord, answer, seenNanos);
+        synchronized (this) {
+            questsSeen++;
+            if (answer == null) {
+                unknownWords++;
+                System.err.println("Quest word not in the local vocabulary: " + deWord);
+            }
+            current = quest;
+        }
+
+        Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(options.answerDelayMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            answer(session, quest);
+        });
+    }
+
+    private void answer(Session session, Quest quest) {
+        boolean correct = quest.answer != null && ThreadLocalRandom.current().nextDouble() < options.correctRate();
+        String text = correct ? quest.answer : "falsch" + ThreadLocalRandom.current().nextInt(10_000);
+        synchronized (this) {
+            if (current != quest) {
+                return;
+            }
+            quest.answeredCorrectly = correct;
+            quest.answerSentNanos = System.nanoTime();
+            broadcastToAnswer.recordNanos(quest.answerSentNanos - quest.seenNanos);
+            if (correct) {
+                correctAnswers++;
+            } else {
+                wrongAnswers++;
+            }
+        }
+        TestChatBot.sendCommand(session, "answer " + text);
+    }
+
+    private boolean isFeedbackForMe(String text) {
+        if (text.contains("Player " + options.username() + " hat")) {
+            return true;
+        }
+        for (String feedback : PRIVATE_FEEDBACK) {
+            if (text.contains(feedback)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void printReport() {
+        System.out.println();
+        System.out.println("Quests seen: " + questsSeen + ", answered correctly: " + correctAnswers
+                + ", answered wrong: " + wrongAnswers + ", unknown words: " + unknownWords);
+        System.out.print(broadcastToAnswer.report());
+        System.out.print(answerToFeedback.report());
+        System.out.print(answerToSolution.report());
+
+        if (options.metricsUrl() == null || options.metricsUrl().isBlank()) {
+            System.out.println("timer fire -> broadcast: pass --metrics-url to read it from the plugin");
+            return;
+        }
+        System.out.println("timer fire -> broadcast (server side, " + options.metricsUrl() + "):");
+        try {
+            for (String line : fetchMetrics(options.metricsUrl()).split("\n")) {
+                if (line.contains("event=\"fire_to_broadcast\"")) {
+                    System.out.println("  " + line);
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("  unavailable: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String fetchMetrics(String url) throws IOException, InterruptedException {
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build()) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(10)).GET().build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode());
+            }
+            return response.body();
+        }
+    }
+
+    // Same rules as the plugin import: "de,translation" rows, optional header, # comments. The first
+    // alternative of "a / b" or "a; b" is the answer.
+    private static Map<String, String> loadVocabulary(Path csv) throws IOException {
+        Map<String, String> words = new HashMap<>();
+        if (!Files.isRegularFile(csv)) {
+            System.err.println("Vocabulary file not found: " + csv.toAbsolutePath());
+            return words;
+        }
+
+        for (String line : Files.readAllLines(csv, StandardCharsets.UTF_8)) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] parts = trimmed.split(",", 2);
+            if (parts.length < 2 || parts[0].isBlank() || parts[1].isBlank()) {
+                continue;
+            }
+            String answer = parts[1].split("[/;]", 2)[0].trim();
+            if (!answer.isEmpty()) {
+                words.putIfAbsent(parts[0].trim().toLowerCase(Locale.ROOT), answer);
+            }
+        }
+        return words;
+    }
+}
@@ -11,27 +11,50 @@ import org.geysermc.mcprotocollib.protocol.MinecraftProtocol;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.BitSet;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
-import java.util.Random;
-import java.util.UUID;
 
 public final class TestChatBot {
-    private static final Random RANDOM = new Random();
+    private static PacketFactory packets;
 
     private TestChatBot() {
     }
 
     public static void main(String[] args) throws Exception {
         Config config = Config.fromArgs(args);
+        packets = PacketFactory.resolve();
+
+        if (config.swarmBots > 0) {
+            new BotSwarm(new BotSwarm.Options(
+                    config.host,
+                    config.port,
+                    config.username,
+                    config.swarmBots,
+                    config.swarmJoinIntervalMillis,
+                    config.swarmChatPerMinute,
+                    config.swarmAnswersPerMinute,
+                    config.holdSeconds,
+                    config.swarmAnswers
+            )).run();
+            return;
+        }
+
+        if (config.solve) {
+            new QuestSolver(new QuestSolver.Options(
+                    config.host,
+                    config.port,
+                    config.username,
+                    Path.of(config.vocabularyDir),
+                    config.answerDelayMillis,
+                    config.correctRate,
+                    config.holdSeconds,
+                    config.metricsUrl
+            )).run();
+            return;
+        }
 
         System.out.println("Connecting bot to " + config.host + ":" + config.port + " as " + config.username);
 
@@ -136,186 +159,16 @@ public final class TestChatBot {
         sendChat(session, input);
     }
 
-    private static String extractChatText(Packet packet) {
-        List<String> methodNames = Arrays.asList(
-                "content",
-                "message",
-                "text",
-                "getContent",
-                "getMessage",
-                "getText"
-        );
-
-        for (String methodName : methodNames) {
-            try {
-                Method method = packet.getClass().getMethod(methodName);
-                Object value = method.invoke(packet);
-                if (value != null) {
-                    return String.valueOf(value);
-                }
-            } catch (ReflectiveOperationException ignored) {
-            }
-        }
-
-        return packet.toString();
-    }
-
-    private static void sendChat(Session session, String message) {
-        Packet packet = buildServerboundChatPacket(message);
-        if (packet == null) {
-            System.err.println("Could not create ServerboundChatPacket for this MCProtocolLib version.");
-            return;
-        }
-
-        session.send(packet);
-    }
-
-    private static void sendCommand(Session session, String command) {
-        Packet packet = buildServerboundCommandPacket(command);
-        if (packet == null) {
-            System.err.println("Could not create ServerboundChatCommandPacket for this MCProtocolLib version.");
-            return;
-        }
-
-        session.send(packet);
-    }
-
-    private static Packet buildServerboundChatPacket(String message) {
-        try {
-            Class<?> packetClass = Class.forName(
-                    "org.geysermc.mcprotocollib.protocol.packet.ingame.serverbound.ServerboundChatPacket"
-            );
-
-            Constructor<?>[] constructors = packetClass.getConstructors();
-            Arrays.sort(constructors, Comparator.comparingInt(Constructor::getParameterCount));
-
-            for (Constructor<?> constructor : constructors) {
-                Object[] args = buildArgsForConstructor(constructor, message);
-                if (args == null) {
-                    continue;
-                }
-
-                try {
-                    Object packet = constructor.newInstance(args);
-                    if (packet instanceof Packet p) {
-                        return p;
-                    }
-                } catch (ReflectiveOperationException ignored) {
-                }
-            }
-        } catch (ClassNotFoundException ignored) {
-        }
-
-        return null;
+    static String extractChatText(Packet packet) {
+        return PacketFactory.chatText(packet);
     }
 
-    private static Packet buildServerboundCommandPacket(String command) {
-        try {
-            Class<?> packetClass = Class.forName(
-                    "org.geysermc.mcprotocollib.protocol.packet.ingame.serverbound.ServerboundChatCommandPacket"
-            );
-
-            Constructor<?> constructor = packetClass.getConstructor(String.class);
-            Object packet = constructor.newInstance(command);
-            if (packet instanceof Packet p) {
-                return p;
-            }
-        } catch (ReflectiveOperationException ignored) {
-        }
-
-        return null;
+    static void sendChat(Session session, String message) {
+        session.send(packets.chat(message));
     }
 
-    private static Object[] buildArgsForConstructor(Constructor<?> constructor, String message) {
-        Class<?>[] types = constructor.getParameterTypes();
-        List<Object> values = new ArrayList<>(types.length);
-        int longCount = 0;
-
-        for (Class<?> type : types) {
-            if (type == String.class) {
-                values.add(message);
-                continue;
-            }
-
-            if (type == long.class || type == Long.class) {
-                values.add(longCount++ == 0 ? Instant.now().toEpochMilli() : RANDOM.nextLong());
-                continue;
-            }
-
-            if (type == int.class || type == Integer.class) {
-                values.add(0);
-                continue;
-            }
-
-            if (type == boolean.class || type == Boolean.class) {
-                values.add(false);
-                continue;
-            }
-
-            if (type == byte.class || type == Byte.class) {
-                values.add((byte) 0);
-                continue;
-            }
-
-            if (type == short.class || type == Short.class) {
-                values.add((short) 0);
-                continue;
-            }
-
-            if (type == float.class || type == Float.class) {
-                values.add(0.0f);
-                continue;
-            }
-
-            if (type == double.class || type == Double.class) {
-                values.add(0.0d);
-                continue;
-            }
-
-            if (type == char.class || type == Character.class) {
-                values.add('\0');
-                continue;
-            }
-
-            if (type == BitSet.class) {
-                values.add(new BitSet());
-                continue;
-            }
-
-            if (type == UUID.class) {
-                values.add(UUID.randomUUID());
-                continue;
-            }
-
-            if (type == Instant.class) {
-                values.add(Instant.now());
-                continue;
-            }
-
-            if (type.isEnum()) {
-                Object[] constants = type.getEnumConstants();
-                if (constants == null || constants.length == 0) {
-                    return null;
-                }
-
-                values.add(constants[0]);
-                continue;
-            }
-
-            if (type.isArray()) {
-                values.add(null);
-                continue;
-            }
-
-            if (!type.isPrimitive()) {
-                values.add(null);
-                continue;
-            }
-
-            return null;
-        }
-
-        return values.toArray(new Object[0]);
+    static void sendCommand(Session session, String command) {
+        session.send(packets.command(command));
     }
 
     private static final class Config {
@@ -329,6 +182,16 @@ public final class TestChatBot {
         private final String sendOnConnect;
         private final long sendDelayMillis;
         private final long holdSeconds;
+        private final int swarmBots;
+        private final long swarmJoinIntervalMillis;
+        private final double swarmChatPerMinute;
+        private final double swarmAnswersPerMinute;
+        private final List<String> swarmAnswers;
+        private final boolean solve;
+        private final String vocabularyDir;
+        private final long answerDelayMillis;
+        private final double correctRate;
+        private final String metricsUrl;
 
         private Config(
                 String host,
@@ -340,7 +203,17 @@ public final class TestChatBot {
                 boolean noStdin,
                 String sendOnConnect,
                 long sendDelayMillis,
-                long holdSeconds
+                long holdSeconds,
+                int swarmBots,
+                long swarmJoinIntervalMillis,
+                double swarmChatPerMinute,
+                double swarmAnswersPerMinute,
+                List<String> swarmAnswers,
+                boolean solve,
+                String vocabularyDir,
+                long answerDelayMillis,
+                double correctRate,
+                String metricsUrl
         ) {
             this.host = host;
             this.port = port;
@@ -352,6 +225,16 @@ public final class TestChatBot {
             this.sendOnConnect = sendOnConnect;
             this.sendDelayMillis = sendDelayMillis;
             this.holdSeconds = holdSeconds;
+            this.swarmBots = swarmBots;
+            this.swarmJoinIntervalMillis = swarmJoinIntervalMillis;
+            this.swarmChatPerMinute = swarmChatPerMinute;
+            this.swarmAnswersPerMinute = swarmAnswersPerMinute;
+            this.swarmAnswers = swarmAnswers;
+            this.solve = solve;
+            this.vocabularyDir = vocabularyDir;
+            this.answerDelayMillis = answerDelayMillis;
+            this.correctRate = correctRate;
+            this.metricsUrl = metricsUrl;
         }
 
         private static Config fromArgs(String[] args) {
@@ -365,6 +248,16 @@ public final class TestChatBot {
             String sendOnConnect = envOrDefault("MC_SEND_ON_CONNECT", "");
             long sendDelayMillis = longEnvOrDefault("MC_SEND_DELAY_MS", 0L);
             long holdSeconds = longEnvOrDefault("MC_HOLD_SECONDS", 0L);
+            int swarmBots = intEnvOrDefault("MC_SWARM_BOTS", 0);
+            long swarmJoinIntervalMillis = longEnvOrDefault("MC_SWARM_JOIN_INTERVAL_MS", 200L);
+            double swarmChatPerMinute = doubleEnvOrDefault("MC_SWARM_CHAT_PER_MINUTE", 2.0d);
+            double swarmAnswersPerMinute = doubleEnvOrDefault("MC_SWARM_ANSWERS_PER_MINUTE", 6.0d);
+            String swarmAnswers = envOrDefault("MC_SWARM_ANSWERS", "dog,house,cat,tree,water");
+            boolean solve = boolEnvOrDefault("MC_SOLVE", false);
+            String vocabularyDir = envOrDefault("MC_VOCAB_DIR", "paper/plugins/VocabularyQuestPlugin/vocabulary");
+            long answerDelayMillis = longEnvOrDefault("MC_ANSWER_DELAY_MS", 1_500L);
+            double correctRate = doubleEnvOrDefault("MC_CORRECT_RATE", 1.0d);
+            String metricsUrl = envOrDefault("MC_METRICS_URL", "");
 
             for (int i = 0; i < args.length; i++) {
                 String arg = args[i];
@@ -388,6 +281,26 @@ public final class TestChatBot {
                     sendDelayMillis = Long.parseLong(args[++i]);
                 } else if ("--hold-seconds".equals(arg) && i + 1 < args.length) {
                     holdSeconds = Long.parseLong(args[++i]);
+                } else if ("--swarm".equals(arg) && i + 1 < args.length) {
+                    swarmBots = Integer.parseInt(args[++i]);
+                } else if ("--join-interval-ms".equals(arg) && i + 1 < args.length) {
+                    swarmJoinIntervalMillis = Long.parseLong(args[++i]);
+                } else if ("--chat-per-minute".equals(arg) && i + 1 < args.length) {
+                    swarmChatPerMinute = Double.parseDouble(args[++i]);
+                } else if ("--answers-per-minute".equals(arg) && i + 1 < args.length) {
+                    swarmAnswersPerMinute = Double.parseDouble(args[++i]);
+                } else if ("--answers".equals(arg) && i + 1 < args.length) {
+                    swarmAnswers = args[++i];
+                } else if ("--solve".equals(arg)) {
+                    solve = true;
+                } else if ("--vocab-dir".equals(arg) && i + 1 < args.length) {
+                    vocabularyDir = args[++i];
+                } else if ("--answer-delay-ms".equals(arg) && i + 1 < args.length) {
+                    answerDelayMillis = Long.parseLong(args[++i]);
+                } else if ("--correct-rate".equals(arg) && i + 1 < args.length) {
+                    correctRate = Double.parseDouble(args[++i]);
+                } else if ("--metrics-url".equals(arg) && i + 1 < args.length) {
+                    metricsUrl = args[++i];
                 }
             }
 
@@ -405,7 +318,17 @@ public final class TestChatBot {
                     noStdin,
                     sendOnConnect,
                     sendDelayMillis,
-                    holdSeconds
+                    holdSeconds,
+                    swarmBots,
+                    swarmJoinIntervalMillis,
+                    swarmChatPerMinute,
+                    swarmAnswersPerMinute,
+                    splitAnswers(swarmAnswers),
+                    solve,
+                    vocabularyDir,
+                    answerDelayMillis,
+                    correctRate,
+                    metricsUrl
             );
         }
 
@@ -440,6 +363,32 @@ public final class TestChatBot {
             }
         }
 
+        private static double doubleEnvOrDefault(String key, double defaultValue) {
+            String value = System.getenv(key);
+            if (value == null || value.isBlank()) {
+                return defaultValue;
+            }
+
+            try {
+                return Double.parseDouble(value.trim());
+            } catch (NumberFormatException ignored) {
+                return defaultValue;
+            }
+        }
+
+        private static List<String> splitAnswers(String value) {
+            List<String> answers = new ArrayList<>();
+            for (String answer : value.split(",")) {
+                if (!answer.isBlank()) {
+                    answers.add(answer.trim());
+                }
+            }
+            if (answers.isEmpty()) {
+                answers.add("dog");
+            }
+            return answers;
+        }
+
         private static boolean boolEnvOrDefault(String key, boolean defaultValue) {
             String value = System.getenv(key);
             if (value == null || value.isBlank()) {
@@ -0,0 +1,63 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnswerMatcherBenchmark {
+    private static final String[] SUBMISSIONS = {
+            "the refrigerator",
+            "refridgerator",
+            "fridge",
+            "washing machine",
+            "refrigirator",
+            "Kühlschrank",
+            "r",
+            "completely unrelated answer that is long"
+    };
+
+    @Param({"false", "true"})
+    public boolean typoTolerance;
+
+    private AnswerMatcher matcher;
+    private MyersPattern pattern;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AnswerMatcher.TypoTolerance tolerance = typoTolerance
+                ? new AnswerMatcher.TypoTolerance(2, 5)
+                : AnswerMatcher.TypoTolerance.NONE;
+        matcher = AnswerMatcher.compile("de_en", "the refrigerator / fridge; icebox", tolerance);
+        pattern = MyersPattern.compile("refrigerator");
+    }
+
+    @Benchmark
+    public boolean matchSubmission() {
+        String submission = SUBMISSIONS[next];
+        next = (next + 1) % SUBMISSIONS.length;
+        return matcher.matches(submission);
+    }
+
+    @Benchmark
+    public int myersDistance() {
+        return pattern.distance("refridgerator", 2);
+    }
+}
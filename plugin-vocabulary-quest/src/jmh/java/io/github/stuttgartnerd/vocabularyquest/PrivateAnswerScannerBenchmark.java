@@ -0,0 +1,81 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrivateAnswerScannerBenchmark {
+    // Roughly what a survival server sees: mostly movement/utility commands, a few DMs, rare quest answers.
+    private static final String[] COMMAND_MIX = {
+            "/home",
+            "/spawn",
+            "/tpa Alice",
+            "/sethome base",
+            "/msg Alice kommst du mit?",
+            "/warp mine",
+            "/home base",
+            "/tpaccept",
+            "/r ja gleich",
+            "/w Bob hi",
+            "/tell Carol brb",
+            "/back",
+            "/msg jenkins house",
+            "/gamemode survival",
+            "/w jenkins the house",
+            "/list"
+    };
+
+    private int next;
+
+    @Benchmark
+    public String scanner() {
+        String message = COMMAND_MIX[next];
+        next = (next + 1) & (COMMAND_MIX.length - 1);
+        return PrivateAnswerScanner.extractAnswer(message);
+    }
+
+    @Benchmark
+    public String regexSplitBaseline() {
+        String message = COMMAND_MIX[next];
+        next = (next + 1) & (COMMAND_MIX.length - 1);
+        return regexParser(message);
+    }
+
+    private static String regexParser(String message) {
+        if (message == null || message.isBlank() || !message.startsWith("/")) {
+            return null;
+        }
+
+        String[] parts = message.substring(1).trim().split("\\s+", 3);
+        if (parts.length < 2) {
+            return null;
+        }
+
+        String command = parts[0].toLowerCase(Locale.ROOT);
+        if (!"msg".equals(command) && !"tell".equals(command) && !"w".equals(command)) {
+            return null;
+        }
+
+        String target = parts[1].toLowerCase(Locale.ROOT);
+        if (!"jenkins".equals(target) && !"vocabularyquest".equals(target)
+                && !"vocabularyquestplugin".equals(target)) {
+            return null;
+        }
+        return parts.length >= 3 ? parts[2].trim() : "";
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Quest selection against synthetic databases. Larger histories can be run from the jmh jar, e.g.
+ * -p attemptRows=10000000 -p vocabularySize=50000.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SQLiteStoreQuestSelectionBenchmark {
+    @Param({"2000", "20000"})
+    public int vocabularySize;
+
+    @Param({"100000", "1000000"})
+    public int attemptRows;
+
+    @Param({"0.2"})
+    public double rewardDensity;
+
+    @Param({"10", "50"})
+    public int onlinePlayers;
+
+    private SyntheticDatabase database;
+    private SQLiteStore store;
+    private List<String> players;
+    private Set<String> residentRewards;
+    private final Random random = new Random(7L);
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = SyntheticDatabase.create(vocabularySize, attemptRows, rewardDensity, onlinePlayers);
+        store = database.store();
+        players = database.players();
+        residentRewards = new HashSet<>();
+        for (String player : players) {
+            for (SQLiteStore.RewardedWord word : store.listRewardedWords(player)) {
+                residentRewards.add(player + '\u0000' + word.vocabTable() + '\u0000' + word.deWord());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        database.close();
+    }
+
+    // Rewards are read from player_vocab_rewards on every call.
+    @Benchmark
+    public SQLiteStore.QuestEntry selectWithStoredRewards() throws Exception {
+        return store.selectWeightedQuestForOnlinePlayers(players, random);
+    }
+
+    // Rewards come from memory, the way the plugin calls it with its reward ledger.
+    @Benchmark
+    public SQLiteStore.QuestEntry selectWithResidentRewards() throws Exception {
+        return store.selectWeightedQuestForOnlinePlayers(players, random,
+                (username, vocabTable, deWord) -> residentRewards.contains(
+                        username + '\u0000' + vocabTable + '\u0000' + deWord));
+    }
+}
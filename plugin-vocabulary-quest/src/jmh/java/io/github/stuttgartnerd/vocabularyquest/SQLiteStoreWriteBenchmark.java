@@ -0,0 +1,110 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Per-answer writes, merge imports and the playtime helpers against a synthetic database. Each call is
+ * its own SQLite transaction, as in the plugin, so these numbers include the commit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SQLiteStoreWriteBenchmark {
+    private static final int IMPORT_BATCH = 500;
+    private static final int IMPORT_NEW_WORDS = 50;
+
+    @Param({"2000", "20000"})
+    public int vocabularySize;
+
+    @Param({"100000", "1000000"})
+    public int attemptRows;
+
+    @Param({"0.2"})
+    public double rewardDensity;
+
+    @Param({"50"})
+    public int players;
+
+    private SyntheticDatabase database;
+    private SQLiteStore store;
+    private List<String> playerNames;
+    private String today;
+    private long next;
+    private int importedWords;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = SyntheticDatabase.create(vocabularySize, attemptRows, rewardDensity, players);
+        store = database.store();
+        playerNames = database.players();
+        today = LocalDate.now().toString();
+        importedWords = vocabularySize;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Benchmark
+    public void recordAttempt() throws Exception {
+        long n = next++;
+        store.recordAttempt(playerNames.get((int) (n % playerNames.size())), "de_en",
+                SyntheticDatabase.word((int) (n % vocabularySize)), (n & 1L) == 0L);
+    }
+
+    // Fresh (player, word) pairs first, then mostly already-claimed ones once the space is used up.
+    @Benchmark
+    public boolean claimReward() throws Exception {
+        long n = next++;
+        return store.claimReward("claimer" + (n / vocabularySize) % 1000, "de_fr",
+                SyntheticDatabase.word((int) (n % vocabularySize)));
+    }
+
+    // A sheet merge where most rows already exist and a few are new.
+    @Benchmark
+    public int insertMissingVocabularyEntries() throws Exception {
+        List<SQLiteStore.VocabEntry> entries = new ArrayList<>(IMPORT_BATCH);
+        int offset = (int) (next++ % Math.max(1, vocabularySize - IMPORT_BATCH));
+        for (int i = 0; i < IMPORT_BATCH - IMPORT_NEW_WORDS; i++) {
+            entries.add(new SQLiteStore.VocabEntry(SyntheticDatabase.word(offset + i), "en-" + (offset + i)));
+        }
+        for (int i = 0; i < IMPORT_NEW_WORDS; i++) {
+            int word = importedWords++;
+            entries.add(new SQLiteStore.VocabEntry(SyntheticDatabase.word(word), "en-" + word));
+        }
+        return store.insertMissingVocabularyEntries("en", entries);
+    }
+
+    @Benchmark
+    public SQLiteStore.PlayerPlaytime addDailyUsedMinutes() throws Exception {
+        String player = playerNames.get((int) (next++ % playerNames.size()));
+        return store.addDailyUsedMinutesForToday(player, 1, today, 120);
+    }
+
+    @Benchmark
+    public SQLiteStore.PlayerPlaytime getOrCreatePlaytime() throws Exception {
+        String player = playerNames.get((int) (next++ % playerNames.size()));
+        return store.getOrCreatePlayerPlaytimeForToday(player, today, 120);
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/*
+ * Builds a throwaway plugin database for the store benchmarks: vocabSize words per language, attempt
+ * history spread over players "player0".."player{players-1}", and rewards for a rewardDensity share of
+ * every (player, word) pair. History rows go in through one bulk transaction on a separate connection,
+ * because seeding millions of attempts through SQLiteStore.recordAttempt would take hours.
+ */
+final class SyntheticDatabase implements AutoCloseable {
+    private static final long SEED = 42L;
+    private static final int BATCH_ROWS = 10_000;
+
+    private final Path directory;
+    private final SQLiteStore store;
+    private final List<String> players;
+
+    private SyntheticDatabase(Path directory, SQLiteStore store, List<String> players) {
+        this.directory = directory;
+        this.store = store;
+        this.players = players;
+    }
+
+    static SyntheticDatabase create(int vocabSize, int attemptRows, double rewardDensity, int playerCount)
+            throws IOException, SQLException {
+        Path directory = Files.createTempDirectory("vocabularyquest-bench");
+        Path dbPath = directory.resolve("bench.db");
+        List<String> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add("player" + i);
+        }
+
+        try (SQLiteStore schema = new SQLiteStore(dbPath)) {
+            schema.initializeSchema();
+            schema.replaceDeEn(vocabulary(vocabSize, "en"));
+            schema.replaceDeFr(vocabulary(vocabSize, "fr"));
+        }
+        seedHistory(dbPath, vocabSize, attemptRows, rewardDensity, players);
+        return new SyntheticDatabase(directory, new SQLiteStore(dbPath), List.copyOf(players));
+    }
+
+    static List<SQLiteStore.VocabEntry> vocabulary(int size, String language) {
+        List<SQLiteStore.VocabEntry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new SQLiteStore.VocabEntry(word(i), language + "-" + i));
+        }
+        return entries;
+    }
+
+    static String word(int index) {
+        return "wort" + index;
+    }
+
+    SQLiteStore store() {
+        return store;
+    }
+
+    List<String> players() {
+        return players;
+    }
+
+    private static void seedHistory(Path dbPath, int vocabSize, int attemptRows, double rewardDensity,
+                                    List<String> players) throws SQLException {
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] tables = {"de_en", "de_fr"};
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + dbPath.toAbsolutePath())) {
+            try (Statement pragmas = connection.createStatement()) {
+                pragmas.execute("PRAGMA synchronous = OFF");
+                pragmas.execute("PRAGMA journal_mode = MEMORY");
+            }
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO vocab_attempts (username, vocab_table, de_word, correct) VALUES (?, ?, ?, ?)")) {
+                for (int row = 0; row < attemptRows; row++) {
+                    insert.setString(1, players.get(random.nextInt(players.size())));
+                    insert.setString(2, tables[random.nextInt(tables.length)]);
+                    insert.setString(3, word(random.nextInt(vocabSize)));
+                    insert.setInt(4, random.nextInt(3) == 0 ? 0 : 1);
+                    insert.addBatch();
+                    if ((row + 1) % BATCH_ROWS == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO player_vocab_rewards (username, vocab_table, de_word) VALUES (?, ?, ?)")) {
+                int pending = 0;
+                for (String player : players) {
+                    for (String table : tables) {
+                        for (int word = 0; word < vocabSize; word++) {
+                            if (random.nextDouble() >= rewardDensity) {
+                                continue;
+                            }
+                            insert.setString(1, player);
+                            insert.setString(2, table);
+                            insert.setString(3, word(word));
+                            insert.addBatch();
+                            if (++pending % BATCH_ROWS == 0) {
+                                insert.executeBatch();
+                            }
+                        }
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    @Override
+    public void close() throws IOException, SQLException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
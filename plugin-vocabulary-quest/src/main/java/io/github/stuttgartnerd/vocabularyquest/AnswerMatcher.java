@@ -0,0 +1,170 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+final class AnswerMatcher {
+    private static final Pattern ALTERNATIVE_SEPARATOR = Pattern.compile("[/;]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final List<String> EN_ARTICLES = List.of("the ", "an ", "a ");
+    private static final List<String> FR_ARTICLES = List.of("les ", "le ", "la ", "l'", "l ", "une ", "un ", "des ");
+    private static final MyersPattern[] NO_PATTERNS = new MyersPattern[0];
+
+    private final List<String> articles;
+    private final Set<String> accepted;
+    private final MyersPattern[] fuzzyPatterns;
+    private final int[] fuzzyMaxEdits;
+
+    record TypoTolerance(int maxEdits, int charsPerEdit) {
+        static final TypoTolerance NONE = new TypoTolerance(0, 0);
+
+        int allowedEdits(int answerLength) {
+            if (maxEdits <= 0 || charsPerEdit <= 0) {
+                return 0;
+            }
+            return Math.min(maxEdits, answerLength / charsPerEdit);
+        }
+    }
+
+    private AnswerMatcher(List<String> articles, Set<String> accepted, TypoTolerance tolerance) {
+        this.articles = articles;
+        this.accepted = Set.copyOf(accepted);
+
+        List<MyersPattern> patterns = new ArrayList<>();
+        List<Integer> maxEdits = new ArrayList<>();
+        for (String answer : this.accepted) {
+            int allowed = tolerance.allowedEdits(answer.length());
+            if (allowed > 0 && MyersPattern.supports(answer)) {
+                patterns.add(MyersPattern.compile(answer));
+                maxEdits.add(allowed);
+            }
+        }
+        this.fuzzyPatterns = patterns.toArray(NO_PATTERNS);
+        this.fuzzyMaxEdits = maxEdits.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    static AnswerMatcher compile(String vocabTable, String answerCell) {
+        return compile(vocabTable, answerCell, TypoTolerance.NONE);
+    }
+
+    static AnswerMatcher compile(String vocabTable, String answerCell, TypoTolerance tolerance) {
+        List<String> articles = articlesFor(vocabTable);
+        Set<String> accepted = new HashSet<>();
+        if (answerCell != null) {
+            for (String alternative : ALTERNATIVE_SEPARATOR.split(answerCell)) {
+                String nfkc = Normalizer.normalize(alternative, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+                addIfPresent(accepted, stripArticle(canonical(foldUmlauts(nfkc)), articles));
+                // Also accept the umlaut written as its base letter (haus for "häus").
+                addIfPresent(accepted, stripArticle(canonical(nfkc), articles));
+            }
+        }
+        return new AnswerMatcher(articles, accepted, tolerance == null ? TypoTolerance.NONE : tolerance);
+    }
+
+    boolean matches(String submitted) {
+        if (submitted == null) {
+            return false;
+        }
+
+        String nfkc = Normalizer.normalize(submitted, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        String normalized = stripArticle(canonical(foldUmlauts(nfkc)), articles);
+        if (accepted.contains(normalized)) {
+            return true;
+        }
+        if (normalized.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < fuzzyPatterns.length; i++) {
+            if (fuzzyPatterns[i].distance(normalized, fuzzyMaxEdits[i]) <= fuzzyMaxEdits[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Set<String> acceptedAnswers() {
+        return accepted;
+    }
+
+    private static List<String> articlesFor(String vocabTable) {
+        if (vocabTable == null) {
+            return List.of();
+        }
+        if (vocabTable.endsWith("en")) {
+            return EN_ARTICLES;
+        }
+        if (vocabTable.endsWith("fr")) {
+            return FR_ARTICLES;
+        }
+        return List.of();
+    }
+
+    private static String foldUmlauts(String value) {
+        if (!hasFoldableCharacter(value)) {
+            return value;
+        }
+
+        StringBuilder builder = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case 'ä' -> builder.append("ae");
+                case 'ö' -> builder.append("oe");
+                case 'ü' -> builder.append("ue");
+                case 'ß' -> builder.append("ss");
+                default -> builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean hasFoldableCharacter(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == 'ä' || c == 'ö' || c == 'ü' || c == 'ß') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String canonical(String value) {
+        String folded = value;
+        if (!isAscii(folded)) {
+            folded = COMBINING_MARKS.matcher(Normalizer.normalize(folded, Normalizer.Form.NFD)).replaceAll("");
+            folded = folded.replace('’', '\'');
+        }
+        return WHITESPACE.matcher(folded.trim()).replaceAll(" ");
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String stripArticle(String value, List<String> articles) {
+        for (String article : articles) {
+            if (value.length() > article.length() && value.startsWith(article)) {
+                return value.substring(article.length()).trim();
+            }
+        }
+        return value;
+    }
+
+    private static void addIfPresent(Set<String> accepted, String value) {
+        if (!value.isEmpty()) {
+            accepted.add(value);
+        }
+    }
+}
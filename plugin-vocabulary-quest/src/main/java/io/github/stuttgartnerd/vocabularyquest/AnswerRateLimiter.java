@@ -0,0 +1,130 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Token bucket per player, keyed by the two longs of the player UUID in an open-addressing table
+ * (linear probing). Buckets refill lazily on access, so tryAcquire does no allocation once a player's
+ * slot exists. Buckets are not removed when a player leaves, so relogging does not refill them; a bucket
+ * left idle for its refill horizon is full again anyway and is dropped when the table would grow.
+ */
+final class AnswerRateLimiter {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double burst;
+    private final double refillPerNano;
+    private final long refillHorizonNanos;
+    private final AtomicLong throttled = new AtomicLong();
+
+    private long[] mostSignificant;
+    private long[] leastSignificant;
+    private double[] tokens;
+    private long[] lastRefillNanos;
+    private boolean[] used;
+    private int size;
+
+    AnswerRateLimiter(int burst, double refillPerSecond) {
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1");
+        }
+        if (refillPerSecond <= 0d) {
+            throw new IllegalArgumentException("refillPerSecond must be positive");
+        }
+
+        this.burst = burst;
+        this.refillPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.refillHorizonNanos = (long) Math.ceil(burst / refillPerNano);
+        allocate(INITIAL_CAPACITY);
+    }
+
+    synchronized boolean tryAcquire(UUID playerId, long nowNanos) {
+        long msb = playerId.getMostSignificantBits();
+        long lsb = playerId.getLeastSignificantBits();
+        int slot = findSlot(msb, lsb);
+        if (!used[slot]) {
+            if ((size + 1) * 2 > used.length) {
+                // Grow unless dropping idle buckets freed half the table, so purges stay amortized O(1).
+                rehash(used.length, nowNanos, true);
+                if ((size + 1) * 4 > used.length) {
+                    rehash(used.length * 2, nowNanos, false);
+                }
+                slot = findSlot(msb, lsb);
+            }
+            used[slot] = true;
+            mostSignificant[slot] = msb;
+            leastSignificant[slot] = lsb;
+            tokens[slot] = burst;
+            lastRefillNanos[slot] = nowNanos;
+            size++;
+        } else {
+            long elapsed = nowNanos - lastRefillNanos[slot];
+            if (elapsed > 0L) {
+                tokens[slot] = Math.min(burst, tokens[slot] + elapsed * refillPerNano);
+                lastRefillNanos[slot] = nowNanos;
+            }
+        }
+
+        if (tokens[slot] >= 1d) {
+            tokens[slot] -= 1d;
+            return true;
+        }
+
+        throttled.incrementAndGet();
+        return false;
+    }
+
+    synchronized int trackedPlayers() {
+        return size;
+    }
+
+    long throttledCount() {
+        return throttled.get();
+    }
+
+    private int findSlot(long msb, long lsb) {
+        int mask = used.length - 1;
+        int slot = home(msb, lsb, mask);
+        while (used[slot] && (mostSignificant[slot] != msb || leastSignificant[slot] != lsb)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int home(long msb, long lsb, int mask) {
+        long mixed = (msb ^ Long.rotateLeft(lsb, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> 32) & mask;
+    }
+
+    private void allocate(int capacity) {
+        mostSignificant = new long[capacity];
+        leastSignificant = new long[capacity];
+        tokens = new double[capacity];
+        lastRefillNanos = new long[capacity];
+        used = new boolean[capacity];
+        size = 0;
+    }
+
+    private void rehash(int capacity, long nowNanos, boolean dropIdle) {
+        long[] oldMost = mostSignificant;
+        long[] oldLeast = leastSignificant;
+        double[] oldTokens = tokens;
+        long[] oldRefill = lastRefillNanos;
+        boolean[] oldUsed = used;
+
+        allocate(capacity);
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (!oldUsed[i] || dropIdle && nowNanos - oldRefill[i] >= refillHorizonNanos) {
+                continue;
+            }
+            int slot = findSlot(oldMost[i], oldLeast[i]);
+            used[slot] = true;
+            mostSignificant[slot] = oldMost[i];
+            leastSignificant[slot] = oldLeast[i];
+            tokens[slot] = oldTokens[i];
+            lastRefillNanos[slot] = oldRefill[i];
+            size++;
+        }
+    }
+}
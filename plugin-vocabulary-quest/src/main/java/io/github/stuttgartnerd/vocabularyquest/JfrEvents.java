@@ -0,0 +1,176 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/*
+ * Flight Recorder events for plugin operations. All of them are disabled by default, so an ordinary
+ * recording pays nothing for them; the bundled vocabularyquest.jfc (copied to the plugin folder on
+ * startup) turns them on. Fields are only filled after shouldCommit() so disabled events stay cheap.
+ */
+final class JfrEvents {
+    static final String SETTINGS_RESOURCE = "vocabularyquest.jfc";
+    private static final String CATEGORY = "Vocabulary Quest";
+
+    private JfrEvents() {
+    }
+
+    @Name("vocabularyquest.SqlOperation")
+    @Label("SQLite Operation")
+    @Description("One SQLiteStore call, committed when it returns; the duration excludes the wait for the store lock")
+    @Category({CATEGORY, "SQLite"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class SqlOperation extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Table")
+        String table;
+
+        @Label("Rows")
+        @Description("Rows returned or changed, -1 if the operation does not report a count")
+        int rows;
+    }
+
+    @Name("vocabularyquest.QuestSelection")
+    @Label("Quest Selection")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    static final class QuestSelection extends Event {
+        @Label("Strategy")
+        String strategy;
+
+        @Label("Players")
+        int players;
+
+        @Label("Vocabulary Tables")
+        String vocabTables;
+
+        @Label("Selected Table")
+        String vocabTable;
+
+        @Label("Selected Word")
+        String deWord;
+    }
+
+    @Name("vocabularyquest.QuestStarted")
+    @Label("Quest Started")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    static final class QuestStarted extends Event {
+        @Label("Channel")
+        String channel;
+
+        @Label("Vocabulary Table")
+        String vocabTable;
+
+        @Label("Word")
+        String deWord;
+
+        @Label("Eligible Players")
+        int eligiblePlayers;
+    }
+
+    @Name("vocabularyquest.QuestFinished")
+    @Label("Quest Finished")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    static final class QuestFinished extends Event {
+        @Label("Channel")
+        String channel;
+
+        @Label("Vocabulary Table")
+        String vocabTable;
+
+        @Label("Word")
+        String deWord;
+
+        @Label("Outcome")
+        String outcome;
+
+        @Label("Winner")
+        String winner;
+    }
+
+    @Name("vocabularyquest.AnswerEvaluation")
+    @Label("Answer Evaluation")
+    @Description("Matching one submitted answer against a quest solution")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    static final class AnswerEvaluation extends Event {
+        @Label("Vocabulary Table")
+        String vocabTable;
+
+        @Label("Word")
+        String deWord;
+
+        @Label("Answer Length")
+        int answerLength;
+
+        @Label("Correct")
+        boolean correct;
+    }
+
+    @Name("vocabularyquest.ImportPhase")
+    @Label("Vocabulary Import Phase")
+    @Category({CATEGORY, "Import"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class ImportPhase extends Event {
+        @Label("Source")
+        @Description("file or sheet")
+        String source;
+
+        @Label("Language")
+        String language;
+
+        @Label("Phase")
+        String phase;
+
+        @Label("Rows")
+        int rows;
+    }
+
+    @Name("vocabularyquest.PlaytimeTick")
+    @Label("Playtime Tick")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    static final class PlaytimeTick extends Event {
+        @Label("Players")
+        int players;
+    }
+
+    static void questStarted(String channel, String vocabTable, String deWord, int eligiblePlayers) {
+        QuestStarted event = new QuestStarted();
+        if (event.shouldCommit()) {
+            event.channel = channel;
+            event.vocabTable = vocabTable;
+            event.deWord = deWord;
+            event.eligiblePlayers = eligiblePlayers;
+            event.commit();
+        }
+    }
+
+    static void questFinished(String channel, String vocabTable, String deWord, String outcome, String winner) {
+        QuestFinished event = new QuestFinished();
+        if (event.shouldCommit()) {
+            event.channel = channel;
+            event.vocabTable = vocabTable;
+            event.deWord = deWord;
+            event.outcome = outcome;
+            event.winner = winner;
+            event.commit();
+        }
+    }
+}
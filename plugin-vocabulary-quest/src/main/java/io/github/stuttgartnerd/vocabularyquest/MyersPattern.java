@@ -0,0 +1,129 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import java.util.Arrays;
+
+/*
+ * Bit-parallel global edit distance (Myers 1999, Hyyro's edit-distance variant) against one
+ * precompiled pattern of at most 64 chars. The per-char match masks are built once, so a
+ * check is one pass over the submitted text with a handful of long operations per char.
+ */
+final class MyersPattern {
+    static final int MAX_LENGTH = Long.SIZE;
+
+    private static final int ASCII_LIMIT = 128;
+
+    private final int length;
+    private final long lastBit;
+    private final long[] asciiMasks;
+    private final char[] otherChars;
+    private final long[] otherMasks;
+
+    private MyersPattern(int length, long[] asciiMasks, char[] otherChars, long[] otherMasks) {
+        this.length = length;
+        this.lastBit = length == 0 ? 0L : 1L << (length - 1);
+        this.asciiMasks = asciiMasks;
+        this.otherChars = otherChars;
+        this.otherMasks = otherMasks;
+    }
+
+    static boolean supports(String pattern) {
+        return pattern.length() <= MAX_LENGTH;
+    }
+
+    static MyersPattern compile(String pattern) {
+        int length = pattern.length();
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Pattern longer than " + MAX_LENGTH + " chars: " + length);
+        }
+
+        long[] asciiMasks = new long[ASCII_LIMIT];
+        char[] otherChars = new char[0];
+        long[] otherMasks = new long[0];
+        for (int i = 0; i < length; i++) {
+            char c = pattern.charAt(i);
+            if (c < ASCII_LIMIT) {
+                asciiMasks[c] |= 1L << i;
+                continue;
+            }
+
+            int slot = Arrays.binarySearch(otherChars, c);
+            if (slot < 0) {
+                slot = -slot - 1;
+                otherChars = insert(otherChars, slot, c);
+                otherMasks = insert(otherMasks, slot);
+            }
+            otherMasks[slot] |= 1L << i;
+        }
+
+        return new MyersPattern(length, asciiMasks, otherChars, otherMasks);
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * Returns the edit distance to {@code text}, or {@code maxDistance + 1} once it is clear the
+     * distance exceeds {@code maxDistance}.
+     */
+    int distance(CharSequence text, int maxDistance) {
+        int textLength = text.length();
+        if (Math.abs(textLength - length) > maxDistance) {
+            return maxDistance + 1;
+        }
+        if (length == 0) {
+            return textLength;
+        }
+
+        long pv = lastBit | (lastBit - 1);
+        long mv = 0L;
+        int score = length;
+        for (int j = 0; j < textLength; j++) {
+            long eq = maskFor(text.charAt(j));
+            long xv = eq | mv;
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+            if ((ph & lastBit) != 0) {
+                score++;
+            } else if ((mh & lastBit) != 0) {
+                score--;
+            }
+
+            // The last column can drop by at most one per remaining char.
+            if (score - (textLength - j - 1) > maxDistance) {
+                return maxDistance + 1;
+            }
+
+            ph = (ph << 1) | 1L;
+            mh <<= 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+        }
+
+        return Math.min(score, maxDistance + 1);
+    }
+
+    private long maskFor(char c) {
+        if (c < ASCII_LIMIT) {
+            return asciiMasks[c];
+        }
+        int slot = Arrays.binarySearch(otherChars, c);
+        return slot >= 0 ? otherMasks[slot] : 0L;
+    }
+
+    private static char[] insert(char[] values, int slot, char value) {
+        char[] grown = new char[values.length + 1];
+        System.arraycopy(values, 0, grown, 0, slot);
+        grown[slot] = value;
+        System.arraycopy(values, slot, grown, slot + 1, values.length - slot);
+        return grown;
+    }
+
+    private static long[] insert(long[] values, int slot) {
+        long[] grown = new long[values.length + 1];
+        System.arraycopy(values, 0, grown, 0, slot);
+        System.arraycopy(values, slot, grown, slot + 1, values.length - slot);
+        return grown;
+    }
+}
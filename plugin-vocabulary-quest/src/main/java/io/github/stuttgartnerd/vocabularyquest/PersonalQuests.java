@@ -0,0 +1,142 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * On-demand quests, at most one per player. Open quests live in a concurrent map keyed by player id;
+ * their deadlines sit in one min-heap so a single periodic sweep only touches quests that are actually
+ * overdue. Heap entries whose quest was already answered or cancelled are dropped lazily when they
+ * reach the head. The last finished quest per player is kept for the /quest cooldown, and a failed one
+ * (timed out, out of attempts or abandoned by quitting) tells the next pick which word to leave out.
+ * Finishes are queued in time order, so the sweep drops the ones past their retention the same way.
+ */
+final class PersonalQuests<Q> {
+    record Entry<Q>(UUID playerId, Q quest, long deadlineMillis) {
+    }
+
+    record Finished<Q>(Q quest, long finishedAtMillis, boolean failed) {
+    }
+
+    private record FinishedEntry<Q>(UUID playerId, Finished<Q> finished) {
+    }
+
+    private final ConcurrentHashMap<UUID, Entry<Q>> open = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Integer> misses = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Finished<Q>> finished = new ConcurrentHashMap<>();
+    private final PriorityQueue<Entry<Q>> deadlines =
+            new PriorityQueue<>((a, b) -> Long.compare(a.deadlineMillis(), b.deadlineMillis()));
+    private final ArrayDeque<FinishedEntry<Q>> finishOrder = new ArrayDeque<>();
+
+    // False if the player already has an open personal quest.
+    boolean start(UUID playerId, Q quest, long deadlineMillis) {
+        Entry<Q> entry = new Entry<>(playerId, quest, deadlineMillis);
+        if (open.putIfAbsent(playerId, entry) != null) {
+            return false;
+        }
+        misses.remove(playerId);
+        synchronized (deadlines) {
+            deadlines.add(entry);
+        }
+        return true;
+    }
+
+    Q current(UUID playerId) {
+        Entry<Q> entry = open.get(playerId);
+        return entry == null ? null : entry.quest();
+    }
+
+    // Only the caller that removes the quest gets true, so a quest is answered or expired exactly once.
+    boolean complete(UUID playerId, Q quest, long nowMillis) {
+        return finish(playerId, quest, nowMillis, false);
+    }
+
+    // Ends the quest as failed, e.g. when the player ran out of attempts.
+    boolean fail(UUID playerId, Q quest, long nowMillis) {
+        return finish(playerId, quest, nowMillis, true);
+    }
+
+    // Wrong answers so far for this quest, or -1 if it is no longer the player's open quest.
+    int miss(UUID playerId, Q quest) {
+        Entry<Q> entry = open.get(playerId);
+        if (entry == null || entry.quest() != quest) {
+            return -1;
+        }
+        return misses.merge(playerId, 1, Integer::sum);
+    }
+
+    Finished<Q> lastFinished(UUID playerId) {
+        return finished.get(playerId);
+    }
+
+    // Abandoning a quest counts as failing it, so quitting and rejoining neither skips the cooldown
+    // nor gets the revealed word again.
+    void cancel(UUID playerId, long nowMillis) {
+        Entry<Q> entry = open.remove(playerId);
+        if (entry != null) {
+            misses.remove(playerId);
+            recordFinished(playerId, new Finished<>(entry.quest(), nowMillis, true));
+        }
+    }
+
+    // Also forgets finishes older than keepFinishedMillis.
+    List<Entry<Q>> expire(long nowMillis, long keepFinishedMillis) {
+        List<Entry<Q>> expired = new ArrayList<>();
+        synchronized (deadlines) {
+            while (!deadlines.isEmpty() && deadlines.peek().deadlineMillis() <= nowMillis) {
+                Entry<Q> entry = deadlines.poll();
+                if (open.remove(entry.playerId(), entry)) {
+                    misses.remove(entry.playerId());
+                    recordFinished(entry.playerId(), new Finished<>(entry.quest(), nowMillis, true));
+                    expired.add(entry);
+                }
+            }
+        }
+        synchronized (finishOrder) {
+            while (!finishOrder.isEmpty()
+                    && nowMillis - finishOrder.peek().finished().finishedAtMillis() >= keepFinishedMillis) {
+                FinishedEntry<Q> oldest = finishOrder.poll();
+                finished.remove(oldest.playerId(), oldest.finished());
+            }
+        }
+        return expired;
+    }
+
+
+    int size() {
+        return open.size();
+    }
+
+    void clear() {
+        open.clear();
+        misses.clear();
+        finished.clear();
+        synchronized (deadlines) {
+            deadlines.clear();
+        }
+        synchronized (finishOrder) {
+            finishOrder.clear();
+        }
+    }
+
+    private boolean finish(UUID playerId, Q quest, long nowMillis, boolean failed) {
+        Entry<Q> entry = open.get(playerId);
+        if (entry == null || entry.quest() != quest || !open.remove(playerId, entry)) {
+            return false;
+        }
+        misses.remove(playerId);
+        recordFinished(playerId, new Finished<>(quest, nowMillis, failed));
+        return true;
+    }
+
+    private void recordFinished(UUID playerId, Finished<Q> last) {
+        synchronized (finishOrder) {
+            finished.put(playerId, last);
+            finishOrder.add(new FinishedEntry<>(playerId, last));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/*
+ * Counters, gauges and latency histograms for /vqstats. Recording is a map lookup on a constant name
+ * plus a few atomic adds, so it can sit on hot paths. Histograms use HDR-style log-linear buckets:
+ * values below 32ns are exact, above that every power of two is split into 16 sub-buckets, which bounds
+ * the relative error of reported percentiles to about 6%.
+ */
+final class PluginMetrics {
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private volatile long resetAtNanos;
+
+    PluginMetrics() {
+        this(System::nanoTime);
+    }
+
+    PluginMetrics(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.resetAtNanos = nanoClock.getAsLong();
+    }
+
+    long nanoTime() {
+        return nanoClock.getAsLong();
+    }
+
+    void increment(String name) {
+        counters.computeIfAbsent(name, ignored -> new LongAdder()).increment();
+    }
+
+    void add(String name, long delta) {
+        counters.computeIfAbsent(name, ignored -> new LongAdder()).add(delta);
+    }
+
+    long counter(String name) {
+        LongAdder counter = counters.get(name);
+        return counter == null ? 0L : counter.sum();
+    }
+
+    void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    LatencyHistogram timer(String name) {
+        return timers.computeIfAbsent(name, ignored -> new LatencyHistogram());
+    }
+
+    void recordSince(String name, long startedNanos) {
+        timer(name).record(nanoClock.getAsLong() - startedNanos);
+    }
+
+    void reset() {
+        counters.values().forEach(LongAdder::reset);
+        timers.values().forEach(LatencyHistogram::reset);
+        resetAtNanos = nanoClock.getAsLong();
+    }
+
+    SortedMap<String, LatencyHistogram> timers() {
+        return new TreeMap<>(timers);
+    }
+
+    SortedMap<String, Long> counterValues() {
+        SortedMap<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        return values;
+    }
+
+    SortedMap<String, Long> gaugeValues() {
+        SortedMap<String, Long> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        return values;
+    }
+
+    // One line per metric, sorted by name; rates are per second since the last reset.
+    List<String> report() {
+        double seconds = Math.max(1e-9d, (nanoClock.getAsLong() - resetAtNanos) / 1_000_000_000d);
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "window=%.1fs", seconds));
+
+        for (Map.Entry<String, LatencyHistogram> entry : timers().entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            long count = histogram.count();
+            if (count == 0L) {
+                continue;
+            }
+            lines.add(String.format(Locale.ROOT, "%s n=%d rate=%.2f/s p50=%s p99=%s max=%s",
+                    entry.getKey(), count, count / seconds, formatNanos(histogram.percentile(50d)),
+                    formatNanos(histogram.percentile(99d)), formatNanos(histogram.max())));
+        }
+        for (Map.Entry<String, Long> entry : counterValues().entrySet()) {
+            long value = entry.getValue();
+            lines.add(String.format(Locale.ROOT, "%s count=%d rate=%.2f/s", entry.getKey(), value, value / seconds));
+        }
+        for (Map.Entry<String, Long> entry : gaugeValues().entrySet()) {
+            lines.add(entry.getKey() + " value=" + entry.getValue());
+        }
+        return lines;
+    }
+
+    static String formatNanos(long nanos) {
+        if (nanos < 1_000L) {
+            return nanos + "ns";
+        }
+        if (nanos < 1_000_000L) {
+            return String.format(Locale.ROOT, "%.1fus", nanos / 1_000d);
+        }
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000d);
+    }
+
+    static final class LatencyHistogram {
+        private static final int SUB_BUCKET_BITS = 4;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int EXACT_LIMIT = SUB_BUCKETS * 2;
+        private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long nanos) {
+            long value = Math.max(0L, nanos);
+            counts.incrementAndGet(bucketIndex(value));
+            count.increment();
+            totalNanos.add(value);
+            long currentMax = max.get();
+            while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+                currentMax = max.get();
+            }
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        long max() {
+            return max.get();
+        }
+
+        long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        // Upper bound of the bucket holding the given percentile, capped at the recorded maximum.
+        long percentile(double percentile) {
+            long total = count();
+            if (total == 0L) {
+                return 0L;
+            }
+
+            long rank = Math.max(1L, (long) Math.ceil(total * percentile / 100d));
+            long seen = 0L;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts.get(i);
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), max());
+                }
+            }
+            return max();
+        }
+
+        void reset() {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts.set(i, 0L);
+            }
+            count.reset();
+            totalNanos.reset();
+            max.set(0L);
+        }
+
+        static int bucketIndex(long value) {
+            if (value < EXACT_LIMIT) {
+                return (int) value;
+            }
+            int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+            return shift * SUB_BUCKETS + (int) (value >>> shift);
+        }
+
+        static long bucketUpperBound(int index) {
+            if (index < EXACT_LIMIT) {
+                return index;
+            }
+            int shift = index / SUB_BUCKETS - 1;
+            long top = index % SUB_BUCKETS + SUB_BUCKETS;
+            long upper = ((top + 1) << shift) - 1;
+            return upper < 0L ? Long.MAX_VALUE : upper;
+        }
+    }
+}
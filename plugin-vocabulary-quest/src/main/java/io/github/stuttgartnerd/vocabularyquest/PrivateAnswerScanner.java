@@ -0,0 +1,79 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+// Runs for every player command, so non-matching input is rejected without allocating.
+final class PrivateAnswerScanner {
+    private static final String[] COMMANDS = {"msg", "tell", "w"};
+    private static final String[] TARGETS = {"jenkins", "vocabularyquest", "vocabularyquestplugin"};
+
+    private PrivateAnswerScanner() {
+    }
+
+    /**
+     * Returns the answer of {@code /msg|tell|w jenkins <answer>} (empty if no answer was given), or
+     * {@code null} if the message is any other command.
+     */
+    static String extractAnswer(String message) {
+        if (message == null || message.isEmpty() || message.charAt(0) != '/') {
+            return null;
+        }
+
+        int length = message.length();
+        int commandStart = skipWhitespace(message, 1, length);
+        if (commandStart == length) {
+            return null;
+        }
+
+        char first = message.charAt(commandStart);
+        if (first != 'm' && first != 'M' && first != 't' && first != 'T' && first != 'w' && first != 'W') {
+            return null;
+        }
+
+        int commandEnd = skipToken(message, commandStart, length);
+        if (!matchesAny(message, commandStart, commandEnd, COMMANDS)) {
+            return null;
+        }
+
+        int targetStart = skipWhitespace(message, commandEnd, length);
+        if (targetStart == length) {
+            return null;
+        }
+
+        int targetEnd = skipToken(message, targetStart, length);
+        if (!matchesAny(message, targetStart, targetEnd, TARGETS)) {
+            return null;
+        }
+
+        int answerStart = skipWhitespace(message, targetEnd, length);
+        int answerEnd = length;
+        while (answerEnd > answerStart && message.charAt(answerEnd - 1) <= ' ') {
+            answerEnd--;
+        }
+        return message.substring(answerStart, answerEnd);
+    }
+
+    private static int skipWhitespace(String message, int from, int length) {
+        int i = from;
+        while (i < length && message.charAt(i) <= ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipToken(String message, int from, int length) {
+        int i = from;
+        while (i < length && message.charAt(i) > ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean matchesAny(String message, int start, int end, String[] candidates) {
+        int tokenLength = end - start;
+        for (String candidate : candidates) {
+            if (candidate.length() == tokenLength && message.regionMatches(true, start, candidate, 0, tokenLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,196 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/*
+ * Serves PluginMetrics in the Prometheus text format on GET /metrics. A metric named "family.member"
+ * whose family has a label key below becomes one series of that family (sqlite.recordAttempt ->
+ * vocabquest_sqlite_duration_seconds{operation="recordAttempt"}); every other name is exported flat.
+ * Timers are summaries with p50/p99 quantiles plus a separate max gauge. The values are the ones
+ * /vqstats shows, so `/vqstats reset` looks like a counter reset to the scraper.
+ */
+final class PrometheusExporter implements AutoCloseable {
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String PREFIX = "vocabquest_";
+    private static final Map<String, String> LABEL_KEYS = Map.of(
+            "sqlite", "operation",
+            "answers", "outcome",
+            "quests", "event",
+            "import", "source",
+            "import_rows", "change",
+            "deferred", "work",
+            "deferred_forced", "work"
+    );
+
+    private final PluginMetrics metrics;
+    private final Logger logger;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    PrometheusExporter(PluginMetrics metrics, Logger logger) {
+        this.metrics = metrics;
+        this.logger = logger;
+    }
+
+    void start(String bindAddress, int port) throws IOException {
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress(bindAddress, port), 0);
+        httpServer.createContext("/metrics", this::handle);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "VocabularyQuest-Metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpServer.setExecutor(executor);
+        httpServer.start();
+        server = httpServer;
+    }
+
+    int port() {
+        return server == null ? -1 : server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().add("Allow", "GET");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body;
+            try {
+                body = render(metrics).getBytes(StandardCharsets.UTF_8);
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Failed to render metrics.", e);
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    static String render(PluginMetrics metrics) {
+        Map<String, Family> families = new LinkedHashMap<>();
+
+        for (Map.Entry<String, PluginMetrics.LatencyHistogram> entry : metrics.timers().entrySet()) {
+            PluginMetrics.LatencyHistogram histogram = entry.getValue();
+            long count = histogram.count();
+            Series series = Series.of(entry.getKey());
+            String name = PREFIX + series.family() + "_duration_seconds";
+            Family summary = families.computeIfAbsent(name, ignored -> new Family(name, "summary"));
+            summary.add(name, series.label("quantile", "0.5"), seconds(count == 0L ? 0L : histogram.percentile(50d)));
+            summary.add(name, series.label("quantile", "0.99"), seconds(count == 0L ? 0L : histogram.percentile(99d)));
+            summary.add(name + "_sum", series.labels(), seconds(histogram.totalNanos()));
+            summary.add(name + "_count", series.labels(), Long.toString(count));
+
+            String maxName = PREFIX + series.family() + "_duration_max_seconds";
+            families.computeIfAbsent(maxName, ignored -> new Family(maxName, "gauge"))
+                    .add(maxName, series.labels(), seconds(histogram.max()));
+        }
+
+        for (Map.Entry<String, Long> entry : metrics.counterValues().entrySet()) {
+            Series series = Series.of(entry.getKey());
+            String name = PREFIX + series.family() + "_total";
+            families.computeIfAbsent(name, ignored -> new Family(name, "counter"))
+                    .add(name, series.labels(), Long.toString(entry.getValue()));
+        }
+
+        for (Map.Entry<String, Long> entry : metrics.gaugeValues().entrySet()) {
+            String name = PREFIX + sanitize(entry.getKey());
+            families.computeIfAbsent(name, ignored -> new Family(name, "gauge"))
+                    .add(name, "", Long.toString(entry.getValue()));
+        }
+
+        StringBuilder out = new StringBuilder(4096);
+        for (Family family : families.values()) {
+            out.append("# TYPE ").append(family.name()).append(' ').append(family.type()).append('\n');
+            for (String line : family.lines()) {
+                out.append(line).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    private static String seconds(long nanos) {
+        return Double.toString(nanos / 1_000_000_000d);
+    }
+
+    static String sanitize(String name) {
+        StringBuilder sanitized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+            sanitized.append(valid ? c : '_');
+        }
+        return sanitized.toString();
+    }
+
+    private static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private record Family(String name, String type, List<String> lines) {
+        Family(String name, String type) {
+            this(name, type, new ArrayList<>());
+        }
+
+        void add(String sample, String labels, String value) {
+            lines.add(sample + labels + ' ' + value);
+        }
+    }
+
+    private record Series(String family, String labelKey, String labelValue) {
+        static Series of(String metricName) {
+            int dot = metricName.indexOf('.');
+            if (dot > 0) {
+                String family = metricName.substring(0, dot);
+                String labelKey = LABEL_KEYS.get(family);
+                if (labelKey != null) {
+                    return new Series(family, labelKey, metricName.substring(dot + 1));
+                }
+            }
+            return new Series(sanitize(metricName), null, null);
+        }
+
+        String labels() {
+            return labelKey == null ? "" : "{" + labelKey + "=\"" + escapeLabelValue(labelValue) + "\"}";
+        }
+
+        String label(String key, String value) {
+            String extra = key + "=\"" + value + "\"";
+            return labelKey == null
+                    ? "{" + extra + "}"
+                    : "{" + labelKey + "=\"" + escapeLabelValue(labelValue) + "\"," + extra + "}";
+        }
+    }
+}
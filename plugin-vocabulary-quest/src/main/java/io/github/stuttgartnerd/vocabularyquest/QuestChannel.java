@@ -0,0 +1,151 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/*
+ * One independent stream of global quests: its own vocabulary tables, its own worlds (none means every
+ * world), its own timer and its own active quest. Without a quest_channels section there is a single
+ * default channel over all worlds and both languages, which is the classic one-quest-at-a-time mode.
+ */
+final class QuestChannel<Q> {
+    static final String DEFAULT_NAME = "default";
+
+    private final String name;
+    private final List<String> vocabTables;
+    private final Set<String> worlds;
+    private final QuestLifecycle<Q> lifecycle = new QuestLifecycle<>();
+    private BukkitTask scheduledTask;
+    private BukkitTask timeoutTask;
+    private long timerFiredNanos = -1L;
+
+    QuestChannel(String name, List<String> vocabTables, Set<String> worlds) {
+        this.name = name;
+        this.vocabTables = List.copyOf(vocabTables);
+        this.worlds = Set.copyOf(worlds);
+    }
+
+    static <Q> List<QuestChannel<Q>> fromConfig(ConfigurationSection section, Logger logger) {
+        List<QuestChannel<Q>> channels = new ArrayList<>();
+        if (section != null) {
+            for (String channelName : section.getKeys(false)) {
+                ConfigurationSection channelSection = section.getConfigurationSection(channelName);
+                if (channelSection == null) {
+                    logger.warning("Ignoring quest channel '" + channelName + "': expected a section.");
+                    continue;
+                }
+
+                List<String> tables = new ArrayList<>();
+                for (String language : channelSection.getStringList("languages")) {
+                    String table = vocabTableForLanguage(language);
+                    if (table == null) {
+                        logger.warning("Ignoring unknown language '" + language + "' in quest channel '"
+                                + channelName + "'.");
+                    } else if (!tables.contains(table)) {
+                        tables.add(table);
+                    }
+                }
+                if (tables.isEmpty()) {
+                    tables.addAll(SQLiteStore.VOCAB_TABLES);
+                }
+                channels.add(new QuestChannel<>(channelName, tables,
+                        new LinkedHashSet<>(channelSection.getStringList("worlds"))));
+            }
+        }
+
+        if (channels.isEmpty()) {
+            channels.add(new QuestChannel<>(DEFAULT_NAME, SQLiteStore.VOCAB_TABLES, Set.of()));
+        }
+        return channels;
+    }
+
+    private static String vocabTableForLanguage(String language) {
+        String normalized = language == null ? "" : language.trim().toLowerCase(Locale.ROOT);
+        if ("en".equals(normalized)) {
+            return "de_en";
+        }
+        if ("fr".equals(normalized)) {
+            return "de_fr";
+        }
+        return null;
+    }
+
+    String name() {
+        return name;
+    }
+
+    List<String> vocabTables() {
+        return vocabTables;
+    }
+
+    boolean coversAllWorlds() {
+        return worlds.isEmpty();
+    }
+
+    boolean includesWorld(String worldName) {
+        return worlds.isEmpty() || worlds.contains(worldName);
+    }
+
+    boolean includes(Player player) {
+        if (worlds.isEmpty()) {
+            return true;
+        }
+        World world = player.getWorld();
+        return world != null && includesWorld(world.getName());
+    }
+
+    QuestLifecycle<Q> lifecycle() {
+        return lifecycle;
+    }
+
+    void replaceScheduledTask(BukkitTask task) {
+        cancelScheduledTask();
+        scheduledTask = task;
+    }
+
+    void cancelScheduledTask() {
+        if (scheduledTask != null) {
+            scheduledTask.cancel();
+            scheduledTask = null;
+        }
+    }
+
+    // Called from the scheduled task itself once it fired, so there is nothing left to cancel.
+    void scheduledTaskFired() {
+        scheduledTask = null;
+    }
+
+    // Keeps the first firing while the start is deferred, so fire -> broadcast includes the deferral.
+    void markTimerFired(long nanos) {
+        if (timerFiredNanos < 0L) {
+            timerFiredNanos = nanos;
+        }
+    }
+
+    long takeTimerFiredNanos() {
+        long fired = timerFiredNanos;
+        timerFiredNanos = -1L;
+        return fired;
+    }
+
+    void replaceTimeoutTask(BukkitTask task) {
+        cancelTimeoutTask();
+        timeoutTask = task;
+    }
+
+    void cancelTimeoutTask() {
+        if (timeoutTask != null) {
+            timeoutTask.cancel();
+            timeoutTask = null;
+        }
+    }
+}
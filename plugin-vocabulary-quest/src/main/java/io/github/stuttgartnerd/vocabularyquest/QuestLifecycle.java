@@ -0,0 +1,131 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Quest state machine behind a single AtomicReference:
+ *
+ *   (none) --open--> OPEN --tryWin--> WON --close--> CLOSED
+ *                     ^                |
+ *                     +----reopen------+   (winner was already rewarded for this word)
+ *
+ *   OPEN --expire--> CLOSED, or WON --expire--> WON(expired) so the winner's reopen closes it instead.
+ *
+ * Rounds are immutable and compared by identity, so a stale caller can never move a newer quest.
+ */
+final class QuestLifecycle<Q> {
+    enum Phase {
+        OPEN,
+        WON,
+        CLOSED
+    }
+
+    enum ReopenResult {
+        REOPENED,
+        EXPIRED,
+        STALE
+    }
+
+    record Round<Q>(Q quest, Phase phase, String winner, boolean expired) {
+    }
+
+    private final AtomicReference<Round<Q>> state = new AtomicReference<>();
+
+    boolean open(Q quest) {
+        Round<Q> next = new Round<>(quest, Phase.OPEN, null, false);
+        while (true) {
+            Round<Q> current = state.get();
+            if (current != null && current.phase() != Phase.CLOSED) {
+                return false;
+            }
+            if (state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    Q openQuest() {
+        Round<Q> current = state.get();
+        return current != null && current.phase() == Phase.OPEN ? current.quest() : null;
+    }
+
+    Q pendingQuest() {
+        Round<Q> current = state.get();
+        return current != null && current.phase() != Phase.CLOSED ? current.quest() : null;
+    }
+
+    Round<Q> snapshot() {
+        return state.get();
+    }
+
+    boolean tryWin(Q quest, String winner) {
+        Round<Q> current = state.get();
+        if (current == null || current.quest() != quest || current.phase() != Phase.OPEN) {
+            return false;
+        }
+        return state.compareAndSet(current, new Round<>(quest, Phase.WON, winner, false));
+    }
+
+    ReopenResult reopen(Q quest, String winner) {
+        while (true) {
+            Round<Q> current = state.get();
+            if (current == null || current.quest() != quest || current.phase() != Phase.WON
+                    || !current.winner().equals(winner)) {
+                return ReopenResult.STALE;
+            }
+
+            if (current.expired()) {
+                if (state.compareAndSet(current, new Round<>(quest, Phase.CLOSED, winner, true))) {
+                    return ReopenResult.EXPIRED;
+                }
+            } else if (state.compareAndSet(current, new Round<>(quest, Phase.OPEN, null, false))) {
+                return ReopenResult.REOPENED;
+            }
+        }
+    }
+
+    boolean closeWon(Q quest, String winner) {
+        while (true) {
+            Round<Q> current = state.get();
+            if (current == null || current.quest() != quest || current.phase() != Phase.WON
+                    || !current.winner().equals(winner)) {
+                return false;
+            }
+            if (state.compareAndSet(current, new Round<>(quest, Phase.CLOSED, winner, current.expired()))) {
+                return true;
+            }
+        }
+    }
+
+    // Returns true only when the quest was still open and this call closed it.
+    boolean expire(Q quest) {
+        while (true) {
+            Round<Q> current = state.get();
+            if (current == null || current.quest() != quest) {
+                return false;
+            }
+
+            switch (current.phase()) {
+                case OPEN -> {
+                    if (state.compareAndSet(current, new Round<>(quest, Phase.CLOSED, null, true))) {
+                        return true;
+                    }
+                }
+                case WON -> {
+                    if (current.expired() || state.compareAndSet(current,
+                            new Round<>(quest, Phase.WON, current.winner(), true))) {
+                        return false;
+                    }
+                }
+                case CLOSED -> {
+                    return false;
+                }
+            }
+        }
+    }
+
+    Q clear() {
+        Round<Q> previous = state.getAndSet(null);
+        return previous != null && previous.phase() != Phase.CLOSED ? previous.quest() : null;
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Resident copy of player_vocab_rewards for online players. Each player gets a Bloom filter in front
+ * of the exact key set: a negative filter probe ("definitely not rewarded") hashes the two strings in
+ * place and never builds a key. player_vocab_rewards stays the source of truth; a ledger loaded under
+ * an older tracking version of the store is ignored until it is reloaded.
+ */
+final class RewardLedger {
+    private final ConcurrentHashMap<String, PlayerRewards> players = new ConcurrentHashMap<>();
+
+    void load(String username, long trackingVersion, List<SQLiteStore.RewardedWord> rewardedWords) {
+        players.put(username, new PlayerRewards(trackingVersion, rewardedWords));
+    }
+
+    void evict(String username) {
+        players.remove(username);
+    }
+
+    void clear() {
+        players.clear();
+    }
+
+    boolean isLoaded(String username, long trackingVersion) {
+        PlayerRewards rewards = players.get(username);
+        return rewards != null && rewards.trackingVersion == trackingVersion;
+    }
+
+    // Only answers true when the current ledger knows about the reward; false means "ask the database".
+    boolean isKnownRewarded(String username, long trackingVersion, String vocabTable, String deWord) {
+        PlayerRewards rewards = players.get(username);
+        return rewards != null && rewards.trackingVersion == trackingVersion && rewards.contains(vocabTable, deWord);
+    }
+
+    boolean isRewarded(String username, String vocabTable, String deWord) {
+        PlayerRewards rewards = players.get(username);
+        return rewards != null && rewards.contains(vocabTable, deWord);
+    }
+
+    void markRewarded(String username, long trackingVersion, String vocabTable, String deWord) {
+        PlayerRewards rewards = players.get(username);
+        if (rewards != null && rewards.trackingVersion == trackingVersion) {
+            rewards.add(vocabTable, deWord);
+        }
+    }
+
+    int loadedPlayers() {
+        return players.size();
+    }
+
+    private static final class PlayerRewards {
+        private final long trackingVersion;
+        private final Set<String> keys;
+        private BloomFilter filter;
+
+        PlayerRewards(long trackingVersion, Collection<SQLiteStore.RewardedWord> rewardedWords) {
+            this.trackingVersion = trackingVersion;
+            this.keys = new HashSet<>(Math.max(16, rewardedWords.size() * 2));
+            this.filter = new BloomFilter(rewardedWords.size());
+            for (SQLiteStore.RewardedWord word : rewardedWords) {
+                keys.add(key(word.vocabTable(), word.deWord()));
+                filter.add(word.vocabTable(), word.deWord());
+            }
+        }
+
+        synchronized boolean contains(String vocabTable, String deWord) {
+            return filter.mightContain(vocabTable, deWord) && keys.contains(key(vocabTable, deWord));
+        }
+
+        synchronized void add(String vocabTable, String deWord) {
+            if (!keys.add(key(vocabTable, deWord))) {
+                return;
+            }
+            if (keys.size() > filter.capacity()) {
+                filter = new BloomFilter(keys.size() * 2);
+                for (String key : keys) {
+                    int separator = key.indexOf('\n');
+                    filter.add(key.substring(0, separator), key.substring(separator + 1));
+                }
+            } else {
+                filter.add(vocabTable, deWord);
+            }
+        }
+
+        private static String key(String vocabTable, String deWord) {
+            return vocabTable + '\n' + deWord;
+        }
+    }
+
+    static final class BloomFilter {
+        private static final int BITS_PER_ENTRY = 10;
+        private static final int HASHES = 7;
+        private static final int MIN_CAPACITY = 32;
+
+        private final long[] words;
+        private final int bitMask;
+        private final int capacity;
+
+        BloomFilter(int expectedEntries) {
+            int capacity = Math.max(MIN_CAPACITY, expectedEntries);
+            int bits = Integer.highestOneBit(capacity * BITS_PER_ENTRY - 1) << 1;
+            this.words = new long[bits >>> 6];
+            this.bitMask = bits - 1;
+            this.capacity = capacity;
+        }
+
+        int capacity() {
+            return capacity;
+        }
+
+        void add(String vocabTable, String deWord) {
+            long hash = hash(vocabTable, deWord);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < HASHES; i++) {
+                int bit = (h1 + i * h2) & bitMask;
+                words[bit >>> 6] |= 1L << bit;
+            }
+        }
+
+        boolean mightContain(String vocabTable, String deWord) {
+            long hash = hash(vocabTable, deWord);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < HASHES; i++) {
+                int bit = (h1 + i * h2) & bitMask;
+                if ((words[bit >>> 6] & (1L << bit)) == 0L) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long hash(String vocabTable, String deWord) {
+            long hash = 0xcbf29ce484222325L;
+            hash = mix(hash, vocabTable);
+            hash = (hash ^ '\n') * 0x100000001b3L;
+            hash = mix(hash, deWord);
+            // Final avalanche so both 32-bit halves are usable as independent hashes.
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            return hash ^ (hash >>> 33);
+        }
+
+        private static long mix(long hash, String value) {
+            long result = hash;
+            for (int i = 0; i < value.length(); i++) {
+                result = (result ^ value.charAt(i)) * 0x100000001b3L;
+            }
+            return result;
+        }
+    }
+}
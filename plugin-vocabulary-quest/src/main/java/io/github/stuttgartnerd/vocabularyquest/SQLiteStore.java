@@ -8,9 +8,15 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -19,7 +25,8 @@ final class SQLiteStore implements AutoCloseable {
     record VocabEntry(String left, String right) {
     }
 
-    record QuestEntry(String vocabTable, String deWord, String answer, int attempts, int eligibleOnlinePlayers) {
+    record QuestEntry(String vocabTable, long vocabId, String deWord, String answer, int attempts,
+                      int eligibleOnlinePlayers) {
     }
 
     record DumpSummary(int users, int deEnEntries, int deFrEntries, int rewards, int attempts) {
@@ -29,13 +36,123 @@ final class SQLiteStore implements AutoCloseable {
                           int effectiveLimitMinutes, String lastResetDate) {
     }
 
+    record VocabSourceState(long sizeBytes, long modifiedMillis, String checksum) {
+    }
+
+    record VocabDiffSummary(int inserted, int deleted, int unchanged) {
+    }
+
+    record VocabSyncSummary(int inserted, int updated, int deleted, int unchanged) {
+    }
+
+    record RewardedWord(String vocabTable, String deWord) {
+    }
+
+    record SrsCard(String vocabTable, String deWord, int box, long dueAtMillis) {
+    }
+
+    record ItemRating(String vocabTable, long vocabId, double rating, int games) {
+    }
+
+    record PlayerRating(String username, double rating, int games) {
+    }
+
+    @FunctionalInterface
+    interface RewardLookup {
+        boolean isRewarded(String username, String vocabTable, String deWord);
+    }
+
+    @FunctionalInterface
+    interface SuccessEstimate {
+        double successProbability(String vocabTable, long vocabId);
+    }
+
+    private record VocabularyTable(String table, String rightColumn, String trackingTable) {
+    }
+
+    private record VocabRow(long id, String de, String right) {
+    }
+
+    static final List<String> VOCAB_TABLES = List.of("de_en", "de_fr");
+    private static final double SUCCESS_TARGET_TOLERANCE = 0.05d;
+
     private final Connection connection;
+    private final PluginMetrics metrics;
+    private final PluginMetrics.LatencyHistogram[] sqlTimers;
+    // Bumped whenever reward/SRS rows are deleted or renamed, so in-memory copies know to reload.
+    private volatile long trackingVersion;
+    // Bumped only when the rating tables are flushed; rating writes made against an older version are dropped.
+    private volatile long ratingsVersion;
+
+    // One sqlite.<operation> timer per public call. table is null where it depends on the arguments.
+    private enum SqlOp {
+        INITIALIZE_SCHEMA("initializeSchema", "schema"),
+        UPSERT_USER("upsertUser", "users"),
+        REPLACE_DE_EN("replaceDeEn", "vocab_de_en"),
+        REPLACE_DE_FR("replaceDeFr", "vocab_de_fr"),
+        FIND_VOCABULARY_SOURCE_STATE("findVocabularySourceState", "vocab_source_state"),
+        SAVE_VOCABULARY_SOURCE_STATE("saveVocabularySourceState", "vocab_source_state"),
+        APPLY_VOCABULARY_DIFF("applyVocabularyDiff", null),
+        DUMP_TO_LOG("dumpToLog", "all"),
+        RECORD_ATTEMPT("recordAttempt", "vocab_attempts"),
+        CLAIM_REWARD("claimReward", "player_vocab_rewards"),
+        LIST_REWARDED_WORDS("listRewardedWords", "player_vocab_rewards"),
+        LIST_SRS_CARDS("listSrsCards", "player_vocab_srs"),
+        SAVE_SRS_CARD("saveSrsCard", "player_vocab_srs"),
+        FIND_QUEST_ENTRY("findQuestEntry", null),
+        CLEAR_ANSWER_TRACKING("clearAnswerTracking", "tracking"),
+        INSERT_VOCABULARY_ENTRY("insertVocabularyEntry", null),
+        INSERT_MISSING_VOCABULARY_ENTRIES("insertMissingVocabularyEntries", null),
+        LIST_VOCABULARY_ENTRIES("listVocabularyEntries", null),
+        SYNC_VOCABULARY_ENTRIES("syncVocabularyEntries", null),
+        TOTAL_VOCABULARY_ENTRIES("totalVocabularyEntries", null),
+        CLEAR_VOCABULARY_LANGUAGE_AND_TRACKING("clearVocabularyLanguageAndTracking", null),
+        SELECT_WEIGHTED_QUEST_FOR_ONLINE_PLAYERS("selectWeightedQuestForOnlinePlayers", null),
+        SELECT_QUEST_FOR_TARGET_SUCCESS("selectQuestForTargetSuccess", null),
+        LIST_ITEM_RATINGS("listItemRatings", "vocab_ratings"),
+        FIND_PLAYER_RATING("findPlayerRating", "player_ratings"),
+        SAVE_RATINGS("saveRatings", "vocab_ratings,player_ratings"),
+        GET_OR_CREATE_PLAYER_PLAYTIME_FOR_TODAY("getOrCreatePlayerPlaytimeForToday", "player_playtime"),
+        ADD_DAILY_USED_MINUTES_FOR_TODAY("addDailyUsedMinutesForToday", "player_playtime"),
+        SET_DAILY_USED_MINUTES_FOR_TODAY("setDailyUsedMinutesForToday", "player_playtime"),
+        SET_LIMIT_OVERRIDE_MINUTES_FOR_TODAY("setLimitOverrideMinutesForToday", "player_playtime"),
+        RESET_DAILY_USED_MINUTES_FOR_TODAY("resetDailyUsedMinutesForToday", "player_playtime"),
+        RESET_ALL_DAILY_USED_MINUTES_FOR_TODAY("resetAllDailyUsedMinutesForToday", "player_playtime");
+
+        private final String operation;
+        private final String table;
+
+        SqlOp(String operation, String table) {
+            this.operation = operation;
+            this.table = table;
+        }
+    }
+
+    // The JFR event begins with the timer, so its duration is the call's time after the store lock was acquired.
+    private record SqlTimer(long startedNanos, JfrEvents.SqlOperation event) {
+    }
 
     SQLiteStore(Path dbPath) throws SQLException {
-        this.connection = DriverManager.getConnection("jdbc:sqlite:" + dbPath.toAbsolutePath());
+        this(dbPath, new PluginMetrics());
+    }
+
+    SQLiteStore(Path dbPath, PluginMetrics metrics) throws SQLException {
+        this(dbPath, metrics, null);
+    }
+
+    // With a slow query log every statement on the connection is timed; without one it is used as is.
+    SQLiteStore(Path dbPath, PluginMetrics metrics, SlowQueryLog slowQueryLog) throws SQLException {
+        Connection rawConnection = DriverManager.getConnection("jdbc:sqlite:" + dbPath.toAbsolutePath());
+        this.connection = slowQueryLog == null ? rawConnection : slowQueryLog.wrap(rawConnection);
+        this.metrics = metrics;
+        this.sqlTimers = new PluginMetrics.LatencyHistogram[SqlOp.values().length];
+        for (SqlOp op : SqlOp.values()) {
+            sqlTimers[op.ordinal()] = metrics.timer("sqlite." + op.operation);
+        }
     }
 
     synchronized void initializeSchema() throws SQLException {
+        SqlTimer started = startTimer();
         try (Statement statement = connection.createStatement()) {
             statement.executeUpdate("""
                     CREATE TABLE IF NOT EXISTS users (
@@ -89,10 +206,54 @@ final class SQLiteStore implements AutoCloseable {
                         last_reset_date TEXT NOT NULL
                     )
                     """);
+            statement.executeUpdate("""
+                    CREATE TABLE IF NOT EXISTS player_vocab_srs (
+                        username TEXT NOT NULL,
+                        vocab_table TEXT NOT NULL,
+                        de_word TEXT NOT NULL,
+                        box INTEGER NOT NULL,
+                        due_at INTEGER NOT NULL,
+                        PRIMARY KEY (username, vocab_table, de_word)
+                    ) WITHOUT ROWID
+                    """);
+            statement.executeUpdate("""
+                    CREATE TABLE IF NOT EXISTS vocab_ratings (
+                        vocab_table TEXT NOT NULL,
+                        vocab_id INTEGER NOT NULL,
+                        rating REAL NOT NULL,
+                        games INTEGER NOT NULL,
+                        PRIMARY KEY (vocab_table, vocab_id)
+                    ) WITHOUT ROWID
+                    """);
+            statement.executeUpdate("""
+                    CREATE TABLE IF NOT EXISTS player_ratings (
+                        username TEXT PRIMARY KEY,
+                        rating REAL NOT NULL,
+                        games INTEGER NOT NULL
+                    )
+                    """);
+            statement.executeUpdate("""
+                    CREATE TABLE IF NOT EXISTS vocab_source_state (
+                        vocab_table TEXT PRIMARY KEY,
+                        size_bytes INTEGER NOT NULL,
+                        modified_millis INTEGER NOT NULL,
+                        checksum TEXT NOT NULL,
+                        loaded_at TEXT NOT NULL DEFAULT (datetime('now'))
+                    )
+                    """);
+            statement.executeUpdate("""
+                    CREATE TABLE IF NOT EXISTS vocab_source_rows (
+                        vocab_table TEXT NOT NULL,
+                        vocab_id INTEGER NOT NULL,
+                        PRIMARY KEY (vocab_table, vocab_id)
+                    ) WITHOUT ROWID
+                    """);
         }
+        done(SqlOp.INITIALIZE_SCHEMA, started);
     }
 
     synchronized void upsertUser(String username) throws SQLException {
+        SqlTimer started = startTimer();
         try (PreparedStatement statement = connection.prepareStatement("""
                 INSERT INTO users (username, first_seen, last_seen)
                 VALUES (?, datetime('now'), datetime('now'))
@@ -101,27 +262,188 @@ final class SQLiteStore implements AutoCloseable {
             statement.setString(1, username);
             statement.executeUpdate();
         }
+        done(SqlOp.UPSERT_USER, started);
     }
 
     synchronized void replaceDeEn(List<VocabEntry> entries) throws SQLException {
+        SqlTimer started = startTimer();
         replaceVocabulary("vocab_de_en", "en", entries);
+        done(SqlOp.REPLACE_DE_EN, started);
     }
 
     synchronized void replaceDeFr(List<VocabEntry> entries) throws SQLException {
+        SqlTimer started = startTimer();
         replaceVocabulary("vocab_de_fr", "fr", entries);
+        done(SqlOp.REPLACE_DE_FR, started);
+    }
+
+    synchronized VocabSourceState findVocabularySourceState(String language) throws SQLException {
+        SqlTimer started = startTimer();
+        VocabularyTable target = resolveVocabularyTable(language, "source state lookup");
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT size_bytes, modified_millis, checksum
+                FROM vocab_source_state
+                WHERE vocab_table = ?
+                """)) {
+            statement.setString(1, target.table());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return finish(SqlOp.FIND_VOCABULARY_SOURCE_STATE, started, null);
+                }
+
+                return finish(SqlOp.FIND_VOCABULARY_SOURCE_STATE, started, new VocabSourceState(
+                        resultSet.getLong("size_bytes"),
+                        resultSet.getLong("modified_millis"),
+                        resultSet.getString("checksum")
+                ));
+            }
+        }
+    }
+
+    synchronized void saveVocabularySourceState(String language, VocabSourceState state) throws SQLException {
+        SqlTimer started = startTimer();
+        VocabularyTable target = resolveVocabularyTable(language, "source state update");
+        upsertVocabularySourceState(target.table(), state);
+        done(SqlOp.SAVE_VOCABULARY_SOURCE_STATE, started);
+    }
+
+    // Only rows the local file inserted (vocab_source_rows) can be deleted by it; rows from /addvocab or a sheet
+    // import survive. Existing rows that already match a file entry are adopted instead of inserted twice.
+    synchronized VocabDiffSummary applyVocabularyDiff(String language, List<VocabEntry> entries,
+                                                      VocabSourceState state) throws SQLException {
+        SqlTimer started = startTimer();
+        VocabularyTable target = resolveVocabularyTable(language, "diff");
+        Map<VocabEntry, Integer> remaining = new HashMap<>();
+        for (VocabEntry entry : entries) {
+            remaining.merge(entry, 1, Integer::sum);
+        }
+
+        List<VocabRow> deletedRows = new ArrayList<>();
+        List<VocabRow> keptRows = new ArrayList<>();
+        List<Long> adoptedIds = new ArrayList<>();
+        int unchanged = 0;
+        String selectSql = "SELECT v.id, v.de, v." + target.rightColumn() + ", s.vocab_id IS NOT NULL AS owned"
+                + " FROM " + target.table() + " v"
+                + " LEFT JOIN vocab_source_rows s ON s.vocab_table = ? AND s.vocab_id = v.id"
+                + " ORDER BY v.id ASC";
+        try (PreparedStatement statement = connection.prepareStatement(selectSql)) {
+            statement.setString(1, target.table());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    VocabRow row = new VocabRow(resultSet.getLong("id"), resultSet.getString("de"),
+                            resultSet.getString(target.rightColumn()));
+                    boolean owned = resultSet.getBoolean("owned");
+                    VocabEntry existing = new VocabEntry(row.de(), row.right());
+                    Integer wanted = remaining.get(existing);
+                    if (wanted == null) {
+                        if (owned) {
+                            deletedRows.add(row);
+                        } else {
+                            keptRows.add(row);
+                        }
+                        continue;
+                    }
+
+                    unchanged++;
+                    keptRows.add(row);
+                    if (!owned) {
+                        adoptedIds.add(row.id());
+                    }
+                    if (wanted == 1) {
+                        remaining.remove(existing);
+                    } else {
+                        remaining.put(existing, wanted - 1);
+                    }
+                }
+            }
+        }
+
+        List<VocabEntry> inserts = new ArrayList<>();
+        for (VocabEntry entry : entries) {
+            Integer wanted = remaining.get(entry);
+            if (wanted == null) {
+                continue;
+            }
+
+            inserts.add(entry);
+            // A changed translation is a delete plus an insert; the word itself keeps its tracking.
+            keptRows.add(new VocabRow(-1L, entry.left(), entry.right()));
+            if (wanted == 1) {
+                remaining.remove(entry);
+            } else {
+                remaining.put(entry, wanted - 1);
+            }
+        }
+
+        boolean previousAutoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        try (PreparedStatement delete = connection.prepareStatement(
+                "DELETE FROM " + target.table() + " WHERE id = ?");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO " + target.table() + " (de, " + target.rightColumn() + ") VALUES (?, ?)");
+             PreparedStatement own = connection.prepareStatement(
+                     "INSERT OR IGNORE INTO vocab_source_rows (vocab_table, vocab_id) VALUES (?, ?)");
+             PreparedStatement ownInserted = connection.prepareStatement(
+                     "INSERT INTO vocab_source_rows (vocab_table, vocab_id) VALUES (?, last_insert_rowid())")) {
+            List<Long> deletedIds = deletedRows.stream().map(VocabRow::id).toList();
+            for (Long id : deletedIds) {
+                delete.setLong(1, id);
+                delete.addBatch();
+            }
+            if (!deletedIds.isEmpty()) {
+                delete.executeBatch();
+                forgetSourceRows(target.table(), deletedIds);
+                deleteTrackingForWords(target.trackingTable(), deletedRows, keptRows);
+                deleteItemRatings(target.trackingTable(), deletedIds);
+            }
+
+            for (Long id : adoptedIds) {
+                own.setString(1, target.table());
+                own.setLong(2, id);
+                own.addBatch();
+            }
+            executeBatchIfAny(own, adoptedIds.size());
+
+            // One row at a time, because last_insert_rowid() only names the row inserted just before.
+            for (VocabEntry entry : inserts) {
+                insert.setString(1, entry.left());
+                insert.setString(2, entry.right());
+                insert.executeUpdate();
+                ownInserted.setString(1, target.table());
+                ownInserted.executeUpdate();
+            }
+
+            if (state != null) {
+                upsertVocabularySourceState(target.table(), state);
+            }
+            connection.commit();
+            if (!deletedRows.isEmpty()) {
+                trackingVersion++;
+            }
+            VocabDiffSummary summary = new VocabDiffSummary(inserts.size(), deletedRows.size(), unchanged);
+            return finish(SqlOp.APPLY_VOCABULARY_DIFF, started, summary, language);
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(previousAutoCommit);
+        }
     }
 
     synchronized DumpSummary dumpToLog(Logger logger) throws SQLException {
+        SqlTimer started = startTimer();
         int users = logUsers(logger);
         int deEn = logVocabulary(logger, "vocab_de_en", "en");
         int deFr = logVocabulary(logger, "vocab_de_fr", "fr");
         int rewards = logRewards(logger);
         int attempts = logAttempts(logger);
-        return new DumpSummary(users, deEn, deFr, rewards, attempts);
+        return finish(SqlOp.DUMP_TO_LOG, started, new DumpSummary(users, deEn, deFr, rewards, attempts));
     }
 
     synchronized void recordAttempt(String username, String vocabTable, String deWord, boolean correct)
             throws SQLException {
+        SqlTimer started = startTimer();
         try (PreparedStatement statement = connection.prepareStatement("""
                 INSERT INTO vocab_attempts (username, vocab_table, de_word, correct, attempted_at)
                 VALUES (?, ?, ?, ?, datetime('now'))
@@ -132,9 +454,11 @@ final class SQLiteStore implements AutoCloseable {
             statement.setInt(4, correct ? 1 : 0);
             statement.executeUpdate();
         }
+        done(SqlOp.RECORD_ATTEMPT, started);
     }
 
     synchronized boolean claimReward(String username, String vocabTable, String deWord) throws SQLException {
+        SqlTimer started = startTimer();
         try (PreparedStatement statement = connection.prepareStatement("""
                 INSERT OR IGNORE INTO player_vocab_rewards (username, vocab_table, de_word, rewarded_at)
                 VALUES (?, ?, ?, datetime('now'))
@@ -142,27 +466,124 @@ final class SQLiteStore implements AutoCloseable {
             statement.setString(1, username);
             statement.setString(2, vocabTable);
             statement.setString(3, deWord);
-            return statement.executeUpdate() > 0;
+            return finish(SqlOp.CLAIM_REWARD, started, statement.executeUpdate() > 0);
+        }
+    }
+
+    long trackingVersion() {
+        return trackingVersion;
+    }
+
+    long ratingsVersion() {
+        return ratingsVersion;
+    }
+
+    synchronized List<RewardedWord> listRewardedWords(String username) throws SQLException {
+        SqlTimer started = startTimer();
+        List<RewardedWord> words = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT vocab_table, de_word FROM player_vocab_rewards WHERE username = ?")) {
+            statement.setString(1, username);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    words.add(new RewardedWord(resultSet.getString("vocab_table"), resultSet.getString("de_word")));
+                }
+            }
+        }
+        return finish(SqlOp.LIST_REWARDED_WORDS, started, words);
+    }
+
+    synchronized List<SrsCard> listSrsCards(String username) throws SQLException {
+        SqlTimer started = startTimer();
+        List<SrsCard> cards = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT vocab_table, de_word, box, due_at FROM player_vocab_srs WHERE username = ?")) {
+            statement.setString(1, username);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    cards.add(new SrsCard(resultSet.getString("vocab_table"), resultSet.getString("de_word"),
+                            resultSet.getInt("box"), resultSet.getLong("due_at")));
+                }
+            }
+        }
+        return finish(SqlOp.LIST_SRS_CARDS, started, cards);
+    }
+
+    synchronized void saveSrsCard(String username, SrsCard card) throws SQLException {
+        SqlTimer started = startTimer();
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO player_vocab_srs (username, vocab_table, de_word, box, due_at)
+                VALUES (?, ?, ?, ?, ?)
+                ON CONFLICT(username, vocab_table, de_word) DO UPDATE SET
+                    box = excluded.box,
+                    due_at = excluded.due_at
+                """)) {
+            statement.setString(1, username);
+            statement.setString(2, card.vocabTable());
+            statement.setString(3, card.deWord());
+            statement.setInt(4, card.box());
+            statement.setLong(5, card.dueAtMillis());
+            statement.executeUpdate();
+        }
+        done(SqlOp.SAVE_SRS_CARD, started);
+    }
+
+    synchronized QuestEntry findQuestEntry(String vocabTable, String deWord) throws SQLException {
+        SqlTimer started = startTimer();
+        String table;
+        String rightColumn;
+        if ("de_en".equals(vocabTable)) {
+            table = "vocab_de_en";
+            rightColumn = "en";
+        } else if ("de_fr".equals(vocabTable)) {
+            table = "vocab_de_fr";
+            rightColumn = "fr";
+        } else {
+            return finish(SqlOp.FIND_QUEST_ENTRY, started, null, vocabTable);
+        }
+
+        String sql = "SELECT v.id, v.de, v." + rightColumn + " AS answer, "
+                + "(SELECT COUNT(*) FROM vocab_attempts a WHERE a.vocab_table = ? AND a.de_word = v.de) AS attempts "
+                + "FROM " + table + " v WHERE v.de = ? ORDER BY v.id ASC LIMIT 1";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, vocabTable);
+            statement.setString(2, deWord);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return finish(SqlOp.FIND_QUEST_ENTRY, started, null, vocabTable);
+                }
+                QuestEntry entry = new QuestEntry(vocabTable, resultSet.getLong("id"), resultSet.getString("de"),
+                        resultSet.getString("answer"), resultSet.getInt("attempts"), 0);
+                return finish(SqlOp.FIND_QUEST_ENTRY, started, entry, vocabTable);
+            }
         }
     }
 
     synchronized void clearAnswerTracking() throws SQLException {
+        SqlTimer started = startTimer();
         boolean previousAutoCommit = connection.getAutoCommit();
         connection.setAutoCommit(false);
 
         try (Statement statement = connection.createStatement()) {
             statement.executeUpdate("DELETE FROM player_vocab_rewards");
             statement.executeUpdate("DELETE FROM vocab_attempts");
+            statement.executeUpdate("DELETE FROM player_vocab_srs");
+            statement.executeUpdate("DELETE FROM vocab_ratings");
+            statement.executeUpdate("DELETE FROM player_ratings");
             connection.commit();
+            trackingVersion++;
+            ratingsVersion++;
         } catch (SQLException e) {
             connection.rollback();
             throw e;
         } finally {
             connection.setAutoCommit(previousAutoCommit);
         }
+        done(SqlOp.CLEAR_ANSWER_TRACKING, started);
     }
 
     synchronized void insertVocabularyEntry(String language, String deWord, String translatedWord) throws SQLException {
+        SqlTimer started = startTimer();
         String normalizedLang = language == null ? "" : language.trim().toLowerCase();
         String table;
         String rightColumn;
@@ -183,9 +604,11 @@ final class SQLiteStore implements AutoCloseable {
             statement.setString(2, translatedWord);
             statement.executeUpdate();
         }
+        done(SqlOp.INSERT_VOCABULARY_ENTRY, started, language);
     }
 
     synchronized int insertMissingVocabularyEntries(String language, List<VocabEntry> entries) throws SQLException {
+        SqlTimer started = startTimer();
         String normalizedLang = language == null ? "" : language.trim().toLowerCase();
         String table;
         String rightColumn;
@@ -201,7 +624,7 @@ final class SQLiteStore implements AutoCloseable {
         }
 
         if (entries == null || entries.isEmpty()) {
-            return 0;
+            return finish(SqlOp.INSERT_MISSING_VOCABULARY_ENTRIES, started, 0, language);
         }
 
         boolean previousAutoCommit = connection.getAutoCommit();
@@ -218,7 +641,7 @@ final class SQLiteStore implements AutoCloseable {
                 inserted += statement.executeUpdate();
             }
             connection.commit();
-            return inserted;
+            return finish(SqlOp.INSERT_MISSING_VOCABULARY_ENTRIES, started, inserted, language);
         } catch (SQLException e) {
             connection.rollback();
             throw e;
@@ -227,19 +650,134 @@ final class SQLiteStore implements AutoCloseable {
         }
     }
 
-    synchronized int totalVocabularyEntries() throws SQLException {
-        try (PreparedStatement statement = connection.prepareStatement("""
-                SELECT
-                    (SELECT COUNT(*) FROM vocab_de_en)
-                    +
-                    (SELECT COUNT(*) FROM vocab_de_fr) AS total
-                """);
+    synchronized List<VocabEntry> listVocabularyEntries(String language) throws SQLException {
+        SqlTimer started = startTimer();
+        VocabularyTable target = resolveVocabularyTable(language, "listing");
+        List<VocabEntry> entries = new ArrayList<>();
+        String sql = "SELECT de, " + target.rightColumn() + " FROM " + target.table() + " ORDER BY id ASC";
+        try (PreparedStatement statement = connection.prepareStatement(sql);
              ResultSet resultSet = statement.executeQuery()) {
-            return resultSet.next() ? resultSet.getInt("total") : 0;
+            while (resultSet.next()) {
+                entries.add(new VocabEntry(resultSet.getString("de"), resultSet.getString(target.rightColumn())));
+            }
         }
+        return finish(SqlOp.LIST_VOCABULARY_ENTRIES, started, entries, language);
+    }
+
+    synchronized VocabSyncSummary syncVocabularyEntries(String language, List<VocabEntry> entries)
+            throws SQLException {
+        SqlTimer started = startTimer();
+        VocabularyTable target = resolveVocabularyTable(language, "sync import");
+        if (entries == null || entries.isEmpty()) {
+            return finish(SqlOp.SYNC_VOCABULARY_ENTRIES, started, new VocabSyncSummary(0, 0, 0, 0), language);
+        }
+
+        Map<String, VocabEntry> incoming = new LinkedHashMap<>();
+        for (VocabEntry entry : entries) {
+            incoming.putIfAbsent(syncKey(entry.left()), entry);
+        }
+
+        Map<String, VocabRow> current = new HashMap<>();
+        List<VocabRow> deletes = new ArrayList<>();
+        String selectSql = "SELECT id, de, " + target.rightColumn() + " FROM " + target.table() + " ORDER BY id ASC";
+        try (PreparedStatement statement = connection.prepareStatement(selectSql);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                VocabRow row = new VocabRow(resultSet.getLong("id"), resultSet.getString("de"),
+                        resultSet.getString(target.rightColumn()));
+                String key = syncKey(row.de());
+                if (!incoming.containsKey(key) || current.putIfAbsent(key, row) != null) {
+                    deletes.add(row);
+                }
+            }
+        }
+
+        List<VocabEntry> inserts = new ArrayList<>();
+        List<VocabRow> updates = new ArrayList<>();
+        List<VocabRow> renamedFrom = new ArrayList<>();
+        int unchanged = 0;
+        for (Map.Entry<String, VocabEntry> wanted : incoming.entrySet()) {
+            VocabEntry entry = wanted.getValue();
+            VocabRow existing = current.get(wanted.getKey());
+            if (existing == null) {
+                inserts.add(entry);
+            } else if (existing.de().equals(entry.left()) && existing.right().equals(entry.right())) {
+                unchanged++;
+            } else {
+                updates.add(new VocabRow(existing.id(), entry.left(), entry.right()));
+                if (!existing.de().equals(entry.left())) {
+                    renamedFrom.add(existing);
+                }
+            }
+        }
+
+        boolean previousAutoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        try (PreparedStatement delete = connection.prepareStatement(
+                "DELETE FROM " + target.table() + " WHERE id = ?");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE " + target.table() + " SET de = ?, " + target.rightColumn() + " = ? WHERE id = ?");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO " + target.table() + " (de, " + target.rightColumn() + ") VALUES (?, ?)")) {
+            for (VocabRow row : deletes) {
+                delete.setLong(1, row.id());
+                delete.addBatch();
+            }
+            executeBatchIfAny(delete, deletes.size());
+            forgetSourceRows(target.table(), deletes.stream().map(VocabRow::id).toList());
+            deleteTrackingForWords(target.trackingTable(), deletes, current.values());
+            deleteItemRatings(target.trackingTable(), deletes.stream().map(VocabRow::id).toList());
+
+            for (VocabRow row : updates) {
+                update.setString(1, row.de());
+                update.setString(2, row.right());
+                update.setLong(3, row.id());
+                update.addBatch();
+            }
+            executeBatchIfAny(update, updates.size());
+            renameTrackedWords(target.trackingTable(), renamedFrom, updates);
+
+            for (VocabEntry entry : inserts) {
+                insert.setString(1, entry.left());
+                insert.setString(2, entry.right());
+                insert.addBatch();
+            }
+            executeBatchIfAny(insert, inserts.size());
+
+            connection.commit();
+            if (!deletes.isEmpty() || !renamedFrom.isEmpty()) {
+                trackingVersion++;
+            }
+            VocabSyncSummary summary = new VocabSyncSummary(inserts.size(), updates.size(), deletes.size(), unchanged);
+            return finish(SqlOp.SYNC_VOCABULARY_ENTRIES, started, summary, language);
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(previousAutoCommit);
+        }
+    }
+
+    synchronized int totalVocabularyEntries() throws SQLException {
+        return totalVocabularyEntries(VOCAB_TABLES);
+    }
+
+    synchronized int totalVocabularyEntries(Collection<String> vocabTables) throws SQLException {
+        SqlTimer started = startTimer();
+        int total = 0;
+        for (String vocabTable : vocabTables) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT COUNT(*) AS total FROM " + questTable(vocabTable).table());
+                 ResultSet resultSet = statement.executeQuery()) {
+                total += resultSet.next() ? resultSet.getInt("total") : 0;
+            }
+        }
+        return finish(SqlOp.TOTAL_VOCABULARY_ENTRIES, started, total, vocabTables);
     }
 
     synchronized int clearVocabularyLanguageAndTracking(String language) throws SQLException {
+        SqlTimer started = startTimer();
         String normalizedLang = language == null ? "" : language.trim().toLowerCase();
         String table;
 
@@ -258,8 +796,23 @@ final class SQLiteStore implements AutoCloseable {
             int removed = statement.executeUpdate("DELETE FROM " + table);
             statement.executeUpdate("DELETE FROM player_vocab_rewards");
             statement.executeUpdate("DELETE FROM vocab_attempts");
+            statement.executeUpdate("DELETE FROM player_vocab_srs");
+            statement.executeUpdate("DELETE FROM vocab_ratings");
+            statement.executeUpdate("DELETE FROM player_ratings");
+            // Forget the local CSV fingerprint so the next startup restores the flushed table.
+            try (PreparedStatement forgetSource = connection.prepareStatement(
+                    "DELETE FROM vocab_source_state WHERE vocab_table = ?");
+                 PreparedStatement forgetRows = connection.prepareStatement(
+                         "DELETE FROM vocab_source_rows WHERE vocab_table = ?")) {
+                forgetSource.setString(1, table);
+                forgetSource.executeUpdate();
+                forgetRows.setString(1, table);
+                forgetRows.executeUpdate();
+            }
             connection.commit();
-            return removed;
+            trackingVersion++;
+            ratingsVersion++;
+            return finish(SqlOp.CLEAR_VOCABULARY_LANGUAGE_AND_TRACKING, started, removed, language);
         } catch (SQLException e) {
             connection.rollback();
             throw e;
@@ -274,31 +827,217 @@ final class SQLiteStore implements AutoCloseable {
             return null;
         }
 
+        Set<String> rewardedKeys = loadRewardedKeysForPlayers(onlinePlayers);
+        return selectWeightedQuestForOnlinePlayers(onlinePlayers, random,
+                (username, vocabTable, deWord) -> rewardedKeys.contains(rewardKey(username, vocabTable, deWord)));
+    }
+
+    synchronized QuestEntry selectWeightedQuestForOnlinePlayers(List<String> onlinePlayers, Random random,
+                                                               RewardLookup rewards) throws SQLException {
+        return selectWeightedQuestForOnlinePlayers(onlinePlayers, VOCAB_TABLES, random, rewards);
+    }
+
+    synchronized QuestEntry selectWeightedQuestForOnlinePlayers(List<String> onlinePlayers,
+                                                               Collection<String> vocabTables, Random random,
+                                                               RewardLookup rewards) throws SQLException {
+        SqlTimer started = startTimer();
+        if (onlinePlayers == null || onlinePlayers.isEmpty()) {
+            return finish(SqlOp.SELECT_WEIGHTED_QUEST_FOR_ONLINE_PLAYERS, started, null, vocabTables);
+        }
+
+        List<QuestEntry> eligibleEntries = mostEligibleEntries(loadQuestCandidates(vocabTables), onlinePlayers,
+                rewards);
+        if (eligibleEntries.isEmpty()) {
+            return finish(SqlOp.SELECT_WEIGHTED_QUEST_FOR_ONLINE_PLAYERS, started, null, vocabTables);
+        }
+
+        double totalWeight = 0.0d;
+        for (QuestEntry entry : eligibleEntries) {
+            totalWeight += 1.0d / (1.0d + entry.attempts());
+        }
+
+        double pick = random.nextDouble() * totalWeight;
+        double cursor = 0.0d;
+        for (QuestEntry entry : eligibleEntries) {
+            cursor += 1.0d / (1.0d + entry.attempts());
+            if (pick <= cursor) {
+                return finish(SqlOp.SELECT_WEIGHTED_QUEST_FOR_ONLINE_PLAYERS, started, entry, vocabTables);
+            }
+        }
+
+        QuestEntry last = eligibleEntries.get(eligibleEntries.size() - 1);
+        return finish(SqlOp.SELECT_WEIGHTED_QUEST_FOR_ONLINE_PLAYERS, started, last, vocabTables);
+    }
+
+    /*
+     * Among the entries rewardable for the most online players, picks one whose estimated success
+     * probability is closest to targetProbability. Entries within SUCCESS_TARGET_TOLERANCE of the best
+     * fit are treated as equally good and one of them is chosen at random.
+     */
+    synchronized QuestEntry selectQuestForTargetSuccess(List<String> onlinePlayers, Collection<String> vocabTables,
+                                                       Random random, RewardLookup rewards,
+                                                       SuccessEstimate estimate, double targetProbability)
+            throws SQLException {
+        SqlTimer started = startTimer();
+        if (onlinePlayers == null || onlinePlayers.isEmpty()) {
+            return finish(SqlOp.SELECT_QUEST_FOR_TARGET_SUCCESS, started, null, vocabTables);
+        }
+
+        List<QuestEntry> eligibleEntries = mostEligibleEntries(loadQuestCandidates(vocabTables), onlinePlayers,
+                rewards);
+        if (eligibleEntries.isEmpty()) {
+            return finish(SqlOp.SELECT_QUEST_FOR_TARGET_SUCCESS, started, null, vocabTables);
+        }
+
+        double[] distances = new double[eligibleEntries.size()];
+        double bestDistance = Double.MAX_VALUE;
+        for (int i = 0; i < distances.length; i++) {
+            QuestEntry entry = eligibleEntries.get(i);
+            distances[i] = Math.abs(estimate.successProbability(entry.vocabTable(), entry.vocabId())
+                    - targetProbability);
+            bestDistance = Math.min(bestDistance, distances[i]);
+        }
+
+        List<QuestEntry> bestFits = new ArrayList<>();
+        for (int i = 0; i < distances.length; i++) {
+            if (distances[i] <= bestDistance + SUCCESS_TARGET_TOLERANCE) {
+                bestFits.add(eligibleEntries.get(i));
+            }
+        }
+        QuestEntry selected = bestFits.get(random.nextInt(bestFits.size()));
+        return finish(SqlOp.SELECT_QUEST_FOR_TARGET_SUCCESS, started, selected, vocabTables);
+    }
+
+    synchronized List<ItemRating> listItemRatings() throws SQLException {
+        SqlTimer started = startTimer();
+        List<ItemRating> ratings = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT vocab_table, vocab_id, rating, games FROM vocab_ratings");
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                ratings.add(new ItemRating(resultSet.getString("vocab_table"), resultSet.getLong("vocab_id"),
+                        resultSet.getDouble("rating"), resultSet.getInt("games")));
+            }
+        }
+        return finish(SqlOp.LIST_ITEM_RATINGS, started, ratings);
+    }
+
+    synchronized PlayerRating findPlayerRating(String username) throws SQLException {
+        SqlTimer started = startTimer();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT rating, games FROM player_ratings WHERE username = ?")) {
+            statement.setString(1, username);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return finish(SqlOp.FIND_PLAYER_RATING, started, null);
+                }
+                PlayerRating rating = new PlayerRating(username, resultSet.getDouble("rating"),
+                        resultSet.getInt("games"));
+                return finish(SqlOp.FIND_PLAYER_RATING, started, rating);
+            }
+        }
+    }
+
+    // Returns false without writing when the tracking tables were reset after the ratings were loaded.
+    // Item ratings are only written for rows that still exist, so a late flush cannot bring back a deleted id.
+    synchronized boolean saveRatings(long expectedRatingsVersion, List<ItemRating> items, List<PlayerRating> players)
+            throws SQLException {
+        SqlTimer started = startTimer();
+        if (expectedRatingsVersion != ratingsVersion) {
+            return finish(SqlOp.SAVE_RATINGS, started, false);
+        }
+        if (items.isEmpty() && players.isEmpty()) {
+            return finish(SqlOp.SAVE_RATINGS, started, true);
+        }
+
+        boolean previousAutoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        Map<String, PreparedStatement> itemStatements = new HashMap<>();
+        try (PreparedStatement playerStatement = connection.prepareStatement("""
+                INSERT INTO player_ratings (username, rating, games)
+                VALUES (?, ?, ?)
+                ON CONFLICT(username) DO UPDATE SET
+                    rating = excluded.rating,
+                    games = excluded.games
+                """)) {
+            for (String vocabTable : VOCAB_TABLES) {
+                itemStatements.put(vocabTable, connection.prepareStatement("""
+                        INSERT INTO vocab_ratings (vocab_table, vocab_id, rating, games)
+                        SELECT ?, id, ?, ? FROM %s WHERE id = ?
+                        ON CONFLICT(vocab_table, vocab_id) DO UPDATE SET
+                            rating = excluded.rating,
+                            games = excluded.games
+                        """.formatted(tableName(vocabTable))));
+            }
+            Map<String, Integer> batched = new HashMap<>();
+            for (ItemRating item : items) {
+                PreparedStatement itemStatement = itemStatements.get(item.vocabTable());
+                if (itemStatement == null) {
+                    continue;
+                }
+                itemStatement.setString(1, item.vocabTable());
+                itemStatement.setDouble(2, item.rating());
+                itemStatement.setInt(3, item.games());
+                itemStatement.setLong(4, item.vocabId());
+                itemStatement.addBatch();
+                batched.merge(item.vocabTable(), 1, Integer::sum);
+            }
+            for (Map.Entry<String, Integer> entry : batched.entrySet()) {
+                executeBatchIfAny(itemStatements.get(entry.getKey()), entry.getValue());
+            }
+
+            for (PlayerRating player : players) {
+                playerStatement.setString(1, player.username());
+                playerStatement.setDouble(2, player.rating());
+                playerStatement.setInt(3, player.games());
+                playerStatement.addBatch();
+            }
+            executeBatchIfAny(playerStatement, players.size());
+
+            connection.commit();
+            return finish(SqlOp.SAVE_RATINGS, started, true);
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            for (PreparedStatement itemStatement : itemStatements.values()) {
+                itemStatement.close();
+            }
+            connection.setAutoCommit(previousAutoCommit);
+        }
+    }
+
+    // Only the requested vocabulary tables are read, so a single-language channel never loads the other one.
+    private List<QuestEntry> loadQuestCandidates(Collection<String> vocabTables) throws SQLException {
         List<QuestEntry> entries = new ArrayList<>();
+        if (vocabTables.isEmpty()) {
+            return entries;
+        }
 
-        String sql = """
-                SELECT entries.vocab_table,
-                       entries.de,
-                       entries.answer,
-                       COALESCE(a.attempt_count, 0) AS attempts
-                FROM (
-                    SELECT 'de_en' AS vocab_table, de, en AS answer FROM vocab_de_en
-                    UNION ALL
-                    SELECT 'de_fr' AS vocab_table, de, fr AS answer FROM vocab_de_fr
-                ) AS entries
-                LEFT JOIN (
-                    SELECT vocab_table, de_word, COUNT(*) AS attempt_count
-                    FROM vocab_attempts
-                    GROUP BY vocab_table, de_word
-                ) AS a
-                ON a.vocab_table = entries.vocab_table AND a.de_word = entries.de
-                """;
+        List<String> selects = new ArrayList<>();
+        List<String> trackingTables = new ArrayList<>();
+        for (String vocabTable : vocabTables) {
+            VocabularyTable target = questTable(vocabTable);
+            selects.add("SELECT '" + target.trackingTable() + "' AS vocab_table, id, de, " + target.rightColumn()
+                    + " AS answer FROM " + target.table());
+            trackingTables.add("'" + target.trackingTable() + "'");
+        }
+
+        String sql = "SELECT entries.vocab_table, entries.id, entries.de, entries.answer, "
+                + "COALESCE(a.attempt_count, 0) AS attempts "
+                + "FROM (" + String.join(" UNION ALL ", selects) + ") AS entries "
+                + "LEFT JOIN (SELECT vocab_table, de_word, COUNT(*) AS attempt_count "
+                + "FROM vocab_attempts WHERE vocab_table IN (" + String.join(", ", trackingTables) + ") "
+                + "GROUP BY vocab_table, de_word) AS a "
+                + "ON a.vocab_table = entries.vocab_table AND a.de_word = entries.de";
 
         try (PreparedStatement statement = connection.prepareStatement(sql);
              ResultSet resultSet = statement.executeQuery()) {
             while (resultSet.next()) {
                 entries.add(new QuestEntry(
                         resultSet.getString("vocab_table"),
+                        resultSet.getLong("id"),
                         resultSet.getString("de"),
                         resultSet.getString("answer"),
                         resultSet.getInt("attempts"),
@@ -306,19 +1045,18 @@ final class SQLiteStore implements AutoCloseable {
                 ));
             }
         }
+        return entries;
+    }
 
-        if (entries.isEmpty()) {
-            return null;
-        }
-
-        Set<String> rewardedKeys = loadRewardedKeysForPlayers(onlinePlayers);
+    private List<QuestEntry> mostEligibleEntries(List<QuestEntry> entries, List<String> onlinePlayers,
+                                                 RewardLookup rewards) {
         List<QuestEntry> eligibleEntries = new ArrayList<>();
         int maxEligiblePlayers = 0;
 
         for (QuestEntry entry : entries) {
             int eligiblePlayers = 0;
             for (String username : onlinePlayers) {
-                if (!rewardedKeys.contains(rewardKey(username, entry.vocabTable(), entry.deWord()))) {
+                if (!rewards.isRewarded(username, entry.vocabTable(), entry.deWord())) {
                     eligiblePlayers++;
                 }
             }
@@ -329,6 +1067,7 @@ final class SQLiteStore implements AutoCloseable {
 
             QuestEntry withEligibility = new QuestEntry(
                     entry.vocabTable(),
+                    entry.vocabId(),
                     entry.deWord(),
                     entry.answer(),
                     entry.attempts(),
@@ -343,113 +1082,37 @@ final class SQLiteStore implements AutoCloseable {
                 eligibleEntries.add(withEligibility);
             }
         }
-
-        if (eligibleEntries.isEmpty()) {
-            return null;
-        }
-
-        double totalWeight = 0.0d;
-        for (QuestEntry entry : eligibleEntries) {
-            totalWeight += 1.0d / (1.0d + entry.attempts());
-        }
-
-        double pick = random.nextDouble() * totalWeight;
-        double cursor = 0.0d;
-        for (QuestEntry entry : eligibleEntries) {
-            cursor += 1.0d / (1.0d + entry.attempts());
-            if (pick <= cursor) {
-                return entry;
-            }
-        }
-
-        return eligibleEntries.get(eligibleEntries.size() - 1);
+        return eligibleEntries;
     }
 
     synchronized PlayerPlaytime getOrCreatePlayerPlaytimeForToday(String username, String todayDate,
                                                                   int defaultLimitMinutes) throws SQLException {
-        ensurePlayerPlaytimeRow(username, todayDate);
-
-        String sql = """
-                SELECT daily_used_minutes, limit_override_minutes, last_reset_date
-                FROM player_playtime
-                WHERE username = ?
-                """;
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            statement.setString(1, username);
-            try (ResultSet resultSet = statement.executeQuery()) {
-                if (!resultSet.next()) {
-                    throw new SQLException("Missing player_playtime row after ensure for user: " + username);
-                }
-
-                int dailyUsed = resultSet.getInt("daily_used_minutes");
-                int limitOverrideRaw = resultSet.getInt("limit_override_minutes");
-                Integer limitOverride = resultSet.wasNull() ? null : limitOverrideRaw;
-                String lastResetDate = resultSet.getString("last_reset_date");
-
-                if (!todayDate.equals(lastResetDate)) {
-                    dailyUsed = 0;
-                    lastResetDate = todayDate;
-                    try (PreparedStatement reset = connection.prepareStatement("""
-                            UPDATE player_playtime
-                            SET daily_used_minutes = 0, last_reset_date = ?
-                            WHERE username = ?
-                            """)) {
-                        reset.setString(1, todayDate);
-                        reset.setString(2, username);
-                        reset.executeUpdate();
-                    }
-                }
-
-                int effectiveLimit = resolveEffectiveLimitMinutes(defaultLimitMinutes, limitOverride);
-                return new PlayerPlaytime(username, dailyUsed, limitOverride, effectiveLimit, lastResetDate);
-            }
-        }
+        SqlTimer started = startTimer();
+        PlayerPlaytime playtime = loadPlayerPlaytimeForToday(username, todayDate, defaultLimitMinutes);
+        return finish(SqlOp.GET_OR_CREATE_PLAYER_PLAYTIME_FOR_TODAY, started, playtime);
     }
 
     synchronized PlayerPlaytime addDailyUsedMinutesForToday(String username, int deltaMinutes, String todayDate,
                                                             int defaultLimitMinutes) throws SQLException {
-        PlayerPlaytime current = getOrCreatePlayerPlaytimeForToday(username, todayDate, defaultLimitMinutes);
-        int updatedUsed = Math.max(0, current.dailyUsedMinutes() + deltaMinutes);
-
-        try (PreparedStatement statement = connection.prepareStatement("""
-                UPDATE player_playtime
-                SET daily_used_minutes = ?, last_reset_date = ?
-                WHERE username = ?
-                """)) {
-            statement.setInt(1, updatedUsed);
-            statement.setString(2, todayDate);
-            statement.setString(3, username);
-            statement.executeUpdate();
-        }
-
-        return new PlayerPlaytime(username, updatedUsed, current.limitOverrideMinutes(),
-                current.effectiveLimitMinutes(), todayDate);
+        SqlTimer started = startTimer();
+        PlayerPlaytime current = loadPlayerPlaytimeForToday(username, todayDate, defaultLimitMinutes);
+        PlayerPlaytime updated = writeDailyUsedMinutes(current, current.dailyUsedMinutes() + deltaMinutes, todayDate);
+        return finish(SqlOp.ADD_DAILY_USED_MINUTES_FOR_TODAY, started, updated);
     }
 
     synchronized PlayerPlaytime setDailyUsedMinutesForToday(String username, int minutes, String todayDate,
                                                             int defaultLimitMinutes) throws SQLException {
-        PlayerPlaytime current = getOrCreatePlayerPlaytimeForToday(username, todayDate, defaultLimitMinutes);
-        int normalizedMinutes = Math.max(0, minutes);
-
-        try (PreparedStatement statement = connection.prepareStatement("""
-                UPDATE player_playtime
-                SET daily_used_minutes = ?, last_reset_date = ?
-                WHERE username = ?
-                """)) {
-            statement.setInt(1, normalizedMinutes);
-            statement.setString(2, todayDate);
-            statement.setString(3, username);
-            statement.executeUpdate();
-        }
-
-        return new PlayerPlaytime(username, normalizedMinutes, current.limitOverrideMinutes(),
-                current.effectiveLimitMinutes(), todayDate);
+        SqlTimer started = startTimer();
+        PlayerPlaytime current = loadPlayerPlaytimeForToday(username, todayDate, defaultLimitMinutes);
+        PlayerPlaytime updated = writeDailyUsedMinutes(current, minutes, todayDate);
+        return finish(SqlOp.SET_DAILY_USED_MINUTES_FOR_TODAY, started, updated);
     }
 
     synchronized PlayerPlaytime setLimitOverrideMinutesForToday(String username, Integer limitOverrideMinutes,
                                                                 String todayDate,
                                                                 int defaultLimitMinutes) throws SQLException {
-        PlayerPlaytime current = getOrCreatePlayerPlaytimeForToday(username, todayDate, defaultLimitMinutes);
+        SqlTimer started = startTimer();
+        PlayerPlaytime current = loadPlayerPlaytimeForToday(username, todayDate, defaultLimitMinutes);
 
         try (PreparedStatement statement = connection.prepareStatement("""
                 UPDATE player_playtime
@@ -468,21 +1131,27 @@ final class SQLiteStore implements AutoCloseable {
 
         Integer normalizedOverride = limitOverrideMinutes == null ? null : Math.max(1, limitOverrideMinutes);
         int effectiveLimit = resolveEffectiveLimitMinutes(defaultLimitMinutes, normalizedOverride);
-        return new PlayerPlaytime(username, current.dailyUsedMinutes(), normalizedOverride, effectiveLimit, todayDate);
+        PlayerPlaytime updated = new PlayerPlaytime(username, current.dailyUsedMinutes(), normalizedOverride,
+                effectiveLimit, todayDate);
+        return finish(SqlOp.SET_LIMIT_OVERRIDE_MINUTES_FOR_TODAY, started, updated);
     }
 
     synchronized PlayerPlaytime resetDailyUsedMinutesForToday(String username, String todayDate,
                                                               int defaultLimitMinutes) throws SQLException {
-        return setDailyUsedMinutesForToday(username, 0, todayDate, defaultLimitMinutes);
+        SqlTimer started = startTimer();
+        PlayerPlaytime current = loadPlayerPlaytimeForToday(username, todayDate, defaultLimitMinutes);
+        PlayerPlaytime updated = writeDailyUsedMinutes(current, 0, todayDate);
+        return finish(SqlOp.RESET_DAILY_USED_MINUTES_FOR_TODAY, started, updated);
     }
 
     synchronized int resetAllDailyUsedMinutesForToday(String todayDate) throws SQLException {
+        SqlTimer started = startTimer();
         try (PreparedStatement statement = connection.prepareStatement("""
                 UPDATE player_playtime
                 SET daily_used_minutes = 0, last_reset_date = ?
                 """)) {
             statement.setString(1, todayDate);
-            return statement.executeUpdate();
+            return finish(SqlOp.RESET_ALL_DAILY_USED_MINUTES_FOR_TODAY, started, statement.executeUpdate());
         }
     }
 
@@ -491,9 +1160,13 @@ final class SQLiteStore implements AutoCloseable {
         connection.setAutoCommit(false);
 
         try (Statement deleteStatement = connection.createStatement();
+             PreparedStatement forgetRows = connection.prepareStatement(
+                     "DELETE FROM vocab_source_rows WHERE vocab_table = ?");
              PreparedStatement insert = connection.prepareStatement(
                      "INSERT INTO " + table + " (de, " + rightColumn + ") VALUES (?, ?)")) {
             deleteStatement.executeUpdate("DELETE FROM " + table);
+            forgetRows.setString(1, table);
+            forgetRows.executeUpdate();
             for (VocabEntry entry : entries) {
                 insert.setString(1, entry.left());
                 insert.setString(2, entry.right());
@@ -509,6 +1182,151 @@ final class SQLiteStore implements AutoCloseable {
         }
     }
 
+    private void deleteTrackingForWords(String trackingTable, List<VocabRow> deletedRows, Collection<VocabRow> keptRows)
+            throws SQLException {
+        Set<String> keptWords = new HashSet<>();
+        for (VocabRow row : keptRows) {
+            keptWords.add(row.de());
+        }
+
+        Set<String> removedWords = new LinkedHashSet<>();
+        for (VocabRow row : deletedRows) {
+            if (!keptWords.contains(row.de())) {
+                removedWords.add(row.de());
+            }
+        }
+        if (removedWords.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement rewards = connection.prepareStatement(
+                "DELETE FROM player_vocab_rewards WHERE vocab_table = ? AND de_word = ?");
+             PreparedStatement attempts = connection.prepareStatement(
+                     "DELETE FROM vocab_attempts WHERE vocab_table = ? AND de_word = ?");
+             PreparedStatement srs = connection.prepareStatement(
+                     "DELETE FROM player_vocab_srs WHERE vocab_table = ? AND de_word = ?")) {
+            for (String word : removedWords) {
+                rewards.setString(1, trackingTable);
+                rewards.setString(2, word);
+                rewards.addBatch();
+                attempts.setString(1, trackingTable);
+                attempts.setString(2, word);
+                attempts.addBatch();
+                srs.setString(1, trackingTable);
+                srs.setString(2, word);
+                srs.addBatch();
+            }
+            rewards.executeBatch();
+            attempts.executeBatch();
+            srs.executeBatch();
+        }
+    }
+
+    private void forgetSourceRows(String table, Collection<Long> vocabIds) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "DELETE FROM vocab_source_rows WHERE vocab_table = ? AND vocab_id = ?")) {
+            for (Long vocabId : vocabIds) {
+                statement.setString(1, table);
+                statement.setLong(2, vocabId);
+                statement.addBatch();
+            }
+            executeBatchIfAny(statement, vocabIds.size());
+        }
+    }
+
+    private void deleteItemRatings(String trackingTable, Collection<Long> vocabIds) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "DELETE FROM vocab_ratings WHERE vocab_table = ? AND vocab_id = ?")) {
+            for (Long vocabId : vocabIds) {
+                statement.setString(1, trackingTable);
+                statement.setLong(2, vocabId);
+                statement.addBatch();
+            }
+            executeBatchIfAny(statement, vocabIds.size());
+        }
+    }
+
+    private void renameTrackedWords(String trackingTable, List<VocabRow> previousRows, List<VocabRow> updatedRows)
+            throws SQLException {
+        if (previousRows.isEmpty()) {
+            return;
+        }
+
+        Map<Long, String> newWordById = new HashMap<>();
+        for (VocabRow row : updatedRows) {
+            newWordById.put(row.id(), row.de());
+        }
+
+        try (PreparedStatement rewards = connection.prepareStatement(
+                "UPDATE OR IGNORE player_vocab_rewards SET de_word = ? WHERE vocab_table = ? AND de_word = ?");
+             PreparedStatement attempts = connection.prepareStatement(
+                     "UPDATE vocab_attempts SET de_word = ? WHERE vocab_table = ? AND de_word = ?");
+             PreparedStatement srs = connection.prepareStatement(
+                     "UPDATE OR IGNORE player_vocab_srs SET de_word = ? WHERE vocab_table = ? AND de_word = ?")) {
+            for (VocabRow previous : previousRows) {
+                String renamed = newWordById.get(previous.id());
+                for (PreparedStatement statement : List.of(rewards, attempts, srs)) {
+                    statement.setString(1, renamed);
+                    statement.setString(2, trackingTable);
+                    statement.setString(3, previous.de());
+                    statement.addBatch();
+                }
+            }
+            rewards.executeBatch();
+            attempts.executeBatch();
+            srs.executeBatch();
+        }
+    }
+
+    private void executeBatchIfAny(PreparedStatement statement, int batchSize) throws SQLException {
+        if (batchSize > 0) {
+            statement.executeBatch();
+        }
+    }
+
+    private String syncKey(String deWord) {
+        return deWord == null ? "" : deWord.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void upsertVocabularySourceState(String table, VocabSourceState state) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO vocab_source_state (vocab_table, size_bytes, modified_millis, checksum, loaded_at)
+                VALUES (?, ?, ?, ?, datetime('now'))
+                ON CONFLICT(vocab_table) DO UPDATE SET
+                    size_bytes = excluded.size_bytes,
+                    modified_millis = excluded.modified_millis,
+                    checksum = excluded.checksum,
+                    loaded_at = excluded.loaded_at
+                """)) {
+            statement.setString(1, table);
+            statement.setLong(2, state.sizeBytes());
+            statement.setLong(3, state.modifiedMillis());
+            statement.setString(4, state.checksum());
+            statement.executeUpdate();
+        }
+    }
+
+    private VocabularyTable questTable(String vocabTable) throws SQLException {
+        if ("de_en".equals(vocabTable)) {
+            return new VocabularyTable("vocab_de_en", "en", "de_en");
+        }
+        if ("de_fr".equals(vocabTable)) {
+            return new VocabularyTable("vocab_de_fr", "fr", "de_fr");
+        }
+        throw new SQLException("Unsupported vocabulary table: " + vocabTable);
+    }
+
+    private VocabularyTable resolveVocabularyTable(String language, String operation) throws SQLException {
+        String normalizedLang = language == null ? "" : language.trim().toLowerCase();
+        if ("en".equals(normalizedLang)) {
+            return new VocabularyTable("vocab_de_en", "en", "de_en");
+        }
+        if ("fr".equals(normalizedLang)) {
+            return new VocabularyTable("vocab_de_fr", "fr", "de_fr");
+        }
+        throw new SQLException("Unsupported language for vocabulary " + operation + ": " + language);
+    }
+
     private int logUsers(Logger logger) throws SQLException {
         int rows = 0;
         logger.info("[DBDUMP] users:");
@@ -638,10 +1456,141 @@ final class SQLiteStore implements AutoCloseable {
         }
     }
 
+    // Untimed bodies shared by the playtime calls, so each public call records exactly one sample.
+    private PlayerPlaytime loadPlayerPlaytimeForToday(String username, String todayDate,
+                                                      int defaultLimitMinutes) throws SQLException {
+        ensurePlayerPlaytimeRow(username, todayDate);
+
+        String sql = """
+                SELECT daily_used_minutes, limit_override_minutes, last_reset_date
+                FROM player_playtime
+                WHERE username = ?
+                """;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, username);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new SQLException("Missing player_playtime row after ensure for user: " + username);
+                }
+
+                int dailyUsed = resultSet.getInt("daily_used_minutes");
+                int limitOverrideRaw = resultSet.getInt("limit_override_minutes");
+                Integer limitOverride = resultSet.wasNull() ? null : limitOverrideRaw;
+                String lastResetDate = resultSet.getString("last_reset_date");
+
+                if (!todayDate.equals(lastResetDate)) {
+                    dailyUsed = 0;
+                    lastResetDate = todayDate;
+                    try (PreparedStatement reset = connection.prepareStatement("""
+                            UPDATE player_playtime
+                            SET daily_used_minutes = 0, last_reset_date = ?
+                            WHERE username = ?
+                            """)) {
+                        reset.setString(1, todayDate);
+                        reset.setString(2, username);
+                        reset.executeUpdate();
+                    }
+                }
+
+                int effectiveLimit = resolveEffectiveLimitMinutes(defaultLimitMinutes, limitOverride);
+                return new PlayerPlaytime(username, dailyUsed, limitOverride, effectiveLimit, lastResetDate);
+            }
+        }
+    }
+
+    private PlayerPlaytime writeDailyUsedMinutes(PlayerPlaytime current, int minutes, String todayDate)
+            throws SQLException {
+        int normalizedMinutes = Math.max(0, minutes);
+        try (PreparedStatement statement = connection.prepareStatement("""
+                UPDATE player_playtime
+                SET daily_used_minutes = ?, last_reset_date = ?
+                WHERE username = ?
+                """)) {
+            statement.setInt(1, normalizedMinutes);
+            statement.setString(2, todayDate);
+            statement.setString(3, current.username());
+            statement.executeUpdate();
+        }
+
+        return new PlayerPlaytime(current.username(), normalizedMinutes, current.limitOverrideMinutes(),
+                current.effectiveLimitMinutes(), todayDate);
+    }
+
     private int resolveEffectiveLimitMinutes(int defaultLimitMinutes, Integer limitOverrideMinutes) {
         return limitOverrideMinutes == null ? defaultLimitMinutes : Math.max(1, limitOverrideMinutes);
     }
 
+    private SqlTimer startTimer() {
+        JfrEvents.SqlOperation event = new JfrEvents.SqlOperation();
+        event.begin();
+        return new SqlTimer(metrics.nanoTime(), event);
+    }
+
+    // Calls that throw are not timed; the histograms describe completed work.
+    private <T> T finish(SqlOp op, SqlTimer started, T result) {
+        return finish(op, started, result, null);
+    }
+
+    private <T> T finish(SqlOp op, SqlTimer started, T result, Object tables) {
+        record(op, started, tables, result == null ? 0 : rowCount(result));
+        return result;
+    }
+
+    private void done(SqlOp op, SqlTimer started) {
+        record(op, started, null, -1);
+    }
+
+    private void done(SqlOp op, SqlTimer started, Object tables) {
+        record(op, started, tables, -1);
+    }
+
+    private void record(SqlOp op, SqlTimer started, Object tables, int rows) {
+        sqlTimers[op.ordinal()].record(metrics.nanoTime() - started.startedNanos());
+        JfrEvents.SqlOperation event = started.event();
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = op.operation;
+            event.table = op.table != null ? op.table : tableName(tables);
+            event.rows = rows;
+            event.commit();
+        }
+    }
+
+    private static int rowCount(Object result) {
+        if (result instanceof Integer count) {
+            return count;
+        }
+        if (result instanceof Boolean changed) {
+            return changed ? 1 : 0;
+        }
+        if (result instanceof Collection<?> rows) {
+            return rows.size();
+        }
+        if (result instanceof VocabDiffSummary diff) {
+            return diff.inserted() + diff.deleted();
+        }
+        if (result instanceof VocabSyncSummary sync) {
+            return sync.inserted() + sync.updated() + sync.deleted();
+        }
+        if (result instanceof DumpSummary dump) {
+            return dump.users() + dump.deEnEntries() + dump.deFrEntries() + dump.rewards() + dump.attempts();
+        }
+        return 1;
+    }
+
+    // Language code ("en"), quest table ("de_en") or a collection of quest tables, as passed to the call.
+    private static String tableName(Object tables) {
+        if (tables instanceof Collection<?> vocabTables) {
+            List<String> names = new ArrayList<>();
+            for (Object vocabTable : vocabTables) {
+                names.add("vocab_" + vocabTable);
+            }
+            return String.join(",", names);
+        }
+        String name = tables == null ? "" : tables.toString().trim().toLowerCase(Locale.ROOT);
+        return name.startsWith("de_") ? "vocab_" + name : "vocab_de_" + name;
+    }
+
     @Override
     public synchronized void close() throws SQLException {
         connection.close();
@@ -0,0 +1,218 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Elo ratings for vocabulary items (difficulty) and players (skill). Every attempt is one game
+ * between the player and the item. Item ratings live in primitive arrays indexed by vocab id, one
+ * pair of arrays per vocabulary table; changed slots are tracked in bitsets and written back by
+ * drainDirty() on a timer instead of on every answer. An instance belongs to one ratings version (the
+ * rating tables were not flushed since) and one tracking version (no vocabulary rows were deleted since).
+ */
+final class SkillRatings {
+    static final double INITIAL_RATING = 1500d;
+    private static final double MIN_K = 12d;
+    private static final double MAX_K = 48d;
+    private static final int INITIAL_ITEM_CAPACITY = 256;
+
+    record Dirty(List<SQLiteStore.ItemRating> items, List<SQLiteStore.PlayerRating> players) {
+        boolean isEmpty() {
+            return items.isEmpty() && players.isEmpty();
+        }
+    }
+
+    private final long ratingsVersion;
+    private final long trackingVersion;
+    private final Map<String, ItemTable> itemTables = new HashMap<>();
+    private final Map<String, Integer> playerSlots = new HashMap<>();
+    private String[] playerNames = new String[16];
+    private double[] playerRatings = new double[16];
+    private int[] playerGames = new int[16];
+    private final BitSet dirtyPlayers = new BitSet();
+
+    SkillRatings(long ratingsVersion, long trackingVersion) {
+        this.ratingsVersion = ratingsVersion;
+        this.trackingVersion = trackingVersion;
+    }
+
+    long ratingsVersion() {
+        return ratingsVersion;
+    }
+
+    long trackingVersion() {
+        return trackingVersion;
+    }
+
+    static double expectedSuccess(double playerRating, double itemRating) {
+        return 1d / (1d + Math.pow(10d, (itemRating - playerRating) / 400d));
+    }
+
+    synchronized void loadItems(Collection<SQLiteStore.ItemRating> ratings) {
+        for (SQLiteStore.ItemRating rating : ratings) {
+            ItemTable table = itemTable(rating.vocabTable());
+            int id = checkedId(rating.vocabId());
+            table.ensureCapacity(id);
+            table.ratings[id] = rating.rating();
+            table.games[id] = rating.games();
+        }
+    }
+
+    // Same players (including unsaved changes), item ratings replaced, e.g. after vocabulary rows were deleted.
+    synchronized SkillRatings withItems(long trackingVersion, Collection<SQLiteStore.ItemRating> items) {
+        SkillRatings copy = new SkillRatings(ratingsVersion, trackingVersion);
+        copy.loadItems(items);
+        copy.playerSlots.putAll(playerSlots);
+        copy.playerNames = playerNames.clone();
+        copy.playerRatings = playerRatings.clone();
+        copy.playerGames = playerGames.clone();
+        copy.dirtyPlayers.or(dirtyPlayers);
+        return copy;
+    }
+
+    synchronized void loadPlayer(SQLiteStore.PlayerRating rating) {
+        int slot = playerSlot(rating.username());
+        playerRatings[slot] = rating.rating();
+        playerGames[slot] = rating.games();
+    }
+
+    synchronized boolean hasPlayer(String username) {
+        return playerSlots.containsKey(username);
+    }
+
+    synchronized double itemRating(String vocabTable, long vocabId) {
+        ItemTable table = itemTables.get(vocabTable);
+        if (table == null || vocabId < 0 || vocabId >= table.ratings.length) {
+            return INITIAL_RATING;
+        }
+        return table.ratings[(int) vocabId];
+    }
+
+    synchronized double playerRating(String username) {
+        Integer slot = playerSlots.get(username);
+        return slot == null ? INITIAL_RATING : playerRatings[slot];
+    }
+
+    synchronized void recordOutcome(String username, String vocabTable, long vocabId, boolean correct) {
+        ItemTable table = itemTable(vocabTable);
+        int id = checkedId(vocabId);
+        table.ensureCapacity(id);
+        int player = playerSlot(username);
+
+        double expected = expectedSuccess(playerRatings[player], table.ratings[id]);
+        double delta = (correct ? 1d : 0d) - expected;
+        playerRatings[player] += kFactor(playerGames[player]) * delta;
+        table.ratings[id] -= kFactor(table.games[id]) * delta;
+        playerGames[player]++;
+        table.games[id]++;
+        dirtyPlayers.set(player);
+        table.dirty.set(id);
+    }
+
+    synchronized Dirty drainDirty() {
+        List<SQLiteStore.ItemRating> items = new ArrayList<>();
+        for (Map.Entry<String, ItemTable> entry : itemTables.entrySet()) {
+            ItemTable table = entry.getValue();
+            for (int id = table.dirty.nextSetBit(0); id >= 0; id = table.dirty.nextSetBit(id + 1)) {
+                items.add(new SQLiteStore.ItemRating(entry.getKey(), id, table.ratings[id], table.games[id]));
+            }
+            table.dirty.clear();
+        }
+
+        List<SQLiteStore.PlayerRating> players = new ArrayList<>();
+        for (int slot = dirtyPlayers.nextSetBit(0); slot >= 0; slot = dirtyPlayers.nextSetBit(slot + 1)) {
+            players.add(new SQLiteStore.PlayerRating(playerNames[slot], playerRatings[slot], playerGames[slot]));
+        }
+        dirtyPlayers.clear();
+        return new Dirty(items, players);
+    }
+
+    // Ratings changed in memory but not yet written by drainDirty().
+    synchronized int pendingWrites() {
+        int pending = dirtyPlayers.cardinality();
+        for (ItemTable table : itemTables.values()) {
+            pending += table.dirty.cardinality();
+        }
+        return pending;
+    }
+
+    // Puts a failed write back so the next flush retries it.
+    synchronized void markDirty(Dirty dirty) {
+        for (SQLiteStore.ItemRating item : dirty.items()) {
+            ItemTable table = itemTables.get(item.vocabTable());
+            if (table != null) {
+                table.dirty.set((int) item.vocabId());
+            }
+        }
+        for (SQLiteStore.PlayerRating player : dirty.players()) {
+            Integer slot = playerSlots.get(player.username());
+            if (slot != null) {
+                dirtyPlayers.set(slot);
+            }
+        }
+    }
+
+    // New ratings move fast, settled ones slowly.
+    private static double kFactor(int games) {
+        return Math.max(MIN_K, MAX_K / (1d + games / 20d));
+    }
+
+    private static int checkedId(long vocabId) {
+        if (vocabId < 0 || vocabId > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Vocabulary id out of range: " + vocabId);
+        }
+        return (int) vocabId;
+    }
+
+    private ItemTable itemTable(String vocabTable) {
+        return itemTables.computeIfAbsent(vocabTable, ignored -> new ItemTable());
+    }
+
+    private int playerSlot(String username) {
+        Integer existing = playerSlots.get(username);
+        if (existing != null) {
+            return existing;
+        }
+
+        int slot = playerSlots.size();
+        if (slot == playerRatings.length) {
+            int capacity = slot * 2;
+            playerNames = Arrays.copyOf(playerNames, capacity);
+            playerRatings = Arrays.copyOf(playerRatings, capacity);
+            playerGames = Arrays.copyOf(playerGames, capacity);
+        }
+        playerSlots.put(username, slot);
+        playerNames[slot] = username;
+        playerRatings[slot] = INITIAL_RATING;
+        playerGames[slot] = 0;
+        return slot;
+    }
+
+    private static final class ItemTable {
+        private double[] ratings = filled(new double[INITIAL_ITEM_CAPACITY]);
+        private int[] games = new int[INITIAL_ITEM_CAPACITY];
+        private final BitSet dirty = new BitSet();
+
+        void ensureCapacity(int id) {
+            if (id < ratings.length) {
+                return;
+            }
+
+            int capacity = Math.max(id + 1, ratings.length * 2);
+            int previous = ratings.length;
+            ratings = Arrays.copyOf(ratings, capacity);
+            Arrays.fill(ratings, previous, capacity, INITIAL_RATING);
+            games = Arrays.copyOf(games, capacity);
+        }
+
+        private static double[] filled(double[] values) {
+            Arrays.fill(values, INITIAL_RATING);
+            return values;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+/*
+ * Times every statement SQLiteStore runs by wrapping its connection in JDK proxies. A statement that
+ * takes at least the threshold is logged with its SQL and the types of its bound parameters (never the
+ * values). The first slow run of each distinct SQL also logs its EXPLAIN QUERY PLAN, so a table scan
+ * shows up next to the statement that caused it. Query time covers execution plus stepping the result
+ * set until it is closed, because SQLite does most of the work in next(). A result set that is never
+ * closed itself is reported when its statement is closed or executed again, which closes it implicitly.
+ * The plugin only builds one when sqlite.slow_query_threshold_millis is above zero.
+ */
+final class SlowQueryLog {
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final long thresholdNanos;
+    private final Logger logger;
+    private final LongSupplier nanoClock;
+    private final Set<String> explained = ConcurrentHashMap.newKeySet();
+
+    SlowQueryLog(long thresholdNanos, Logger logger) {
+        this(thresholdNanos, logger, System::nanoTime);
+    }
+
+    SlowQueryLog(long thresholdNanos, Logger logger, LongSupplier nanoClock) {
+        this.thresholdNanos = thresholdNanos;
+        this.logger = logger;
+        this.nanoClock = nanoClock;
+    }
+
+    Connection wrap(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof PreparedStatement statement && "prepareStatement".equals(method.getName())) {
+                return proxy(PreparedStatement.class, new PreparedHandler(connection, statement, (String) args[0]));
+            }
+            if (result instanceof Statement statement && "createStatement".equals(method.getName())) {
+                return proxy(Statement.class, new StatementHandler(connection, statement));
+            }
+            return result;
+        });
+    }
+
+    private void report(Connection connection, String sql, String parameterShape, long elapsedNanos) {
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder("Slow SQL (")
+                .append(PluginMetrics.formatNanos(elapsedNanos))
+                .append(", params ")
+                .append(parameterShape)
+                .append("): ")
+                .append(oneLine(sql));
+        if (explained.add(sql)) {
+            message.append(" | plan: ").append(explain(connection, sql));
+        }
+        logger.warning(message.toString());
+    }
+
+    private static String explain(Connection connection, String sql) {
+        List<String> details = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN QUERY PLAN " + sql);
+             ResultSet rows = statement.executeQuery()) {
+            while (rows.next()) {
+                details.add(rows.getString("detail"));
+            }
+        } catch (SQLException e) {
+            return "unavailable (" + e.getMessage() + ")";
+        }
+        return details.isEmpty() ? "(none)" : String.join("; ", details);
+    }
+
+    static String oneLine(String sql) {
+        return sql.strip().replaceAll("\\s+", " ");
+    }
+
+    private long elapsedSince(long started) {
+        return nanoClock.getAsLong() - started;
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SlowQueryLog.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Closing a statement closes its open result set without going through our proxy.
+    private static Object closeStatement(Statement statement, ResultSetHandler openRows, Method method, Object[] args)
+            throws Throwable {
+        try {
+            return invoke(statement, method, args);
+        } finally {
+            finishOpenRows(openRows);
+        }
+    }
+
+    private static void finishOpenRows(ResultSetHandler openRows) {
+        if (openRows != null) {
+            openRows.finish();
+        }
+    }
+
+    private final class PreparedHandler implements InvocationHandler {
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private final String sql;
+        private final TreeMap<Integer, String> parameterTypes = new TreeMap<>();
+        private int batchSize;
+        private ResultSetHandler openRows;
+
+        PreparedHandler(Connection connection, PreparedStatement statement, String sql) {
+            this.connection = connection;
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameterTypes.put(index, name.substring(3));
+            } else if ("clearParameters".equals(name)) {
+                parameterTypes.clear();
+            } else if ("addBatch".equals(name)) {
+                batchSize++;
+            } else if ("clearBatch".equals(name)) {
+                batchSize = 0;
+            } else if ("close".equals(name)) {
+                return closeStatement(statement, openRows, method, args);
+            } else if (EXECUTE_METHODS.contains(name)) {
+                return timed(method, args);
+            }
+            return SlowQueryLog.invoke(statement, method, args);
+        }
+
+        private Object timed(Method method, Object[] args) throws Throwable {
+            finishOpenRows(openRows);
+            openRows = null;
+            String shape = parameterShape();
+            if ("executeBatch".equals(method.getName()) || "executeLargeBatch".equals(method.getName())) {
+                shape += " x" + batchSize;
+                batchSize = 0;
+            }
+
+            long started = nanoClock.getAsLong();
+            Object result = SlowQueryLog.invoke(statement, method, args);
+            if (result instanceof ResultSet rows) {
+                openRows = new ResultSetHandler(connection, rows, sql, shape, elapsedSince(started));
+                return proxy(ResultSet.class, openRows);
+            }
+            report(connection, sql, shape, elapsedSince(started));
+            return result;
+        }
+
+        private String parameterShape() {
+            return "(" + String.join(", ", parameterTypes.values()) + ")";
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Connection connection;
+        private final Statement statement;
+        private ResultSetHandler openRows;
+
+        StatementHandler(Connection connection, Statement statement) {
+            this.connection = connection;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("close".equals(method.getName())) {
+                return closeStatement(statement, openRows, method, args);
+            }
+            if (!EXECUTE_METHODS.contains(method.getName()) || args == null || !(args[0] instanceof String sql)) {
+                return SlowQueryLog.invoke(statement, method, args);
+            }
+
+            finishOpenRows(openRows);
+            openRows = null;
+            long started = nanoClock.getAsLong();
+            Object result = SlowQueryLog.invoke(statement, method, args);
+            if (result instanceof ResultSet rows) {
+                openRows = new ResultSetHandler(connection, rows, sql, "()", elapsedSince(started));
+                return proxy(ResultSet.class, openRows);
+            }
+            report(connection, sql, "()", elapsedSince(started));
+            return result;
+        }
+    }
+
+    private final class ResultSetHandler implements InvocationHandler {
+        private final Connection connection;
+        private final ResultSet rows;
+        private final String sql;
+        private final String shape;
+        private long elapsedNanos;
+        private boolean reported;
+
+        ResultSetHandler(Connection connection, ResultSet rows, String sql, String shape, long executeNanos) {
+            this.connection = connection;
+            this.rows = rows;
+            this.sql = sql;
+            this.shape = shape;
+            this.elapsedNanos = executeNanos;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("next".equals(method.getName())) {
+                long started = nanoClock.getAsLong();
+                try {
+                    return SlowQueryLog.invoke(rows, method, args);
+                } finally {
+                    elapsedNanos += elapsedSince(started);
+                }
+            }
+            if ("close".equals(method.getName())) {
+                try {
+                    return SlowQueryLog.invoke(rows, method, args);
+                } finally {
+                    finish();
+                }
+            }
+            return SlowQueryLog.invoke(rows, method, args);
+        }
+
+        void finish() {
+            if (!reported) {
+                reported = true;
+                report(connection, sql, shape, elapsedNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Leitner boxes per online player. A correct answer moves a word one box up, a wrong one back to
+ * box 1; the box decides when the word is due again. Each player keeps a min-heap on due time with
+ * lazy deletion (a heap entry is only valid while it is still the player's current card), so
+ * finding due words touches only the due prefix of each heap instead of the whole vocabulary.
+ */
+final class SpacedRepetitionScheduler {
+    static final int MAX_BOX = 5;
+    private static final long MINUTE = 60_000L;
+    private static final long[] BOX_INTERVAL_MILLIS = {
+            0L,
+            10 * MINUTE,
+            60 * MINUTE,
+            24 * 60 * MINUTE,
+            3 * 24 * 60 * MINUTE,
+            7 * 24 * 60 * MINUTE
+    };
+
+    record DueWord(String vocabTable, String deWord, int duePlayers, long earliestDueAtMillis) {
+    }
+
+    private final ConcurrentHashMap<String, PlayerDeck> decks = new ConcurrentHashMap<>();
+
+    void load(String username, long trackingVersion, Collection<SQLiteStore.SrsCard> cards) {
+        decks.put(username, new PlayerDeck(trackingVersion, cards));
+    }
+
+    boolean isLoaded(String username, long trackingVersion) {
+        PlayerDeck deck = decks.get(username);
+        return deck != null && deck.trackingVersion == trackingVersion;
+    }
+
+    void evict(String username) {
+        decks.remove(username);
+    }
+
+    static SQLiteStore.SrsCard nextCard(SQLiteStore.SrsCard current, String vocabTable, String deWord,
+                                        boolean correct, long nowMillis) {
+        int box;
+        if (!correct) {
+            box = 1;
+        } else if (current == null) {
+            box = 2;
+        } else {
+            box = Math.min(MAX_BOX, current.box() + 1);
+        }
+        return new SQLiteStore.SrsCard(vocabTable, deWord, box, nowMillis + BOX_INTERVAL_MILLIS[box]);
+    }
+
+    // Returns the card to persist, or null when the player's deck is not loaded for this version.
+    SQLiteStore.SrsCard review(String username, long trackingVersion, String vocabTable, String deWord,
+                               boolean correct, long nowMillis) {
+        PlayerDeck deck = decks.get(username);
+        if (deck == null || deck.trackingVersion != trackingVersion) {
+            return null;
+        }
+        return deck.review(vocabTable, deWord, correct, nowMillis);
+    }
+
+    SQLiteStore.SrsCard card(String username, String vocabTable, String deWord) {
+        PlayerDeck deck = decks.get(username);
+        return deck == null ? null : deck.card(vocabTable, deWord);
+    }
+
+    void forget(String vocabTable, String deWord) {
+        for (PlayerDeck deck : decks.values()) {
+            deck.forget(vocabTable, deWord);
+        }
+    }
+
+    /*
+     * Words due for the given players, most due players first, then the longest overdue. At most
+     * perPlayerLimit due words are taken from each heap.
+     */
+    List<DueWord> dueWords(List<String> usernames, long nowMillis, int perPlayerLimit) {
+        Map<String, DueWord> byKey = new HashMap<>();
+        for (String username : usernames) {
+            PlayerDeck deck = decks.get(username);
+            if (deck == null) {
+                continue;
+            }
+
+            for (SQLiteStore.SrsCard card : deck.due(nowMillis, perPlayerLimit)) {
+                byKey.merge(key(card.vocabTable(), card.deWord()),
+                        new DueWord(card.vocabTable(), card.deWord(), 1, card.dueAtMillis()),
+                        (a, b) -> new DueWord(a.vocabTable(), a.deWord(), a.duePlayers() + 1,
+                                Math.min(a.earliestDueAtMillis(), b.earliestDueAtMillis())));
+            }
+        }
+
+        List<DueWord> due = new ArrayList<>(byKey.values());
+        due.sort((a, b) -> a.duePlayers() != b.duePlayers()
+                ? Integer.compare(b.duePlayers(), a.duePlayers())
+                : Long.compare(a.earliestDueAtMillis(), b.earliestDueAtMillis()));
+        return due;
+    }
+
+    private static String key(String vocabTable, String deWord) {
+        return vocabTable + '\n' + deWord;
+    }
+
+    private static final class PlayerDeck {
+        private final long trackingVersion;
+        private final Map<String, SQLiteStore.SrsCard> cards = new HashMap<>();
+        private final PriorityQueue<SQLiteStore.SrsCard> dueHeap =
+                new PriorityQueue<>((a, b) -> Long.compare(a.dueAtMillis(), b.dueAtMillis()));
+
+        PlayerDeck(long trackingVersion, Collection<SQLiteStore.SrsCard> initialCards) {
+            this.trackingVersion = trackingVersion;
+            for (SQLiteStore.SrsCard card : initialCards) {
+                cards.put(key(card.vocabTable(), card.deWord()), card);
+            }
+            dueHeap.addAll(cards.values());
+        }
+
+        synchronized SQLiteStore.SrsCard review(String vocabTable, String deWord, boolean correct, long nowMillis) {
+            String key = key(vocabTable, deWord);
+            SQLiteStore.SrsCard next = nextCard(cards.get(key), vocabTable, deWord, correct, nowMillis);
+            cards.put(key, next);
+            dueHeap.add(next);
+            compactIfNeeded();
+            return next;
+        }
+
+        synchronized SQLiteStore.SrsCard card(String vocabTable, String deWord) {
+            return cards.get(key(vocabTable, deWord));
+        }
+
+        synchronized void forget(String vocabTable, String deWord) {
+            cards.remove(key(vocabTable, deWord));
+        }
+
+        synchronized List<SQLiteStore.SrsCard> due(long nowMillis, int limit) {
+            List<SQLiteStore.SrsCard> due = new ArrayList<>();
+            while (!dueHeap.isEmpty() && due.size() < limit) {
+                SQLiteStore.SrsCard head = dueHeap.peek();
+                if (cards.get(key(head.vocabTable(), head.deWord())) != head) {
+                    dueHeap.poll();
+                    continue;
+                }
+                if (head.dueAtMillis() > nowMillis) {
+                    break;
+                }
+                due.add(dueHeap.poll());
+            }
+            dueHeap.addAll(due);
+            return due;
+        }
+
+        private void compactIfNeeded() {
+            if (dueHeap.size() <= cards.size() * 2 + 16) {
+                return;
+            }
+            dueHeap.clear();
+            dueHeap.addAll(cards.values());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+/*
+ * Decides whether deferrable plugin work (timed quest starts, prefetches, imports, maintenance) may run
+ * now. While the server's average tick time is above the budget, admit() says no and counts a deferral;
+ * callers retry later. A job that has been deferred for maxDeferralNanos runs anyway, so a server that
+ * lags for a long time still gets its imports and saves. The deferral window is kept per instance (a
+ * channel, a player, a language), so one instance being admitted does not restart another's window.
+ * Critical work (kicks, quest timeouts) never asks. A budget of zero or less turns the guard off.
+ */
+final class TickBudgetMonitor {
+    private final DoubleSupplier averageTickMillis;
+    private final double budgetMillis;
+    private final long maxDeferralNanos;
+    private final PluginMetrics metrics;
+    private final ConcurrentHashMap<Deferral, Long> deferredSince = new ConcurrentHashMap<>();
+
+    private record Deferral(String work, String instance) {
+    }
+
+    TickBudgetMonitor(DoubleSupplier averageTickMillis, double budgetMillis, long maxDeferralNanos,
+                      PluginMetrics metrics) {
+        this.averageTickMillis = averageTickMillis;
+        this.budgetMillis = budgetMillis;
+        this.maxDeferralNanos = maxDeferralNanos;
+        this.metrics = metrics;
+    }
+
+    double averageTickMillis() {
+        return averageTickMillis.getAsDouble();
+    }
+
+    boolean isOverBudget() {
+        return budgetMillis > 0d && averageTickMillis() > budgetMillis;
+    }
+
+    // For work that only ever has one instance, like the periodic ratings save.
+    boolean admit(String work) {
+        return admit(work, "");
+    }
+
+    boolean admit(String work, String instance) {
+        Deferral deferral = new Deferral(work, instance);
+        if (!isOverBudget()) {
+            deferredSince.remove(deferral);
+            return true;
+        }
+
+        long now = metrics.nanoTime();
+        long since = deferredSince.computeIfAbsent(deferral, ignored -> now);
+        if (now - since >= maxDeferralNanos) {
+            deferredSince.remove(deferral);
+            metrics.increment("deferred_forced." + work);
+            return true;
+        }
+        metrics.increment("deferred." + work);
+        return false;
+    }
+
+    // Drops the window of an instance that will not ask again, e.g. a prefetch for a player who left.
+    void forget(String work, String instance) {
+        deferredSince.remove(new Deferral(work, instance));
+    }
+}
@@ -2,14 +2,15 @@ package io.github.stuttgartnerd.vocabularyquest;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -24,34 +25,36 @@ final class VocabularyCsvImport {
         }
     }
 
-    static List<SQLiteStore.VocabEntry> loadFromUrl(String sourceUrl, int connectTimeoutSeconds,
-                                                    int readTimeoutSeconds, String leftHeader, String rightHeader,
-                                                    Logger logger) throws IOException {
-        HttpURLConnection connection = null;
+    // The caller owns the fetcher so one HttpClient (and its connection pool) serves a whole import run.
+    static List<SQLiteStore.VocabEntry> loadFromUrl(VocabularyHttpFetcher fetcher, String sourceUrl,
+                                                    String leftHeader, String rightHeader, Logger logger)
+            throws IOException {
+        return fetcher.fetch(sourceUrl, leftHeader, rightHeader, logger);
+    }
+
+    static List<SQLiteStore.VocabEntry> loadFromStream(InputStream in, String sourceName, String leftHeader,
+                                                       String rightHeader, Logger logger) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        return parse(reader, sourceName, leftHeader, rightHeader, logger);
+    }
+
+    static String checksum(Path path) throws IOException {
+        MessageDigest digest;
         try {
-            URI uri = new URI(sourceUrl);
-            connection = (HttpURLConnection) uri.toURL().openConnection();
-            connection.setRequestMethod("GET");
-            connection.setConnectTimeout(connectTimeoutSeconds * 1000);
-            connection.setReadTimeout(readTimeoutSeconds * 1000);
-            connection.setDoInput(true);
-
-            int statusCode = connection.getResponseCode();
-            if (statusCode < 200 || statusCode >= 300) {
-                throw new IOException("Unexpected HTTP status " + statusCode + " while loading " + sourceUrl);
-            }
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("SHA-256 is not available", e);
+        }
 
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
-                return parse(reader, sourceUrl, leftHeader, rightHeader, logger);
-            }
-        } catch (URISyntaxException e) {
-            throw new IOException("Invalid URL syntax: " + sourceUrl, e);
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(path)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
             }
         }
+
+        return HexFormat.of().formatHex(digest.digest());
     }
 
     private static List<SQLiteStore.VocabEntry> parse(BufferedReader reader, String sourceName, String leftHeader,
@@ -0,0 +1,142 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+final class VocabularyFileWatcher implements AutoCloseable {
+    private final Path directory;
+    private final long debounceMillis;
+    private final Predicate<Path> relevantFile;
+    private final Consumer<Path> onChange;
+    private final Logger logger;
+    private WatchService watchService;
+    private Thread thread;
+
+    VocabularyFileWatcher(Path directory, long debounceMillis, Predicate<Path> relevantFile, Consumer<Path> onChange,
+                          Logger logger) {
+        this.directory = directory;
+        this.debounceMillis = Math.max(0L, debounceMillis);
+        this.relevantFile = relevantFile;
+        this.onChange = onChange;
+        this.logger = logger;
+    }
+
+    synchronized void start() throws IOException {
+        if (thread != null) {
+            return;
+        }
+
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+
+        WatchService service = watchService;
+        thread = new Thread(() -> watchLoop(service), "VocabularyQuest-vocabulary-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void close() {
+        Thread running;
+        synchronized (this) {
+            running = thread;
+            thread = null;
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException e) {
+                    logger.log(Level.FINE, "Failed to close vocabulary watch service.", e);
+                }
+                watchService = null;
+            }
+        }
+
+        if (running != null && running != Thread.currentThread()) {
+            running.interrupt();
+            try {
+                running.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void watchLoop(WatchService service) {
+        Set<Path> pending = new LinkedHashSet<>();
+        long quietDeadline = 0L;
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key;
+                if (pending.isEmpty()) {
+                    key = service.take();
+                } else {
+                    long waitMillis = quietDeadline - System.currentTimeMillis();
+                    key = waitMillis > 0L ? service.poll(waitMillis, TimeUnit.MILLISECONDS) : null;
+                }
+
+                if (key != null) {
+                    collectChanges(key.pollEvents(), pending);
+                    key.reset();
+                    quietDeadline = System.currentTimeMillis() + debounceMillis;
+                    continue;
+                }
+
+                dispatchAll(pending);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+        }
+    }
+
+    // Adds the relevant files among the events to pending; a file edited several times is kept once.
+    void collectChanges(List<WatchEvent<?>> events, Set<Path> pending) {
+        for (WatchEvent<?> event : events) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                logger.warning("Vocabulary file watcher overflowed; some edits may need a restart to apply.");
+                continue;
+            }
+
+            if (event.context() instanceof Path relative) {
+                Path changed = directory.resolve(relative);
+                if (relevantFile.test(changed)) {
+                    pending.add(changed);
+                }
+            }
+        }
+    }
+
+    // Runs onChange once per pending file, in the order they were first seen, and empties pending.
+    void dispatchAll(Set<Path> pending) {
+        for (Path changed : pending) {
+            dispatch(changed);
+        }
+        pending.clear();
+    }
+
+    private void dispatch(Path changed) {
+        try {
+            onChange.accept(changed);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Failed to apply change to " + changed.getFileName() + ".", e);
+        }
+    }
+}
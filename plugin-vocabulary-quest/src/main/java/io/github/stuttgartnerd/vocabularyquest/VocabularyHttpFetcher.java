@@ -0,0 +1,166 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+
+final class VocabularyHttpFetcher implements AutoCloseable {
+    private static final String ACCEPT_ENCODING = "gzip";
+    private static final String ACCEPT = "text/csv, text/plain;q=0.9, */*;q=0.5";
+
+    private final HttpClient client;
+    private final Duration readTimeout;
+
+    VocabularyHttpFetcher(int connectTimeoutSeconds, int readTimeoutSeconds) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(Math.max(1, connectTimeoutSeconds)))
+                .build();
+        this.readTimeout = Duration.ofSeconds(Math.max(1, readTimeoutSeconds));
+    }
+
+    List<SQLiteStore.VocabEntry> fetch(String sourceUrl, String leftHeader, String rightHeader, Logger logger)
+            throws IOException {
+        URI uri;
+        try {
+            uri = new URI(sourceUrl);
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid URL syntax: " + sourceUrl, e);
+        }
+
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(uri)
+                    .GET()
+                    .timeout(readTimeout)
+                    .header("Accept-Encoding", ACCEPT_ENCODING)
+                    .header("Accept", ACCEPT)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unsupported URL: " + sourceUrl, e);
+        }
+
+        // The request timeout covers the response headers; the body is parsed while it streams in, and
+        // read timeout then means "no bytes for that long", so a slow but healthy download still finishes.
+        HttpResponse<InputStream> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading " + sourceUrl, e);
+        }
+
+        try (InputStream raw = response.body()) {
+            int statusCode = response.statusCode();
+            if (!isSuccess(statusCode)) {
+                throw new IOException("Unexpected HTTP status " + statusCode + " while loading " + sourceUrl);
+            }
+
+            InputStream guarded = new StallGuard(raw, readTimeout, sourceUrl);
+            try (InputStream body = isGzip(response) ? new GZIPInputStream(guarded, 64 * 1024) : guarded) {
+                return VocabularyCsvImport.loadFromStream(body, sourceUrl, leftHeader, rightHeader, logger);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private static boolean isGzip(HttpResponse<?> response) {
+        return response.headers()
+                .firstValue("Content-Encoding")
+                .map(value -> ACCEPT_ENCODING.equalsIgnoreCase(value.trim()))
+                .orElse(false);
+    }
+
+    private static boolean isSuccess(int statusCode) {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /*
+     * Closes the response body once no bytes have arrived for the timeout. Closing the JDK body stream
+     * cancels the exchange and wakes up the blocked read, which then fails instead of ending the CSV early.
+     */
+    private static final class StallGuard extends FilterInputStream {
+        private final long timeoutNanos;
+        private final String sourceUrl;
+        private volatile long lastProgressNanos = System.nanoTime();
+        private volatile boolean stalled;
+        private volatile boolean closed;
+
+        StallGuard(InputStream in, Duration timeout, String sourceUrl) {
+            super(in);
+            this.timeoutNanos = timeout.toNanos();
+            this.sourceUrl = sourceUrl;
+            schedule(timeoutNanos);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            int read = read(one, 0, 1);
+            return read < 0 ? read : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read;
+            try {
+                read = in.read(buffer, offset, length);
+            } catch (IOException e) {
+                throw stalled ? stallFailure(e) : e;
+            }
+            if (stalled) {
+                throw stallFailure(null);
+            }
+            lastProgressNanos = System.nanoTime();
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+
+        private void schedule(long delayNanos) {
+            CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(this::check);
+        }
+
+        private void check() {
+            if (closed) {
+                return;
+            }
+            long idleNanos = System.nanoTime() - lastProgressNanos;
+            if (idleNanos < timeoutNanos) {
+                schedule(timeoutNanos - idleNanos);
+                return;
+            }
+            stalled = true;
+            try {
+                in.close();
+            } catch (IOException ignored) {
+                // The blocked read reports the stall.
+            }
+        }
+
+        private IOException stallFailure(IOException cause) {
+            return new IOException("No data for " + TimeUnit.NANOSECONDS.toSeconds(timeoutNanos)
+                    + "s while loading " + sourceUrl, cause);
+        }
+    }
+}
@@ -10,10 +10,12 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.command.RemoteConsoleCommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
@@ -25,11 +27,14 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.SQLException;
+import java.time.Clock;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
@@ -44,37 +49,103 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
     private static final String PLAYTIME_COMMAND = "playtime";
     private static final String ANSWER_COMMAND = "answer";
     private static final String QUEST_NOW_COMMAND = "questnow";
+    private static final String PERSONAL_QUEST_COMMAND = "quest";
+    private static final String STATS_COMMAND = "vqstats";
+    private static final String PERSONAL_QUEST_CHANNEL = "personal";
     private static final String CONFIG_SHEET_URL_EN = "vocab_import.sheet_urls.en";
     private static final String CONFIG_SHEET_URL_FR = "vocab_import.sheet_urls.fr";
+    private static final String CONFIG_IMPORT_MODE = "vocab_import.mode";
     private static final String CONFIG_HTTP_CONNECT_TIMEOUT_SECONDS = "vocab_import.http.connect_timeout_seconds";
     private static final String CONFIG_HTTP_READ_TIMEOUT_SECONDS = "vocab_import.http.read_timeout_seconds";
+    private static final String CONFIG_VOCAB_FILES_WATCH_ENABLED = "vocab_files.watch_enabled";
+    private static final String CONFIG_VOCAB_FILES_WATCH_DEBOUNCE_MILLIS = "vocab_files.watch_debounce_millis";
+    private static final String CONFIG_TYPO_TOLERANCE_PREFIX = "answer_matching.typo_tolerance.";
+    private static final String CONFIG_ANSWER_RATE_LIMIT_ENABLED = "answer_rate_limit.enabled";
+    private static final String CONFIG_ANSWER_RATE_LIMIT_BURST = "answer_rate_limit.burst";
+    private static final String CONFIG_ANSWER_RATE_LIMIT_REFILL_PER_SECOND = "answer_rate_limit.refill_per_second";
+    private static final String CONFIG_QUEST_SELECTION_STRATEGY = "quest_selection.strategy";
+    private static final String CONFIG_QUEST_CHANNELS = "quest_channels";
+    private static final String CONFIG_TARGET_SUCCESS_PROBABILITY = "quest_selection.target_success_probability";
+    private static final String CONFIG_RATINGS_SAVE_INTERVAL_SECONDS = "quest_selection.ratings_save_interval_seconds";
+    private static final String CONFIG_PERSONAL_QUESTS_ENABLED = "personal_quests.enabled";
+    private static final String CONFIG_PERSONAL_QUESTS_TIMEOUT_SECONDS = "personal_quests.timeout_seconds";
+    private static final String CONFIG_PERSONAL_QUESTS_COOLDOWN_SECONDS = "personal_quests.cooldown_seconds";
+    private static final String CONFIG_PERSONAL_QUESTS_MAX_ATTEMPTS = "personal_quests.max_attempts";
+    private static final String CONFIG_METRICS_HTTP_ENABLED = "metrics_http.enabled";
+    private static final String CONFIG_METRICS_HTTP_BIND_ADDRESS = "metrics_http.bind_address";
+    private static final String CONFIG_METRICS_HTTP_PORT = "metrics_http.port";
+    private static final String CONFIG_SLOW_QUERY_THRESHOLD_MILLIS = "sqlite.slow_query_threshold_millis";
+    private static final String CONFIG_TICK_BUDGET_ENABLED = "tick_budget.enabled";
+    private static final String CONFIG_TICK_BUDGET_MAX_MSPT = "tick_budget.max_mspt";
+    private static final String CONFIG_TICK_BUDGET_MAX_DEFERRAL_SECONDS = "tick_budget.max_deferral_seconds";
     private static final String CONFIG_PLAYTIME_ENABLED = "playtime.enabled";
     private static final String CONFIG_PLAYTIME_DEFAULT_DAILY_LIMIT_MINUTES = "playtime.default_daily_limit_minutes";
     private static final String CONFIG_PLAYTIME_KICK_MESSAGE = "playtime.kick_message";
     private static final long QUEST_TIMEOUT_TICKS = 2L * 60L * 20L;
+    private static final long PERSONAL_QUEST_SWEEP_TICKS = 20L;
+    // How long a player's last personal quest is remembered for the failed-word rule; at least the cooldown.
+    private static final long PERSONAL_QUEST_FINISHED_RETENTION_MILLIS = 10L * 60L * 1000L;
+    private static final long METRICS_SAMPLE_TICKS = 20L;
+    private static final int DEFAULT_PERSONAL_QUEST_TIMEOUT_SECONDS = 2 * 60;
+    private static final int DEFAULT_PERSONAL_QUEST_COOLDOWN_SECONDS = 30;
+    private static final int DEFAULT_PERSONAL_QUEST_MAX_ATTEMPTS = 3;
+    private static final String DEFAULT_METRICS_HTTP_BIND_ADDRESS = "127.0.0.1";
+    private static final int DEFAULT_METRICS_HTTP_PORT = 9464;
+    private static final long DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS = 0L;
+    private static final double DEFAULT_TICK_BUDGET_MAX_MSPT = 45d;
+    private static final int DEFAULT_TICK_BUDGET_MAX_DEFERRAL_SECONDS = 120;
+    private static final long TICK_BUDGET_RETRY_TICKS = 5L * 20L;
     private static final int QUEST_DELAY_MIN_SECONDS = 3 * 60;
     private static final int QUEST_DELAY_MAX_SECONDS = 10 * 60;
     private static final int MIN_VOCAB_ENTRIES_FOR_TIMER_QUESTS = 10;
     private static final int MAX_ANSWER_LENGTH = 64;
     private static final int MAX_VOCAB_TERM_LENGTH = 64;
+    private static final String IMPORT_MODE_MERGE = "merge";
+    private static final String IMPORT_MODE_SYNC = "sync";
+    private static final String SELECTION_STRATEGY_WEIGHTED = "weighted";
+    private static final String SELECTION_STRATEGY_SPACED_REPETITION = "spaced_repetition";
+    private static final String SELECTION_STRATEGY_TARGET_SUCCESS = "target_success";
+    private static final int SRS_DUE_WORDS_PER_PLAYER = 32;
+    private static final double DEFAULT_TARGET_SUCCESS_PROBABILITY = 0.7d;
+    private static final int DEFAULT_RATINGS_SAVE_INTERVAL_SECONDS = 60;
     private static final int DEFAULT_HTTP_CONNECT_TIMEOUT_SECONDS = 10;
     private static final int DEFAULT_HTTP_READ_TIMEOUT_SECONDS = 20;
+    private static final int DEFAULT_ANSWER_RATE_LIMIT_BURST = 5;
+    private static final double DEFAULT_ANSWER_RATE_LIMIT_REFILL_PER_SECOND = 0.5d;
+    private static final long DEFAULT_VOCAB_FILES_WATCH_DEBOUNCE_MILLIS = 1500L;
     private static final int DEFAULT_PLAYTIME_DAILY_LIMIT_MINUTES = 120;
     private static final int PLAYTIME_WARNING_WINDOW_MINUTES = 5;
     private static final String DEFAULT_PLAYTIME_KICK_MESSAGE = "Daily playtime limit reached ({used}/{limit} min). "
             + "Come back tomorrow.";
 
     private final Random random = new Random();
+    private final PluginMetrics metrics = new PluginMetrics();
+    // Wall clock for dates, review due times and personal quest deadlines; simulations swap it out.
+    private Clock clock = Clock.systemDefaultZone();
+    private TickBudgetMonitor tickBudget = new TickBudgetMonitor(() -> 0d, 0d, 0L, metrics);
     private SQLiteStore sqliteStore;
-    private BukkitTask scheduledQuestTask;
-    private BukkitTask questTimeoutTask;
+    private Path databasePath;
+    private PrometheusExporter prometheusExporter;
+    private VocabularyHttpFetcher vocabularyHttpFetcher;
+    private VocabularyFileWatcher vocabularyFileWatcher;
     private BukkitTask playtimeTrackerTask;
-    private ActiveQuest activeQuest;
-
-    private record ActiveQuest(String vocabTable, String deWord, String answer) {
+    private BukkitTask ratingsSaveTask;
+    private BukkitTask personalQuestSweepTask;
+    private BukkitTask metricsSampleTask;
+    // Written by metricsSampleTask on the server thread, read by the metrics endpoint.
+    private volatile int onlinePlayersSample;
+    private List<QuestChannel<ActiveQuest>> questChannels = List.of();
+    private final PersonalQuests<ActiveQuest> personalQuests = new PersonalQuests<>();
+    private AnswerRateLimiter answerRateLimiter;
+    private final RewardLedger rewardLedger = new RewardLedger();
+    private final SpacedRepetitionScheduler spacedRepetition = new SpacedRepetitionScheduler();
+    private volatile SkillRatings skillRatings = new SkillRatings(-1L, -1L);
+
+    private record ActiveQuest(String vocabTable, long vocabId, String deWord, String answer, AnswerMatcher matcher) {
     }
 
-    private record ImportSummary(int sourceRows, int inserted, int skippedExisting) {
+    private record ImportSummary(String mode, int sourceRows, int inserted, int skippedExisting, int updated,
+                                 int deleted) {
     }
 
     @Override
@@ -88,25 +159,46 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
             return;
         }
 
+        vocabularyHttpFetcher = createVocabularyHttpFetcher();
+        answerRateLimiter = createAnswerRateLimiter();
+        tickBudget = createTickBudgetMonitor();
+        registerMetricGauges();
+        startPrometheusExporter();
         importConfiguredSheetsOnStartup();
+        startVocabularyFileWatcher();
 
         getServer().getPluginManager().registerEvents(this, this);
         for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
             registerPlayerForPlaytime(onlinePlayer.getName());
+            loadPlayerTracking(onlinePlayer.getName());
             enforcePlaytimeLimit(onlinePlayer);
         }
         startPlaytimeTracker();
-        scheduleNextQuest();
+        startRatingsSaveTask();
+        startPersonalQuestSweep();
+        startMetricsSampler();
+        configureQuestChannels();
         getLogger().info("VocabularyQuestPlugin enabled.");
     }
 
     @Override
     public void onDisable() {
-        cancelScheduledQuest();
-        cancelQuestTimeout();
+        stopPrometheusExporter();
+        stopQuestChannels();
+        cancelPersonalQuestSweep();
+        cancelMetricsSampler();
+        personalQuests.clear();
         cancelPlaytimeTracker();
+        cancelRatingsSaveTask();
+        stopVocabularyFileWatcher();
+
+        if (vocabularyHttpFetcher != null) {
+            vocabularyHttpFetcher.close();
+            vocabularyHttpFetcher = null;
+        }
 
         if (sqliteStore != null) {
+            saveSkillRatings();
             try {
                 sqliteStore.close();
             } catch (SQLException e) {
@@ -273,8 +365,8 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
                 return true;
             }
 
-            if (args.length != 1) {
-                sender.sendMessage("Usage: /importvocab <en|fr>");
+            if (args.length < 1 || args.length > 2) {
+                sender.sendMessage("Usage: /importvocab <en|fr> [merge|sync]");
                 return true;
             }
 
@@ -284,27 +376,20 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
                 return true;
             }
 
+            String mode = args.length == 2 ? sanitizeUserInput(args[1]).toLowerCase(Locale.ROOT) : IMPORT_MODE_MERGE;
+            if (!isSupportedImportMode(mode)) {
+                sender.sendMessage("Import mode must be merge or sync.");
+                return true;
+            }
+
             String sourceUrl = getConfiguredSheetUrl(language);
             if (sourceUrl.isBlank()) {
                 sender.sendMessage("No sheet URL configured for de_" + language + ". Use /setvocaburl first.");
                 return true;
             }
 
-            try {
-                ImportSummary summary = mergeVocabularyFromSheet(language, sourceUrl);
-                if (summary.sourceRows() == 0) {
-                    sender.sendMessage("Import aborted: source contains zero vocabulary entries.");
-                    return true;
-                }
-
-                sender.sendMessage("Merged de_" + language + " from sheet: added " + summary.inserted()
-                        + " new entries, skipped " + summary.skippedExisting() + " existing.");
-                getLogger().info("RCON merged de_" + language + " from sheet URL: added=" + summary.inserted()
-                        + ", skippedExisting=" + summary.skippedExisting() + ", source=" + sourceUrl);
-            } catch (IOException | SQLException e) {
-                getLogger().log(Level.SEVERE, "Failed to import de_" + language + " from sheet URL.", e);
-                sender.sendMessage("Failed to import de_" + language + ". Check server log.");
-            }
+            runWithinTickBudget("import", "de_" + language, sender,
+                    reply -> runVocabularyImport(reply, language, sourceUrl, mode));
             return true;
         }
 
@@ -333,6 +418,38 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
             return true;
         }
 
+        if (PERSONAL_QUEST_COMMAND.equalsIgnoreCase(command.getName())) {
+            if (!(sender instanceof Player player)) {
+                sender.sendMessage("Only players can start personal quests.");
+                return true;
+            }
+
+            startPersonalQuest(player);
+            return true;
+        }
+
+        if (STATS_COMMAND.equalsIgnoreCase(command.getName())) {
+            if (!isRconSender(sender)) {
+                sender.sendMessage("This command is restricted to RCON.");
+                return true;
+            }
+
+            if (args.length == 1 && "reset".equalsIgnoreCase(args[0])) {
+                metrics.reset();
+                sender.sendMessage("Plugin metrics reset.");
+                return true;
+            }
+            if (args.length != 0) {
+                sender.sendMessage("Usage: /vqstats [reset]");
+                return true;
+            }
+
+            for (String line : metrics.report()) {
+                sender.sendMessage(line);
+            }
+            return true;
+        }
+
         if (QUEST_NOW_COMMAND.equalsIgnoreCase(command.getName())) {
             if (!isRconSender(sender)) {
                 sender.sendMessage("This command is restricted to RCON.");
@@ -394,12 +511,22 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
     @EventHandler(ignoreCancelled = true)
     public void onPlayerJoin(PlayerJoinEvent event) {
         registerPlayerForPlaytime(event.getPlayer().getName());
+        prefetchPlayerTracking(event.getPlayer());
         enforcePlaytimeLimit(event.getPlayer());
     }
 
-    @EventHandler(ignoreCancelled = true)
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        rewardLedger.evict(event.getPlayer().getName());
+        spacedRepetition.evict(event.getPlayer().getName());
+        personalQuests.cancel(event.getPlayer().getUniqueId(), clock.millis());
+    }
+
+    // HIGHEST so mute, jail or anti-spam plugins get to cancel /msg jenkins first; ignoreCancelled then
+    // keeps a cancelled message from counting as an answer.
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onPrivateMessageCommand(PlayerCommandPreprocessEvent event) {
-        String answer = parsePrivatePluginAnswer(event.getMessage());
+        String answer = PrivateAnswerScanner.extractAnswer(event.getMessage());
         if (answer == null) {
             return;
         }
@@ -428,17 +555,122 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
         Path deFrFile = vocabularyDir.resolve("de_fr.csv");
         ensureDefaultResource("vocabulary/de_en.csv", deEnFile);
         ensureDefaultResource("vocabulary/de_fr.csv", deFrFile);
+        ensureDefaultResource(JfrEvents.SETTINGS_RESOURCE, dataDir.resolve(JfrEvents.SETTINGS_RESOURCE));
 
-        sqliteStore = new SQLiteStore(dataDir.resolve("mindcraft.db"));
+        databasePath = dataDir.resolve("mindcraft.db");
+        sqliteStore = new SQLiteStore(databasePath, metrics, createSlowQueryLog());
         sqliteStore.initializeSchema();
 
-        List<SQLiteStore.VocabEntry> deEnEntries = loadVocabularyCsv(deEnFile, "de", "en");
-        List<SQLiteStore.VocabEntry> deFrEntries = loadVocabularyCsv(deFrFile, "de", "fr");
-        sqliteStore.replaceDeEn(deEnEntries);
-        sqliteStore.replaceDeFr(deFrEntries);
+        loadLocalVocabularyIfChanged("en", deEnFile);
+        loadLocalVocabularyIfChanged("fr", deFrFile);
+    }
+
+    private SlowQueryLog createSlowQueryLog() {
+        long thresholdMillis = getConfig().getLong(CONFIG_SLOW_QUERY_THRESHOLD_MILLIS,
+                DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS);
+        if (thresholdMillis <= 0L) {
+            return null;
+        }
+        return new SlowQueryLog(thresholdMillis * 1_000_000L, getLogger());
+    }
+
+    private void loadLocalVocabularyIfChanged(String language, Path sourceFile) throws IOException, SQLException {
+        long sizeBytes = Files.size(sourceFile);
+        long modifiedMillis = Files.getLastModifiedTime(sourceFile).toMillis();
+        SQLiteStore.VocabSourceState stored = sqliteStore.findVocabularySourceState(language);
+        if (stored != null && stored.sizeBytes() == sizeBytes && stored.modifiedMillis() == modifiedMillis) {
+            getLogger().info("Local vocabulary file " + sourceFile.getFileName() + " is unchanged; skipping reload.");
+            return;
+        }
 
-        getLogger().info("Loaded vocabularies from CSV: de_en=" + deEnEntries.size()
-                + ", de_fr=" + deFrEntries.size());
+        JfrEvents.ImportPhase checksumPhase = beginImportPhase();
+        SQLiteStore.VocabSourceState current = new SQLiteStore.VocabSourceState(sizeBytes, modifiedMillis,
+                VocabularyCsvImport.checksum(sourceFile));
+        commitImportPhase(checksumPhase, "file", language, "checksum", 0);
+        if (stored != null && stored.checksum().equals(current.checksum())) {
+            sqliteStore.saveVocabularySourceState(language, current);
+            getLogger().info("Local vocabulary file " + sourceFile.getFileName()
+                    + " was touched but its checksum is unchanged; skipping reload.");
+            return;
+        }
+
+        long started = metrics.nanoTime();
+        JfrEvents.ImportPhase parsePhase = beginImportPhase();
+        List<SQLiteStore.VocabEntry> entries = loadVocabularyCsv(sourceFile, "de", language);
+        commitImportPhase(parsePhase, "file", language, "parse", entries.size());
+        JfrEvents.ImportPhase applyPhase = beginImportPhase();
+        SQLiteStore.VocabDiffSummary diff = sqliteStore.applyVocabularyDiff(language, entries, current);
+        commitImportPhase(applyPhase, "file", language, "apply", diff.inserted() + diff.deleted());
+        metrics.recordSince("import.file_" + language, started);
+        metrics.add("import_rows.inserted", diff.inserted());
+        metrics.add("import_rows.deleted", diff.deleted());
+        getLogger().info("Loaded vocabulary from " + sourceFile.getFileName() + ": de_" + language + "="
+                + entries.size() + " (inserted=" + diff.inserted() + ", deleted=" + diff.deleted()
+                + ", unchanged=" + diff.unchanged() + ")");
+    }
+
+    private void startVocabularyFileWatcher() {
+        stopVocabularyFileWatcher();
+        if (!getConfig().getBoolean(CONFIG_VOCAB_FILES_WATCH_ENABLED, true)) {
+            return;
+        }
+
+        long debounceMillis = Math.max(0L, getConfig().getLong(CONFIG_VOCAB_FILES_WATCH_DEBOUNCE_MILLIS,
+                DEFAULT_VOCAB_FILES_WATCH_DEBOUNCE_MILLIS));
+        Path vocabularyDir = getDataFolder().toPath().resolve("vocabulary");
+        VocabularyFileWatcher watcher = new VocabularyFileWatcher(vocabularyDir, debounceMillis,
+                changed -> languageForLocalVocabularyFile(changed) != null,
+                this::reloadChangedLocalVocabulary, getLogger());
+        try {
+            watcher.start();
+            vocabularyFileWatcher = watcher;
+        } catch (IOException e) {
+            getLogger().log(Level.WARNING, "Failed to watch " + vocabularyDir + " for vocabulary changes.", e);
+        }
+    }
+
+    private void stopVocabularyFileWatcher() {
+        if (vocabularyFileWatcher != null) {
+            vocabularyFileWatcher.close();
+            vocabularyFileWatcher = null;
+        }
+    }
+
+    private void reloadChangedLocalVocabulary(Path changedFile) {
+        String language = languageForLocalVocabularyFile(changedFile);
+        if (language == null || sqliteStore == null) {
+            return;
+        }
+
+        Path csvFile = changedFile.resolveSibling("de_" + language + ".csv");
+        if (!Files.isRegularFile(csvFile)) {
+            getLogger().warning("Ignoring vocabulary change for de_" + language + " because " + csvFile.getFileName()
+                    + " is missing.");
+            return;
+        }
+
+        if (!tickBudget.admit("import", csvFile.getFileName().toString())) {
+            Bukkit.getScheduler().runTaskLaterAsynchronously(this, () -> reloadChangedLocalVocabulary(changedFile),
+                    TICK_BUDGET_RETRY_TICKS);
+            return;
+        }
+
+        try {
+            loadLocalVocabularyIfChanged(language, csvFile);
+        } catch (IOException | SQLException e) {
+            getLogger().log(Level.WARNING, "Failed to hot-reload local vocabulary for de_" + language + ".", e);
+        }
+    }
+
+    private String languageForLocalVocabularyFile(Path file) {
+        String name = file.getFileName().toString();
+        for (String language : List.of("en", "fr")) {
+            String baseName = "de_" + language;
+            if (name.equals(baseName + ".csv")) {
+                return language;
+            }
+        }
+        return null;
     }
 
     private List<SQLiteStore.VocabEntry> loadVocabularyCsv(Path csvPath, String leftHeader, String rightHeader)
@@ -448,19 +680,101 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
 
     private List<SQLiteStore.VocabEntry> loadVocabularyCsvFromUrl(String sourceUrl, String leftHeader,
                                                                    String rightHeader) throws IOException {
+        if (vocabularyHttpFetcher == null) {
+            vocabularyHttpFetcher = createVocabularyHttpFetcher();
+        }
+        return VocabularyCsvImport.loadFromUrl(vocabularyHttpFetcher, sourceUrl, leftHeader, rightHeader, getLogger());
+    }
+
+    private VocabularyHttpFetcher createVocabularyHttpFetcher() {
         int connectTimeoutSeconds = Math.max(1,
                 getConfig().getInt(CONFIG_HTTP_CONNECT_TIMEOUT_SECONDS, DEFAULT_HTTP_CONNECT_TIMEOUT_SECONDS));
         int readTimeoutSeconds = Math.max(1,
                 getConfig().getInt(CONFIG_HTTP_READ_TIMEOUT_SECONDS, DEFAULT_HTTP_READ_TIMEOUT_SECONDS));
-        return VocabularyCsvImport.loadFromUrl(sourceUrl, connectTimeoutSeconds, readTimeoutSeconds, leftHeader,
-                rightHeader, getLogger());
+        return new VocabularyHttpFetcher(connectTimeoutSeconds, readTimeoutSeconds);
     }
 
-    private ImportSummary mergeVocabularyFromSheet(String language, String sourceUrl) throws IOException, SQLException {
+    private void runVocabularyImport(CommandSender reply, String language, String sourceUrl, String mode) {
+        try {
+            ImportSummary summary = importVocabularyFromSheet(language, sourceUrl, mode);
+            if (summary.sourceRows() == 0) {
+                reply.sendMessage("Import aborted: source contains zero vocabulary entries.");
+                return;
+            }
+
+            if (IMPORT_MODE_SYNC.equals(summary.mode())) {
+                reply.sendMessage("Synced de_" + language + " from sheet: added " + summary.inserted()
+                        + ", updated " + summary.updated() + ", deleted " + summary.deleted()
+                        + ", unchanged " + summary.skippedExisting() + ".");
+                getLogger().info("RCON synced de_" + language + " from sheet URL: added=" + summary.inserted()
+                        + ", updated=" + summary.updated() + ", deleted=" + summary.deleted()
+                        + ", unchanged=" + summary.skippedExisting() + ", source=" + sourceUrl);
+                return;
+            }
+
+            reply.sendMessage("Merged de_" + language + " from sheet: added " + summary.inserted()
+                    + " new entries, skipped " + summary.skippedExisting() + " existing.");
+            getLogger().info("RCON merged de_" + language + " from sheet URL: added=" + summary.inserted()
+                    + ", skippedExisting=" + summary.skippedExisting() + ", source=" + sourceUrl);
+        } catch (IOException | SQLException e) {
+            getLogger().log(Level.SEVERE, "Failed to import de_" + language + " from sheet URL.", e);
+            reply.sendMessage("Failed to import de_" + language + ". Check server log.");
+        }
+    }
+
+    private ImportSummary importVocabularyFromSheet(String language, String sourceUrl, String mode)
+            throws IOException, SQLException {
+        long started = metrics.nanoTime();
+        try {
+            ImportSummary summary = importVocabularySheetRows(language, sourceUrl, mode);
+            metrics.add("import_rows.inserted", summary.inserted());
+            metrics.add("import_rows.updated", summary.updated());
+            metrics.add("import_rows.deleted", summary.deleted());
+            return summary;
+        } finally {
+            metrics.recordSince("import.sheet_" + language, started);
+        }
+    }
+
+    private ImportSummary importVocabularySheetRows(String language, String sourceUrl, String mode)
+            throws IOException, SQLException {
+        JfrEvents.ImportPhase fetchPhase = beginImportPhase();
         List<SQLiteStore.VocabEntry> entries = loadVocabularyCsvFromUrl(sourceUrl, "de", language);
+        commitImportPhase(fetchPhase, "sheet", language, "fetch", entries.size());
+        if (IMPORT_MODE_SYNC.equals(mode)) {
+            if (entries.isEmpty()) {
+                return new ImportSummary(mode, 0, 0, 0, 0, 0);
+            }
+
+            JfrEvents.ImportPhase applyPhase = beginImportPhase();
+            SQLiteStore.VocabSyncSummary sync = sqliteStore.syncVocabularyEntries(language, entries);
+            commitImportPhase(applyPhase, "sheet", language, "apply", sync.inserted() + sync.updated() + sync.deleted());
+            return new ImportSummary(mode, entries.size(), sync.inserted(), sync.unchanged(), sync.updated(),
+                    sync.deleted());
+        }
+
+        JfrEvents.ImportPhase applyPhase = beginImportPhase();
         int inserted = sqliteStore.insertMissingVocabularyEntries(language, entries);
+        commitImportPhase(applyPhase, "sheet", language, "apply", inserted);
         int skippedExisting = entries.size() - inserted;
-        return new ImportSummary(entries.size(), inserted, skippedExisting);
+        return new ImportSummary(IMPORT_MODE_MERGE, entries.size(), inserted, skippedExisting, 0, 0);
+    }
+
+    private static JfrEvents.ImportPhase beginImportPhase() {
+        JfrEvents.ImportPhase event = new JfrEvents.ImportPhase();
+        event.begin();
+        return event;
+    }
+
+    private static void commitImportPhase(JfrEvents.ImportPhase event, String source, String language, String phase,
+                                          int rows) {
+        if (event.shouldCommit()) {
+            event.source = source;
+            event.language = language;
+            event.phase = phase;
+            event.rows = rows;
+            event.commit();
+        }
     }
 
     private void importConfiguredSheetsOnStartup() {
@@ -474,12 +788,25 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
             return;
         }
 
+        String mode = getConfig().getString(CONFIG_IMPORT_MODE, IMPORT_MODE_MERGE).trim().toLowerCase(Locale.ROOT);
+        if (!isSupportedImportMode(mode)) {
+            getLogger().warning("Unknown " + CONFIG_IMPORT_MODE + " '" + mode + "'; falling back to merge.");
+            mode = IMPORT_MODE_MERGE;
+        }
+
         try {
-            ImportSummary summary = mergeVocabularyFromSheet(language, sourceUrl);
+            ImportSummary summary = importVocabularyFromSheet(language, sourceUrl, mode);
+            if (IMPORT_MODE_SYNC.equals(summary.mode())) {
+                getLogger().info("Startup sheet sync for de_" + language + ": sourceRows=" + summary.sourceRows()
+                        + ", added=" + summary.inserted() + ", updated=" + summary.updated()
+                        + ", deleted=" + summary.deleted() + ", unchanged=" + summary.skippedExisting());
+                return;
+            }
+
             getLogger().info("Startup sheet merge for de_" + language + ": sourceRows=" + summary.sourceRows()
                     + ", added=" + summary.inserted() + ", skippedExisting=" + summary.skippedExisting());
         } catch (IOException | SQLException e) {
-            getLogger().log(Level.WARNING, "Startup sheet merge failed for de_" + language + ".", e);
+            getLogger().log(Level.WARNING, "Startup sheet " + mode + " failed for de_" + language + ".", e);
         }
     }
 
@@ -659,7 +986,60 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
     }
 
     private void handleQuestAnswer(Player player, String rawAnswer) {
-        ActiveQuest quest = activeQuest;
+        long started = metrics.nanoTime();
+        try {
+            answerQuest(player, rawAnswer);
+        } finally {
+            metrics.recordSince("answer.handle", started);
+        }
+    }
+
+    private void answerQuest(Player player, String rawAnswer) {
+        if (answerRateLimiter != null && !answerRateLimiter.tryAcquire(player.getUniqueId(), System.nanoTime())) {
+            metrics.increment("answers.throttled");
+            player.sendMessage("Du antwortest zu schnell. Bitte warte einen Moment.");
+            return;
+        }
+
+        // The player's personal quest and channels may each have an open quest; the answer goes to the one
+        // it solves. An answer that solves none counts against the personal quest the player asked for.
+        ActiveQuest personalQuest = personalQuests.current(player.getUniqueId());
+        if (personalQuest != null && evaluateAnswer(personalQuest, rawAnswer)) {
+            handlePersonalQuestAnswer(player, personalQuest, true);
+            return;
+        }
+
+        QuestChannel<ActiveQuest> channel = null;
+        ActiveQuest quest = null;
+        boolean correct = false;
+        int openQuests = 0;
+        for (QuestChannel<ActiveQuest> candidate : questChannels) {
+            ActiveQuest open = candidate.includes(player) ? candidate.lifecycle().openQuest() : null;
+            if (open == null) {
+                continue;
+            }
+            openQuests++;
+            if (quest == null) {
+                channel = candidate;
+                quest = open;
+            }
+            if (evaluateAnswer(open, rawAnswer)) {
+                channel = candidate;
+                quest = open;
+                correct = true;
+                break;
+            }
+        }
+
+        if (!correct && personalQuest != null) {
+            if (normalizeAnswer(rawAnswer).isEmpty()) {
+                player.sendMessage("Bitte gib eine Antwort an.");
+                return;
+            }
+            handlePersonalQuestAnswer(player, personalQuest, false);
+            return;
+        }
+
         if (quest == null) {
             player.sendMessage("Aktuell läuft keine Vokabel-Quest.");
             return;
@@ -671,38 +1051,388 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
             return;
         }
 
-        boolean correct = submitted.equals(normalizeAnswer(quest.answer()));
+        if (!correct && openQuests > 1) {
+            // No way to tell which of the open quests this was meant for, so no word is charged with a miss.
+            metrics.increment("answers.wrong");
+            player.sendMessage("Deine Antwort passt zu keiner der offenen Vokabel-Quests.");
+            return;
+        }
+
+        recordAnswer(player.getName(), quest, correct);
+
+        if (!correct) {
+            broadcastToChannel(channel, "Player " + player.getName() + " hat die Frage leider falsch beantwortet.");
+            return;
+        }
+
+        QuestChannel<ActiveQuest> solvedChannel = channel;
+        QuestLifecycle<ActiveQuest> questLifecycle = channel.lifecycle();
+
+        // Check eligibility before taking the quest: a loaded ledger is complete, so a player who was
+        // already rewarded never holds the quest in WON and locks out everyone else meanwhile.
         try {
-            sqliteStore.recordAttempt(player.getName(), quest.vocabTable(), quest.deWord(), correct);
+            ensurePlayerTrackingLoaded(player.getName());
         } catch (SQLException e) {
-            getLogger().log(Level.WARNING, "Failed to record attempt for " + player.getName(), e);
+            getLogger().log(Level.WARNING, "Failed to load rewards for " + player.getName(), e);
+        }
+        long trackingVersion = sqliteStore.trackingVersion();
+        if (rewardLedger.isKnownRewarded(player.getName(), trackingVersion, quest.vocabTable(), quest.deWord())) {
+            sendAlreadyRewarded(channel, player);
+            return;
         }
 
-        if (!correct) {
-            broadcastAsJenkins("Player " + player.getName() + " hat die Frage leider falsch beantwortet.");
+        // Only one correct answer can move the quest from OPEN to WON; everyone else lost the race.
+        if (!questLifecycle.tryWin(quest, player.getName())) {
+            player.sendMessage("Diese Vokabel-Quest wurde bereits gelöst.");
             return;
         }
 
         boolean rewarded = false;
         try {
             rewarded = sqliteStore.claimReward(player.getName(), quest.vocabTable(), quest.deWord());
+            rewardLedger.markRewarded(player.getName(), trackingVersion, quest.vocabTable(), quest.deWord());
         } catch (SQLException e) {
             getLogger().log(Level.WARNING, "Failed to claim reward for " + player.getName(), e);
         }
 
         if (rewarded) {
-            giveEmerald(player);
+            if (questLifecycle.closeWon(quest, player.getName())) {
+                JfrEvents.questFinished(channel.name(), quest.vocabTable(), quest.deWord(), "won", player.getName());
+            }
+            runOnMainThread(() -> giveEmerald(player));
             player.sendMessage("Du hast 1 Emerald erhalten.");
             getLogger().info("Granted reward to " + player.getName()
                     + " for " + quest.vocabTable() + ":" + quest.deWord());
-            broadcastAsJenkins("Player " + player.getName() + " hat die Frage richtig beantwortet!");
-            broadcastSolution(quest);
-            finishQuest();
+            broadcastToChannel(channel, "Player " + player.getName() + " hat die Frage richtig beantwortet!");
+            broadcastSolution(channel, quest);
+            runOnMainThread(() -> finishQuest(solvedChannel));
+            return;
+        }
+
+        QuestLifecycle.ReopenResult reopened = questLifecycle.reopen(quest, player.getName());
+        sendAlreadyRewarded(channel, player);
+        if (reopened == QuestLifecycle.ReopenResult.EXPIRED) {
+            // The timeout fired while this answer held the quest; finish it on its behalf.
+            broadcastQuestTimedOut(channel, quest);
+            runOnMainThread(() -> finishQuest(solvedChannel));
+        }
+    }
+
+    private void handlePersonalQuestAnswer(Player player, ActiveQuest quest, boolean correct) {
+        recordAnswer(player.getName(), quest, correct);
+        if (!correct) {
+            int misses = personalQuests.miss(player.getUniqueId(), quest);
+            if (misses < 0) {
+                player.sendMessage("Deine persönliche Quest ist bereits abgelaufen.");
+                return;
+            }
+            int remaining = Math.max(1, getConfig().getInt(CONFIG_PERSONAL_QUESTS_MAX_ATTEMPTS,
+                    DEFAULT_PERSONAL_QUEST_MAX_ATTEMPTS)) - misses;
+            if (remaining > 0) {
+                player.sendMessage("Leider falsch. Noch " + remaining + (remaining == 1 ? " Versuch." : " Versuche."));
+                return;
+            }
+            if (personalQuests.fail(player.getUniqueId(), quest, clock.millis())) {
+                metrics.increment("quests.personal_failed");
+                JfrEvents.questFinished(PERSONAL_QUEST_CHANNEL, quest.vocabTable(), quest.deWord(), "failed", null);
+                player.sendMessage("Leider falsch. Keine Versuche mehr. Lösung: " + quest.deWord() + " -> "
+                        + quest.answer());
+            }
+            return;
+        }
+
+        if (!personalQuests.complete(player.getUniqueId(), quest, clock.millis())) {
+            player.sendMessage("Deine persönliche Quest ist bereits abgelaufen.");
+            return;
+        }
+        JfrEvents.questFinished(PERSONAL_QUEST_CHANNEL, quest.vocabTable(), quest.deWord(), "won", player.getName());
+
+        boolean rewarded = false;
+        try {
+            long trackingVersion = sqliteStore.trackingVersion();
+            rewarded = sqliteStore.claimReward(player.getName(), quest.vocabTable(), quest.deWord());
+            rewardLedger.markRewarded(player.getName(), trackingVersion, quest.vocabTable(), quest.deWord());
+        } catch (SQLException e) {
+            getLogger().log(Level.WARNING, "Failed to claim reward for " + player.getName(), e);
+        }
+
+        if (rewarded) {
+            runOnMainThread(() -> giveEmerald(player));
+            player.sendMessage("Richtig! Du hast 1 Emerald erhalten.");
+            getLogger().info("Granted personal quest reward to " + player.getName()
+                    + " for " + quest.vocabTable() + ":" + quest.deWord());
         } else {
-            player.sendMessage("Für diese Vokabel hast du bereits eine Belohnung erhalten.");
-            broadcastAsJenkins("Player " + player.getName()
-                    + " hat korrekt geantwortet, aber für diese Vokabel bereits eine Belohnung erhalten.");
+            player.sendMessage("Richtig! Für diese Vokabel hast du bereits eine Belohnung erhalten.");
+        }
+    }
+
+    private boolean evaluateAnswer(ActiveQuest quest, String rawAnswer) {
+        JfrEvents.AnswerEvaluation event = new JfrEvents.AnswerEvaluation();
+        event.begin();
+        boolean correct = quest.matcher().matches(rawAnswer);
+        if (event.shouldCommit()) {
+            event.vocabTable = quest.vocabTable();
+            event.deWord = quest.deWord();
+            event.answerLength = rawAnswer.length();
+            event.correct = correct;
+            event.commit();
+        }
+        return correct;
+    }
+
+    private void recordAnswer(String username, ActiveQuest quest, boolean correct) {
+        metrics.increment(correct ? "answers.correct" : "answers.wrong");
+        try {
+            sqliteStore.recordAttempt(username, quest.vocabTable(), quest.deWord(), correct);
+        } catch (SQLException e) {
+            getLogger().log(Level.WARNING, "Failed to record attempt for " + username, e);
         }
+        recordSpacedRepetition(username, quest, correct);
+        recordSkillRatings(username, quest, correct);
+    }
+
+    private void sendAlreadyRewarded(QuestChannel<ActiveQuest> channel, Player player) {
+        player.sendMessage("Für diese Vokabel hast du bereits eine Belohnung erhalten.");
+        broadcastToChannel(channel, "Player " + player.getName()
+                + " hat korrekt geantwortet, aber für diese Vokabel bereits eine Belohnung erhalten.");
+    }
+
+    // A deferred prefetch is retried until the player leaves; otherwise their first answer pays for the load.
+    private void prefetchPlayerTracking(Player player) {
+        String username = player.getName();
+        if (!player.isOnline()) {
+            tickBudget.forget("prefetch", username);
+            return;
+        }
+        if (tickBudget.admit("prefetch", username)) {
+            loadPlayerTracking(username);
+            return;
+        }
+        Bukkit.getScheduler().runTaskLater(this, () -> prefetchPlayerTracking(player), TICK_BUDGET_RETRY_TICKS);
+    }
+
+    private void loadPlayerTracking(String username) {
+        if (sqliteStore == null) {
+            return;
+        }
+
+        try {
+            ensurePlayerTrackingLoaded(username);
+        } catch (SQLException e) {
+            getLogger().log(Level.WARNING, "Failed to load rewards and review state for " + username, e);
+        }
+    }
+
+    private void ensurePlayerTrackingLoaded(String username) throws SQLException {
+        long trackingVersion = sqliteStore.trackingVersion();
+        if (!rewardLedger.isLoaded(username, trackingVersion)) {
+            rewardLedger.load(username, trackingVersion, sqliteStore.listRewardedWords(username));
+        }
+        if (!spacedRepetition.isLoaded(username, trackingVersion)) {
+            spacedRepetition.load(username, trackingVersion, sqliteStore.listSrsCards(username));
+        }
+
+        SkillRatings ratings = currentSkillRatings();
+        if (!ratings.hasPlayer(username)) {
+            SQLiteStore.PlayerRating stored = sqliteStore.findPlayerRating(username);
+            ratings.loadPlayer(stored != null ? stored
+                    : new SQLiteStore.PlayerRating(username, SkillRatings.INITIAL_RATING, 0));
+        }
+    }
+
+    // A flush of the rating tables starts the ratings over. Deleted vocabulary rows only reload the item
+    // ratings, after writing pending changes so nothing but the deleted ids is lost.
+    private synchronized SkillRatings currentSkillRatings() throws SQLException {
+        SkillRatings ratings = skillRatings;
+        long ratingsVersion = sqliteStore.ratingsVersion();
+        long trackingVersion = sqliteStore.trackingVersion();
+        if (ratings.ratingsVersion() != ratingsVersion) {
+            ratings = new SkillRatings(ratingsVersion, trackingVersion);
+            ratings.loadItems(sqliteStore.listItemRatings());
+            skillRatings = ratings;
+        } else if (ratings.trackingVersion() != trackingVersion) {
+            writeSkillRatings(ratings);
+            ratings = ratings.withItems(trackingVersion, sqliteStore.listItemRatings());
+            skillRatings = ratings;
+        }
+        return ratings;
+    }
+
+    private void recordSkillRatings(String username, ActiveQuest quest, boolean correct) {
+        try {
+            ensurePlayerTrackingLoaded(username);
+            currentSkillRatings()
+                    .recordOutcome(username, quest.vocabTable(), quest.vocabId(), correct);
+        } catch (SQLException e) {
+            getLogger().log(Level.WARNING, "Failed to update ratings for " + username, e);
+        }
+    }
+
+    private void startRatingsSaveTask() {
+        cancelRatingsSaveTask();
+        long intervalTicks = 20L * Math.max(1, getConfig().getInt(CONFIG_RATINGS_SAVE_INTERVAL_SECONDS,
+                DEFAULT_RATINGS_SAVE_INTERVAL_SECONDS));
+        // Skipped rounds are not lost: dirty ratings stay dirty until the next flush.
+        ratingsSaveTask = Bukkit.getScheduler().runTaskTimerAsynchronously(this, () -> {
+            if (tickBudget.admit("ratings_save")) {
+                saveSkillRatings();
+            }
+        }, intervalTicks, intervalTicks);
+    }
+
+    private void cancelRatingsSaveTask() {
+        if (ratingsSaveTask != null) {
+            ratingsSaveTask.cancel();
+            ratingsSaveTask = null;
+        }
+    }
+
+    private void saveSkillRatings() {
+        try {
+            writeSkillRatings(skillRatings);
+        } catch (SQLException e) {
+            getLogger().log(Level.WARNING, "Failed to save skill ratings.", e);
+        }
+    }
+
+    private void writeSkillRatings(SkillRatings ratings) throws SQLException {
+        SkillRatings.Dirty dirty = ratings.drainDirty();
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        boolean saved;
+        try {
+            saved = sqliteStore.saveRatings(ratings.ratingsVersion(), dirty.items(), dirty.players());
+        } catch (SQLException e) {
+            ratings.markDirty(dirty);
+            throw e;
+        }
+        if (!saved) {
+            // The rating tables were flushed after these ratings were loaded; drop them and start over.
+            currentSkillRatings();
+        }
+    }
+
+    private void recordSpacedRepetition(String username, ActiveQuest quest, boolean correct) {
+        try {
+            ensurePlayerTrackingLoaded(username);
+            SQLiteStore.SrsCard card = spacedRepetition.review(username, sqliteStore.trackingVersion(),
+                    quest.vocabTable(), quest.deWord(), correct, clock.millis());
+            if (card != null) {
+                sqliteStore.saveSrsCard(username, card);
+            }
+        } catch (SQLException e) {
+            getLogger().log(Level.WARNING, "Failed to update review state for " + username, e);
+        }
+    }
+
+    private SQLiteStore.QuestEntry selectQuestEntry(List<String> onlinePlayers, List<String> vocabTables,
+            SQLiteStore.RewardLookup rewards) throws SQLException {
+        JfrEvents.QuestSelection event = new JfrEvents.QuestSelection();
+        event.begin();
+        long started = metrics.nanoTime();
+        SQLiteStore.QuestEntry entry = null;
+        try {
+            entry = selectQuestEntryByStrategy(onlinePlayers, vocabTables, rewards);
+            return entry;
+        } finally {
+            metrics.recordSince("quest.select", started);
+            if (event.shouldCommit()) {
+                event.strategy = questSelectionStrategy();
+                event.players = onlinePlayers.size();
+                event.vocabTables = String.join(",", vocabTables);
+                event.vocabTable = entry == null ? null : entry.vocabTable();
+                event.deWord = entry == null ? null : entry.deWord();
+                event.commit();
+            }
+        }
+    }
+
+    private SQLiteStore.QuestEntry selectQuestEntryByStrategy(List<String> onlinePlayers, List<String> vocabTables,
+            SQLiteStore.RewardLookup rewards) throws SQLException {
+        String strategy = questSelectionStrategy();
+        if (SELECTION_STRATEGY_SPACED_REPETITION.equals(strategy)) {
+            SQLiteStore.QuestEntry due = selectDueQuestEntry(onlinePlayers, vocabTables, rewards);
+            if (due != null) {
+                return due;
+            }
+        } else if (SELECTION_STRATEGY_TARGET_SUCCESS.equals(strategy)) {
+            return selectTargetSuccessQuestEntry(onlinePlayers, vocabTables, rewards);
+        }
+        return sqliteStore.selectWeightedQuestForOnlinePlayers(onlinePlayers, vocabTables, random, rewards);
+    }
+
+    private SQLiteStore.QuestEntry selectDueQuestEntry(List<String> onlinePlayers, List<String> vocabTables,
+            SQLiteStore.RewardLookup rewards) throws SQLException {
+        List<SpacedRepetitionScheduler.DueWord> dueWords = spacedRepetition.dueWords(onlinePlayers,
+                clock.millis(), SRS_DUE_WORDS_PER_PLAYER);
+        for (SpacedRepetitionScheduler.DueWord due : dueWords) {
+            if (!vocabTables.contains(due.vocabTable())) {
+                continue;
+            }
+
+            SQLiteStore.QuestEntry entry = sqliteStore.findQuestEntry(due.vocabTable(), due.deWord());
+            if (entry == null) {
+                // The word was removed from the vocabulary since it was last reviewed.
+                spacedRepetition.forget(due.vocabTable(), due.deWord());
+                continue;
+            }
+
+            int eligiblePlayers = 0;
+            for (String username : onlinePlayers) {
+                if (!rewards.isRewarded(username, entry.vocabTable(), entry.deWord())) {
+                    eligiblePlayers++;
+                }
+            }
+            if (eligiblePlayers == 0) {
+                // Nobody online could still earn the reward, so reviewing it would be a quest nobody can win.
+                continue;
+            }
+            getLogger().info("Selected due review " + entry.vocabTable() + ":" + entry.deWord()
+                    + " (duePlayers=" + due.duePlayers() + ")");
+            return new SQLiteStore.QuestEntry(entry.vocabTable(), entry.vocabId(), entry.deWord(), entry.answer(),
+                    entry.attempts(), eligiblePlayers);
+        }
+        return null;
+    }
+
+    private SQLiteStore.QuestEntry selectTargetSuccessQuestEntry(List<String> onlinePlayers, List<String> vocabTables,
+            SQLiteStore.RewardLookup rewards) throws SQLException {
+        SkillRatings ratings = currentSkillRatings();
+        double[] playerRatings = new double[onlinePlayers.size()];
+        for (int i = 0; i < playerRatings.length; i++) {
+            playerRatings[i] = ratings.playerRating(onlinePlayers.get(i));
+        }
+
+        double target = getConfig().getDouble(CONFIG_TARGET_SUCCESS_PROBABILITY, DEFAULT_TARGET_SUCCESS_PROBABILITY);
+        if (!(target > 0d && target < 1d)) {
+            getLogger().warning(CONFIG_TARGET_SUCCESS_PROBABILITY + " must be between 0 and 1; using "
+                    + DEFAULT_TARGET_SUCCESS_PROBABILITY + ".");
+            target = DEFAULT_TARGET_SUCCESS_PROBABILITY;
+        }
+
+        return sqliteStore.selectQuestForTargetSuccess(onlinePlayers, vocabTables, random, rewards,
+                (vocabTable, vocabId) -> {
+                    double itemRating = ratings.itemRating(vocabTable, vocabId);
+                    double sum = 0d;
+                    for (double playerRating : playerRatings) {
+                        sum += SkillRatings.expectedSuccess(playerRating, itemRating);
+                    }
+                    return sum / playerRatings.length;
+                }, target);
+    }
+
+    private String questSelectionStrategy() {
+        String strategy = getConfig().getString(CONFIG_QUEST_SELECTION_STRATEGY, SELECTION_STRATEGY_WEIGHTED)
+                .trim().toLowerCase(Locale.ROOT);
+        if (SELECTION_STRATEGY_WEIGHTED.equals(strategy) || SELECTION_STRATEGY_SPACED_REPETITION.equals(strategy)
+                || SELECTION_STRATEGY_TARGET_SUCCESS.equals(strategy)) {
+            return strategy;
+        }
+        getLogger().warning("Unknown " + CONFIG_QUEST_SELECTION_STRATEGY + " '" + strategy
+                + "'; falling back to " + SELECTION_STRATEGY_WEIGHTED + ".");
+        return SELECTION_STRATEGY_WEIGHTED;
     }
 
     private boolean startVocabularyQuest() {
@@ -710,64 +1440,335 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
     }
 
     private boolean startVocabularyQuest(boolean timerTriggered) {
-        if (activeQuest != null || sqliteStore == null) {
+        boolean started = false;
+        for (QuestChannel<ActiveQuest> channel : questChannels) {
+            started |= startVocabularyQuest(channel, timerTriggered);
+        }
+        return started;
+    }
+
+    // Personal quests draw from the languages of the channels the player is in.
+    private List<String> vocabTablesFor(Player player) {
+        List<String> tables = new ArrayList<>();
+        for (QuestChannel<ActiveQuest> channel : questChannels) {
+            if (!channel.includes(player)) {
+                continue;
+            }
+            for (String table : channel.vocabTables()) {
+                if (!tables.contains(table)) {
+                    tables.add(table);
+                }
+            }
+        }
+        return tables.isEmpty() ? SQLiteStore.VOCAB_TABLES : tables;
+    }
+
+    private void configureQuestChannels() {
+        stopQuestChannels();
+        questChannels = QuestChannel.fromConfig(getConfig().getConfigurationSection(CONFIG_QUEST_CHANNELS),
+                getLogger());
+        for (QuestChannel<ActiveQuest> channel : questChannels) {
+            if (questChannels.size() > 1) {
+                getLogger().info("Quest channel '" + channel.name() + "': tables=" + channel.vocabTables());
+            }
+            scheduleNextQuest(channel);
+        }
+    }
+
+    private void stopQuestChannels() {
+        for (QuestChannel<ActiveQuest> channel : questChannels) {
+            channel.cancelScheduledTask();
+            channel.cancelTimeoutTask();
+            channel.lifecycle().clear();
+        }
+    }
+
+    private void registerMetricGauges() {
+        metrics.gauge("quests.open", () -> questChannels.stream()
+                .filter(channel -> channel.lifecycle().openQuest() != null)
+                .count());
+        metrics.gauge("quests.personal_open", personalQuests::size);
+        metrics.gauge("players.online", () -> onlinePlayersSample);
+        metrics.gauge("ratings.pending_writes", () -> skillRatings.pendingWrites());
+        metrics.gauge("db.file_bytes", this::databaseFileBytes);
+        metrics.gauge("server.mspt_micros", () -> Math.round(tickBudget.averageTickMillis() * 1000d));
+    }
+
+    // Gauges are read on the HTTP thread, so values that need the Bukkit API are sampled here once a second.
+    private void startMetricsSampler() {
+        cancelMetricsSampler();
+        sampleMetrics();
+        metricsSampleTask = Bukkit.getScheduler().runTaskTimer(this, this::sampleMetrics,
+                METRICS_SAMPLE_TICKS, METRICS_SAMPLE_TICKS);
+    }
+
+    private void cancelMetricsSampler() {
+        if (metricsSampleTask != null) {
+            metricsSampleTask.cancel();
+            metricsSampleTask = null;
+        }
+    }
+
+    private void sampleMetrics() {
+        onlinePlayersSample = Bukkit.getOnlinePlayers().size();
+    }
+
+    private TickBudgetMonitor createTickBudgetMonitor() {
+        double budgetMillis = getConfig().getBoolean(CONFIG_TICK_BUDGET_ENABLED, true)
+                ? getConfig().getDouble(CONFIG_TICK_BUDGET_MAX_MSPT, DEFAULT_TICK_BUDGET_MAX_MSPT)
+                : 0d;
+        long maxDeferralSeconds = Math.max(0L, getConfig().getLong(CONFIG_TICK_BUDGET_MAX_DEFERRAL_SECONDS,
+                DEFAULT_TICK_BUDGET_MAX_DEFERRAL_SECONDS));
+        return new TickBudgetMonitor(this::serverAverageTickMillis, budgetMillis,
+                maxDeferralSeconds * 1_000_000_000L, metrics);
+    }
+
+    // Runs an admin command's work now, or once the server is back within its tick budget. The RCON
+    // connection that asked is closed by then, so a deferred run reports to the server console instead.
+    private void runWithinTickBudget(String work, String instance, CommandSender sender,
+                                     Consumer<CommandSender> action) {
+        if (tickBudget.admit(work, instance)) {
+            action.accept(sender);
+            return;
+        }
+
+        sender.sendMessage("Server is over its tick budget; the " + work
+                + " will be retried in a few seconds and report to the server console.");
+        Bukkit.getScheduler().runTaskLater(this, () -> retryWithinTickBudget(work, instance, action),
+                TICK_BUDGET_RETRY_TICKS);
+    }
+
+    private void retryWithinTickBudget(String work, String instance, Consumer<CommandSender> action) {
+        if (tickBudget.admit(work, instance)) {
+            action.accept(Bukkit.getConsoleSender());
+            return;
+        }
+        Bukkit.getScheduler().runTaskLater(this, () -> retryWithinTickBudget(work, instance, action),
+                TICK_BUDGET_RETRY_TICKS);
+    }
+
+    private double serverAverageTickMillis() {
+        try {
+            return Bukkit.getServer().getAverageTickTime();
+        } catch (UnsupportedOperationException e) {
+            // Servers without Paper's tick statistics are treated as healthy.
+            return 0d;
+        }
+    }
+
+    private long databaseFileBytes() {
+        try {
+            return databasePath == null ? 0L : Files.size(databasePath);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private void startPrometheusExporter() {
+        stopPrometheusExporter();
+        if (!getConfig().getBoolean(CONFIG_METRICS_HTTP_ENABLED, false)) {
+            return;
+        }
+
+        String bindAddress = getConfig().getString(CONFIG_METRICS_HTTP_BIND_ADDRESS, DEFAULT_METRICS_HTTP_BIND_ADDRESS);
+        int port = getConfig().getInt(CONFIG_METRICS_HTTP_PORT, DEFAULT_METRICS_HTTP_PORT);
+        PrometheusExporter exporter = new PrometheusExporter(metrics, getLogger());
+        try {
+            exporter.start(bindAddress, port);
+            prometheusExporter = exporter;
+            getLogger().info("Serving Prometheus metrics on http://" + bindAddress + ":" + exporter.port() + "/metrics");
+        } catch (IOException e) {
+            exporter.close();
+            getLogger().log(Level.WARNING, "Failed to start Prometheus metrics endpoint on " + bindAddress + ":"
+                    + port + ".", e);
+        }
+    }
+
+    private void stopPrometheusExporter() {
+        if (prometheusExporter != null) {
+            prometheusExporter.close();
+            prometheusExporter = null;
+        }
+    }
+
+    private void startPersonalQuest(Player player) {
+        if (!getConfig().getBoolean(CONFIG_PERSONAL_QUESTS_ENABLED, true) || sqliteStore == null) {
+            player.sendMessage("Persönliche Vokabel-Quests sind deaktiviert.");
+            return;
+        }
+
+        ActiveQuest current = personalQuests.current(player.getUniqueId());
+        if (current != null) {
+            sendPersonalQuestQuestion(player, current);
+            return;
+        }
+
+        PersonalQuests.Finished<ActiveQuest> last = personalQuests.lastFinished(player.getUniqueId());
+        long cooldownMillis = personalQuestCooldownMillis();
+        long waitMillis = last == null ? 0L : last.finishedAtMillis() + cooldownMillis - clock.millis();
+        if (waitMillis > 0L) {
+            player.sendMessage("Bitte warte noch " + ((waitMillis + 999L) / 1000L)
+                    + " Sekunden, bevor du eine neue Quest startest.");
+            return;
+        }
+
+        // A word whose solution was just revealed to this player is not asked again right away.
+        SQLiteStore.RewardLookup rewards = rewardLedger::isRewarded;
+        if (last != null && last.failed()) {
+            ActiveQuest failed = last.quest();
+            rewards = (username, vocabTable, deWord) -> (failed.vocabTable().equals(vocabTable)
+                    && failed.deWord().equals(deWord)) || rewardLedger.isRewarded(username, vocabTable, deWord);
+        }
+
+        SQLiteStore.QuestEntry entry;
+        try {
+            ensurePlayerTrackingLoaded(player.getName());
+            entry = selectQuestEntry(List.of(player.getName()), vocabTablesFor(player), rewards);
+        } catch (SQLException e) {
+            getLogger().log(Level.SEVERE, "Failed to select personal quest vocabulary.", e);
+            player.sendMessage("Die Quest konnte nicht gestartet werden.");
+            return;
+        }
+
+        if (entry == null) {
+            player.sendMessage("Aktuell gibt es keine belohnbare Vokabel für dich.");
+            return;
+        }
+
+        ActiveQuest quest = new ActiveQuest(entry.vocabTable(), entry.vocabId(), entry.deWord(), entry.answer(),
+                AnswerMatcher.compile(entry.vocabTable(), entry.answer(), typoToleranceFor(entry.vocabTable())));
+        long timeoutMillis = 1000L * Math.max(1, getConfig().getInt(CONFIG_PERSONAL_QUESTS_TIMEOUT_SECONDS,
+                DEFAULT_PERSONAL_QUEST_TIMEOUT_SECONDS));
+        if (!personalQuests.start(player.getUniqueId(), quest, clock.millis() + timeoutMillis)) {
+            sendPersonalQuestQuestion(player, personalQuests.current(player.getUniqueId()));
+            return;
+        }
+        metrics.increment("quests.personal_started");
+        JfrEvents.questStarted(PERSONAL_QUEST_CHANNEL, entry.vocabTable(), entry.deWord(), entry.eligibleOnlinePlayers());
+        sendPersonalQuestQuestion(player, quest);
+    }
+
+    private void sendPersonalQuestQuestion(Player player, ActiveQuest quest) {
+        if (quest == null) {
+            return;
+        }
+
+        String languageWord = "de_fr".equals(quest.vocabTable()) ? "französische" : "englische";
+        player.sendMessage("Deine Vokabel-Quest: Was ist das " + languageWord + " Wort für: " + quest.deWord()
+                + "? Antworte mit /answer <Antwort>.");
+    }
+
+    // One shared task expires every overdue personal quest instead of one timeout task per player.
+    private void startPersonalQuestSweep() {
+        cancelPersonalQuestSweep();
+        personalQuestSweepTask = Bukkit.getScheduler().runTaskTimer(this, this::expirePersonalQuests,
+                PERSONAL_QUEST_SWEEP_TICKS, PERSONAL_QUEST_SWEEP_TICKS);
+    }
+
+    private void cancelPersonalQuestSweep() {
+        if (personalQuestSweepTask != null) {
+            personalQuestSweepTask.cancel();
+            personalQuestSweepTask = null;
+        }
+    }
+
+    private long personalQuestCooldownMillis() {
+        return 1000L * Math.max(0, getConfig().getInt(CONFIG_PERSONAL_QUESTS_COOLDOWN_SECONDS,
+                DEFAULT_PERSONAL_QUEST_COOLDOWN_SECONDS));
+    }
+
+    private void expirePersonalQuests() {
+        long keepFinishedMillis = Math.max(personalQuestCooldownMillis(), PERSONAL_QUEST_FINISHED_RETENTION_MILLIS);
+        for (PersonalQuests.Entry<ActiveQuest> expired : personalQuests.expire(clock.millis(), keepFinishedMillis)) {
+            metrics.increment("quests.personal_timed_out");
+            JfrEvents.questFinished(PERSONAL_QUEST_CHANNEL, expired.quest().vocabTable(), expired.quest().deWord(),
+                    "timed_out", null);
+            Player player = Bukkit.getPlayer(expired.playerId());
+            if (player != null) {
+                player.sendMessage("Zeit abgelaufen. Lösung: " + expired.quest().deWord() + " -> "
+                        + expired.quest().answer());
+            }
+        }
+    }
+
+    private boolean startVocabularyQuest(QuestChannel<ActiveQuest> channel, boolean timerTriggered) {
+        QuestLifecycle<ActiveQuest> questLifecycle = channel.lifecycle();
+        long timerFiredNanos = channel.takeTimerFiredNanos();
+        if (questLifecycle.pendingQuest() != null || sqliteStore == null) {
             return false;
         }
 
-        if (timerTriggered && !hasMinimumVocabularyForTimerQuests()) {
-            scheduleNextQuest();
+        if (timerTriggered && !hasMinimumVocabularyForTimerQuests(channel)) {
+            scheduleNextQuest(channel);
             return false;
         }
 
         List<String> onlinePlayers = Bukkit.getOnlinePlayers()
                 .stream()
+                .filter(channel::includes)
                 .map(Player::getName)
                 .toList();
 
         if (onlinePlayers.isEmpty()) {
-            getLogger().info("Skipping quest start because no players are online.");
-            scheduleNextQuest();
+            getLogger().info("Skipping quest start" + channelSuffix(channel) + " because no players are online.");
+            scheduleNextQuest(channel);
             return false;
         }
 
         SQLiteStore.QuestEntry entry;
         try {
-            entry = sqliteStore.selectWeightedQuestForOnlinePlayers(onlinePlayers, random);
+            for (String username : onlinePlayers) {
+                ensurePlayerTrackingLoaded(username);
+            }
+            entry = selectQuestEntry(onlinePlayers, channel.vocabTables(), rewardLedger::isRewarded);
         } catch (SQLException e) {
             getLogger().log(Level.SEVERE, "Failed to select quest vocabulary.", e);
-            scheduleNextQuest();
+            scheduleNextQuest(channel);
             return false;
         }
 
         if (entry == null) {
-            broadcastAsJenkins("Aktuell gibt es keine belohnbare Vokabel für die online Spieler.");
-            getLogger().info("No eligible vocabulary entry for online players.");
-            scheduleNextQuest();
+            broadcastToChannel(channel, "Aktuell gibt es keine belohnbare Vokabel für die online Spieler.");
+            getLogger().info("No eligible vocabulary entry for online players" + channelSuffix(channel) + ".");
+            scheduleNextQuest(channel);
             return false;
         }
 
-        cancelQuestTimeout();
-        activeQuest = new ActiveQuest(entry.vocabTable(), entry.deWord(), entry.answer());
+        ActiveQuest quest = new ActiveQuest(entry.vocabTable(), entry.vocabId(), entry.deWord(), entry.answer(),
+                AnswerMatcher.compile(entry.vocabTable(), entry.answer(), typoToleranceFor(entry.vocabTable())));
+        if (!questLifecycle.open(quest)) {
+            return false;
+        }
+        channel.cancelTimeoutTask();
+        metrics.increment("quests.started");
+        JfrEvents.questStarted(channel.name(), entry.vocabTable(), entry.deWord(), entry.eligibleOnlinePlayers());
 
         String languageWord = "de_fr".equals(entry.vocabTable()) ? "französische" : "englische";
-        broadcastAsJenkins(
+        broadcastToChannel(channel,
                 "Vokabel-Quest: Was ist das " + languageWord + " Wort für: "
                         + entry.deWord()
                         + "? Antworte privat mit /msg jenkins <Antwort> oder mit /answer <Antwort>."
         );
+        if (timerTriggered && timerFiredNanos >= 0L) {
+            metrics.recordSince("quests.fire_to_broadcast", timerFiredNanos);
+        }
 
-        ActiveQuest expectedQuest = activeQuest;
-        questTimeoutTask = Bukkit.getScheduler().runTaskLater(this, () -> onQuestTimeout(expectedQuest),
-                QUEST_TIMEOUT_TICKS);
-        getLogger().info("Started quest for " + entry.vocabTable() + ":" + entry.deWord()
+        channel.replaceTimeoutTask(Bukkit.getScheduler().runTaskLater(this, () -> onQuestTimeout(channel, quest),
+                QUEST_TIMEOUT_TICKS));
+        getLogger().info("Started quest" + channelSuffix(channel) + " for " + entry.vocabTable() + ":"
+                + entry.deWord()
                 + " (attempts=" + entry.attempts()
                 + ", eligibleOnlinePlayers=" + entry.eligibleOnlinePlayers() + ")");
         return true;
     }
 
-    private boolean hasMinimumVocabularyForTimerQuests() {
+    private String channelSuffix(QuestChannel<ActiveQuest> channel) {
+        return questChannels.size() > 1 ? " in channel '" + channel.name() + "'" : "";
+    }
+
+    private boolean hasMinimumVocabularyForTimerQuests(QuestChannel<ActiveQuest> channel) {
         try {
-            int totalEntries = sqliteStore.totalVocabularyEntries();
+            int totalEntries = sqliteStore.totalVocabularyEntries(channel.vocabTables());
             if (totalEntries < MIN_VOCAB_ENTRIES_FOR_TIMER_QUESTS) {
                 getLogger().info("Skipping timed quest start because only " + totalEntries
                         + " vocabulary entries are available (minimum "
@@ -781,53 +1782,56 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
         }
     }
 
-    private void onQuestTimeout(ActiveQuest expectedQuest) {
-        if (activeQuest == null || expectedQuest == null) {
+    private void onQuestTimeout(QuestChannel<ActiveQuest> channel, ActiveQuest expectedQuest) {
+        if (expectedQuest == null || !channel.lifecycle().expire(expectedQuest)) {
             return;
         }
 
-        if (!isSameQuest(activeQuest, expectedQuest)) {
-            return;
-        }
+        metrics.increment("quests.timed_out");
+        JfrEvents.questFinished(channel.name(), expectedQuest.vocabTable(), expectedQuest.deWord(), "timed_out", null);
+        broadcastQuestTimedOut(channel, expectedQuest);
+        finishQuest(channel);
+    }
 
-        broadcastAsJenkins("Vokabel-Quest beendet. Niemand hat rechtzeitig korrekt geantwortet.");
-        broadcastSolution(activeQuest);
-        finishQuest();
+    private void broadcastQuestTimedOut(QuestChannel<ActiveQuest> channel, ActiveQuest quest) {
+        broadcastToChannel(channel, "Vokabel-Quest beendet. Niemand hat rechtzeitig korrekt geantwortet.");
+        broadcastSolution(channel, quest);
     }
 
-    private void finishQuest() {
-        activeQuest = null;
-        cancelQuestTimeout();
-        scheduleNextQuest();
+    private void finishQuest(QuestChannel<ActiveQuest> channel) {
+        channel.cancelTimeoutTask();
+        scheduleNextQuest(channel);
     }
 
-    private void scheduleNextQuest() {
-        cancelScheduledQuest();
+    private void runOnMainThread(Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(this, task);
+        }
+    }
 
+    private void scheduleNextQuest(QuestChannel<ActiveQuest> channel) {
         int bound = QUEST_DELAY_MAX_SECONDS - QUEST_DELAY_MIN_SECONDS + 1;
         int delaySeconds = QUEST_DELAY_MIN_SECONDS + random.nextInt(bound);
         long delayTicks = delaySeconds * 20L;
 
-        scheduledQuestTask = Bukkit.getScheduler().runTaskLater(this, () -> {
-            scheduledQuestTask = null;
-            startVocabularyQuest(true);
-        }, delayTicks);
+        channel.replaceScheduledTask(Bukkit.getScheduler().runTaskLater(this,
+                () -> onQuestTimerFired(channel), delayTicks));
 
-        getLogger().info("Scheduled next vocabulary quest in " + delaySeconds + " seconds.");
+        getLogger().info("Scheduled next vocabulary quest" + channelSuffix(channel) + " in " + delaySeconds
+                + " seconds.");
     }
 
-    private void cancelScheduledQuest() {
-        if (scheduledQuestTask != null) {
-            scheduledQuestTask.cancel();
-            scheduledQuestTask = null;
-        }
-    }
-
-    private void cancelQuestTimeout() {
-        if (questTimeoutTask != null) {
-            questTimeoutTask.cancel();
-            questTimeoutTask = null;
+    private void onQuestTimerFired(QuestChannel<ActiveQuest> channel) {
+        channel.scheduledTaskFired();
+        channel.markTimerFired(metrics.nanoTime());
+        if (!tickBudget.admit("quest_start", channel.name())) {
+            channel.replaceScheduledTask(Bukkit.getScheduler().runTaskLater(this,
+                    () -> onQuestTimerFired(channel), TICK_BUDGET_RETRY_TICKS));
+            return;
         }
+        startVocabularyQuest(channel, true);
     }
 
     private void startPlaytimeTracker() {
@@ -856,6 +1860,21 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
             return;
         }
 
+        JfrEvents.PlaytimeTick event = new JfrEvents.PlaytimeTick();
+        event.begin();
+        long started = metrics.nanoTime();
+        try {
+            addOnlinePlaytimeMinute();
+        } finally {
+            metrics.recordSince("playtime.tick", started);
+            if (event.shouldCommit()) {
+                event.players = Bukkit.getOnlinePlayers().size();
+                event.commit();
+            }
+        }
+    }
+
+    private void addOnlinePlaytimeMinute() {
         String todayDate = todayDate();
         int defaultLimit = getDefaultPlaytimeLimitMinutes();
         for (Player player : Bukkit.getOnlinePlayers()) {
@@ -880,12 +1899,12 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
         }
     }
 
-    private void broadcastSolution(ActiveQuest quest) {
+    private void broadcastSolution(QuestChannel<ActiveQuest> channel, ActiveQuest quest) {
         if (quest == null) {
             return;
         }
 
-        broadcastAsJenkins("Lösung: " + quest.deWord() + " -> " + quest.answer() + "!");
+        broadcastToChannel(channel, "Lösung: " + quest.deWord() + " -> " + quest.answer() + "!");
     }
 
     private void giveEmerald(Player player) {
@@ -964,7 +1983,7 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
     }
 
     private String todayDate() {
-        return LocalDate.now().toString();
+        return LocalDate.now(clock).toString();
     }
 
     private Integer parseNonNegativeInt(String raw) {
@@ -984,37 +2003,6 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
         return value;
     }
 
-    private boolean isSameQuest(ActiveQuest a, ActiveQuest b) {
-        return a.vocabTable().equals(b.vocabTable())
-                && a.deWord().equals(b.deWord())
-                && a.answer().equals(b.answer());
-    }
-
-    private String parsePrivatePluginAnswer(String message) {
-        if (message == null || message.isBlank() || !message.startsWith("/")) {
-            return null;
-        }
-
-        String content = message.substring(1).trim();
-        String[] parts = content.split("\\s+", 3);
-        if (parts.length < 2) {
-            return null;
-        }
-
-        String command = parts[0].toLowerCase(Locale.ROOT);
-        if (!"msg".equals(command) && !"tell".equals(command) && !"w".equals(command)) {
-            return null;
-        }
-
-        String target = parts[1].toLowerCase(Locale.ROOT);
-        if (!"jenkins".equals(target) && !"vocabularyquest".equals(target)
-                && !"vocabularyquestplugin".equals(target)) {
-            return null;
-        }
-
-        return parts.length >= 3 ? parts[2].trim() : "";
-    }
-
     private String normalizeAnswer(String answer) {
         if (answer == null) {
             return "";
@@ -1051,6 +2039,20 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
         Bukkit.broadcast(Component.text("<" + PLUGIN_CHAT_NAME + "> " + message));
     }
 
+    private void broadcastToChannel(QuestChannel<ActiveQuest> channel, String message) {
+        if (channel.coversAllWorlds()) {
+            broadcastAsJenkins(message);
+            return;
+        }
+
+        Component text = Component.text("<" + PLUGIN_CHAT_NAME + "> " + message);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (channel.includes(player)) {
+                player.sendMessage(text);
+            }
+        }
+    }
+
     private void sendPlaytimeWarning(Player player, int remainingMinutes) {
         String minuteLabel = remainingMinutes == 1 ? "minute" : "minutes";
         String message = "Playtime warning: " + remainingMinutes + " " + minuteLabel + " remaining today.";
@@ -1061,6 +2063,33 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
         return sender instanceof RemoteConsoleCommandSender;
     }
 
+    private AnswerRateLimiter createAnswerRateLimiter() {
+        if (!getConfig().getBoolean(CONFIG_ANSWER_RATE_LIMIT_ENABLED, true)) {
+            return null;
+        }
+
+        int burst = Math.max(1, getConfig().getInt(CONFIG_ANSWER_RATE_LIMIT_BURST, DEFAULT_ANSWER_RATE_LIMIT_BURST));
+        double refillPerSecond = getConfig().getDouble(CONFIG_ANSWER_RATE_LIMIT_REFILL_PER_SECOND,
+                DEFAULT_ANSWER_RATE_LIMIT_REFILL_PER_SECOND);
+        if (refillPerSecond <= 0d) {
+            getLogger().warning(CONFIG_ANSWER_RATE_LIMIT_REFILL_PER_SECOND + " must be positive; using "
+                    + DEFAULT_ANSWER_RATE_LIMIT_REFILL_PER_SECOND + ".");
+            refillPerSecond = DEFAULT_ANSWER_RATE_LIMIT_REFILL_PER_SECOND;
+        }
+        return new AnswerRateLimiter(burst, refillPerSecond);
+    }
+
+    private AnswerMatcher.TypoTolerance typoToleranceFor(String vocabTable) {
+        String path = CONFIG_TYPO_TOLERANCE_PREFIX + ("de_fr".equals(vocabTable) ? "fr" : "en");
+        if (!getConfig().getBoolean(path + ".enabled", false)) {
+            return AnswerMatcher.TypoTolerance.NONE;
+        }
+
+        return new AnswerMatcher.TypoTolerance(
+                Math.max(0, getConfig().getInt(path + ".max_edits", 1)),
+                Math.max(1, getConfig().getInt(path + ".chars_per_edit", 5)));
+    }
+
     private String getConfiguredSheetUrl(String language) {
         return getConfig().getString(configPathForSheetUrl(language), "").trim();
     }
@@ -1073,6 +2102,10 @@ public class VocabularyQuestPlugin extends JavaPlugin implements Listener {
         return "en".equals(language) || "fr".equals(language);
     }
 
+    private boolean isSupportedImportMode(String mode) {
+        return IMPORT_MODE_MERGE.equals(mode) || IMPORT_MODE_SYNC.equals(mode);
+    }
+
     private boolean isValidHttpUrl(String value) {
         if (value == null || value.isBlank()) {
             return false;
@@ -0,0 +1,94 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnswerMatcherTest {
+
+    @Test
+    void acceptsAlternativesAndOptionalArticles() {
+        AnswerMatcher matcher = AnswerMatcher.compile("de_en", "the house / home; building");
+
+        assertTrue(matcher.matches("house"));
+        assertTrue(matcher.matches("  The   House "));
+        assertTrue(matcher.matches("a house"));
+        assertTrue(matcher.matches("home"));
+        assertTrue(matcher.matches("Building"));
+        assertFalse(matcher.matches("the house / home"));
+        assertFalse(matcher.matches("hous"));
+        assertFalse(matcher.matches(""));
+        assertFalse(matcher.matches(null));
+        assertEquals(Set.of("house", "home", "building"), matcher.acceptedAnswers());
+    }
+
+    @Test
+    void stripsFrenchArticlesIncludingElision() {
+        AnswerMatcher matcher = AnswerMatcher.compile("de_fr", "l'eau");
+
+        assertTrue(matcher.matches("eau"));
+        assertTrue(matcher.matches("l’eau"));
+        assertTrue(matcher.matches("L'EAU"));
+        assertFalse(matcher.matches("the eau"));
+
+        AnswerMatcher withArticle = AnswerMatcher.compile("de_fr", "la maison");
+        assertTrue(withArticle.matches("maison"));
+        assertTrue(withArticle.matches("une maison"));
+    }
+
+    @Test
+    void foldsUmlautsAccentsAndCompatibilityForms() {
+        AnswerMatcher umlaut = AnswerMatcher.compile("de_en", "Müller");
+        assertTrue(umlaut.matches("müller"));
+        assertTrue(umlaut.matches("mueller"));
+        assertTrue(umlaut.matches("muller"));
+        assertTrue(umlaut.matches("MÜLLER"));
+
+        AnswerMatcher sharpS = AnswerMatcher.compile("de_en", "Straße");
+        assertTrue(sharpS.matches("strasse"));
+
+        AnswerMatcher accent = AnswerMatcher.compile("de_fr", "école");
+        assertTrue(accent.matches("ecole"));
+        assertTrue(accent.matches("École"));
+
+        AnswerMatcher ligature = AnswerMatcher.compile("de_en", "file");
+        assertTrue(ligature.matches("ﬁle"));
+        assertTrue(ligature.matches("ｆｉｌｅ"));
+    }
+
+    @Test
+    void keepsArticleOnlyAnswersIntact() {
+        AnswerMatcher matcher = AnswerMatcher.compile("de_en", "a");
+
+        assertTrue(matcher.matches("A"));
+        assertFalse(matcher.matches("the"));
+    }
+
+    @Test
+    void typoToleranceScalesWithAnswerLength() {
+        AnswerMatcher.TypoTolerance tolerance = new AnswerMatcher.TypoTolerance(2, 5);
+        AnswerMatcher matcher = AnswerMatcher.compile("de_en", "the refrigerator / tree", tolerance);
+
+        assertTrue(matcher.matches("refridgerator"));
+        assertTrue(matcher.matches("the refrigirator"));
+        assertTrue(matcher.matches("refrigeratr"));
+        assertFalse(matcher.matches("refrgratr"), "More than max_edits typos are rejected.");
+        assertFalse(matcher.matches("tre"), "Short answers stay exact.");
+        assertTrue(matcher.matches("tree"));
+        assertFalse(AnswerMatcher.compile("de_en", "refrigerator").matches("refridgerator"),
+                "Typo tolerance is off unless configured.");
+    }
+
+    @Test
+    void typoToleranceAppliesAfterFolding() {
+        AnswerMatcher matcher = AnswerMatcher.compile("de_fr", "la bibliothèque", new AnswerMatcher.TypoTolerance(1, 5));
+
+        assertTrue(matcher.matches("bibliotheque"));
+        assertTrue(matcher.matches("la bibliotèque"));
+        assertFalse(matcher.matches("biblioteke"));
+    }
+}
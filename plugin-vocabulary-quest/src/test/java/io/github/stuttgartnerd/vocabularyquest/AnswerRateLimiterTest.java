@@ -0,0 +1,90 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnswerRateLimiterTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void allowsBurstThenRefillsLazily() {
+        AnswerRateLimiter limiter = new AnswerRateLimiter(3, 0.5d);
+        UUID player = UUID.randomUUID();
+
+        assertTrue(limiter.tryAcquire(player, 0L));
+        assertTrue(limiter.tryAcquire(player, 0L));
+        assertTrue(limiter.tryAcquire(player, 0L));
+        assertFalse(limiter.tryAcquire(player, 0L));
+        assertFalse(limiter.tryAcquire(player, SECOND));
+        assertTrue(limiter.tryAcquire(player, 2 * SECOND + SECOND / 2));
+        assertFalse(limiter.tryAcquire(player, 3 * SECOND));
+        assertEquals(3, limiter.throttledCount());
+
+        assertTrue(limiter.tryAcquire(player, 1_000 * SECOND));
+        assertTrue(limiter.tryAcquire(player, 1_000 * SECOND));
+        assertTrue(limiter.tryAcquire(player, 1_000 * SECOND));
+        assertFalse(limiter.tryAcquire(player, 1_000 * SECOND), "Refill is capped at the burst size.");
+    }
+
+    @Test
+    void bucketsArePerPlayer() {
+        AnswerRateLimiter limiter = new AnswerRateLimiter(1, 1d);
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+
+        assertTrue(limiter.tryAcquire(alice, 0L));
+        assertFalse(limiter.tryAcquire(alice, 0L));
+        assertTrue(limiter.tryAcquire(bob, 0L));
+        assertEquals(2, limiter.trackedPlayers());
+    }
+
+    @Test
+    void idleBucketsExpireAfterTheirRefillHorizonWithoutLosingActiveOnes() {
+        // Burst 2 at 1 token/s: a bucket is full again after 2 s of silence.
+        AnswerRateLimiter limiter = new AnswerRateLimiter(2, 1d);
+        Random random = new Random(7);
+        List<UUID> idle = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            UUID player = new UUID(random.nextLong() & 0xFFL, random.nextLong() & 0xFFFFL);
+            if (!idle.contains(player)) {
+                idle.add(player);
+                assertTrue(limiter.tryAcquire(player, 0L));
+            }
+        }
+        UUID active = new UUID(1L, 1L);
+        assertTrue(limiter.tryAcquire(active, SECOND));
+        assertTrue(limiter.tryAcquire(active, SECOND));
+        assertEquals(idle.size() + 1, limiter.trackedPlayers());
+
+        List<UUID> newcomers = new ArrayList<>();
+        for (int i = 0; newcomers.size() < idle.size(); i++) {
+            UUID player = new UUID(0x100L + i, i);
+            newcomers.add(player);
+            assertTrue(limiter.tryAcquire(player, 2 * SECOND + SECOND / 2));
+        }
+        assertTrue(limiter.trackedPlayers() < idle.size() + newcomers.size(),
+                "Buckets idle for a full refill should have been dropped.");
+        assertTrue(limiter.tryAcquire(active, 2 * SECOND + SECOND / 2));
+        assertFalse(limiter.tryAcquire(active, 2 * SECOND + SECOND / 2),
+                "A bucket that is still refilling must survive the purge instead of starting full.");
+        for (UUID player : newcomers) {
+            assertTrue(limiter.tryAcquire(player, 2 * SECOND + SECOND / 2));
+            assertFalse(limiter.tryAcquire(player, 2 * SECOND + SECOND / 2));
+        }
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new AnswerRateLimiter(0, 1d));
+        assertThrows(IllegalArgumentException.class, () -> new AnswerRateLimiter(1, 0d));
+    }
+}
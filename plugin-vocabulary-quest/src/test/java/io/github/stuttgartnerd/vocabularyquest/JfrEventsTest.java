@@ -0,0 +1,128 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrEventsTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void bundledSettingsEnableEveryPluginEvent() throws Exception {
+        Map<String, String> settings = bundledConfiguration().getSettings();
+
+        int eventTypes = 0;
+        for (Class<?> nested : JfrEvents.class.getDeclaredClasses()) {
+            if (!Event.class.isAssignableFrom(nested)) {
+                continue;
+            }
+            String name = nested.getAnnotation(Name.class).value();
+            assertEquals("true", settings.get(name + "#enabled"), name);
+            eventTypes++;
+        }
+        assertEquals(7, eventTypes);
+    }
+
+    @Test
+    void recordingWithBundledSettingsCapturesQuestAndSqlEvents() throws Exception {
+        Path recordingFile = tempDir.resolve("quest.jfr");
+        try (Recording recording = new Recording(bundledConfiguration());
+             SQLiteStore store = new SQLiteStore(tempDir.resolve("jfr.db"))) {
+            recording.start();
+            store.initializeSchema();
+            store.upsertUser("alice");
+            JfrEvents.questStarted("default", "de_en", "haus", 2);
+            JfrEvents.questFinished("default", "de_en", "haus", "won", "alice");
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        RecordedEvent upsert = find(events, "vocabularyquest.SqlOperation", "operation", "upsertUser");
+        assertEquals("users", upsert.getString("table"));
+        assertEquals(-1, upsert.getInt("rows"));
+
+        RecordedEvent started = find(events, "vocabularyquest.QuestStarted", "deWord", "haus");
+        assertEquals(2, started.getInt("eligiblePlayers"));
+        RecordedEvent finished = find(events, "vocabularyquest.QuestFinished", "deWord", "haus");
+        assertEquals("won", finished.getString("outcome"));
+        assertEquals("alice", finished.getString("winner"));
+    }
+
+    @Test
+    void sqlThresholdKeepsOnlySlowCalls() throws Exception {
+        Path recordingFile = tempDir.resolve("slow.jfr");
+        List<SQLiteStore.VocabEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            entries.add(new SQLiteStore.VocabEntry("wort" + i, "word" + i));
+        }
+        try (Recording recording = new Recording();
+             SQLiteStore store = new SQLiteStore(tempDir.resolve("slow.db"))) {
+            recording.enable("vocabularyquest.SqlOperation").withThreshold(Duration.ofMillis(1));
+            recording.start();
+            store.initializeSchema();
+            store.insertMissingVocabularyEntries("en", entries);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        RecordedEvent insert = find(events, "vocabularyquest.SqlOperation",
+                "operation", "insertMissingVocabularyEntries");
+        assertEquals(50_000, insert.getInt("rows"));
+        assertTrue(events.stream()
+                .filter(event -> event.getEventType().getName().equals("vocabularyquest.SqlOperation"))
+                .allMatch(event -> event.getDuration().compareTo(Duration.ofMillis(1)) >= 0));
+    }
+
+    @Test
+    void eventsStayOffWithoutTheBundledSettings() throws Exception {
+        Path recordingFile = tempDir.resolve("plain.jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            JfrEvents.questStarted("default", "de_en", "baum", 1);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        assertTrue(RecordingFile.readAllEvents(recordingFile).stream()
+                .noneMatch(event -> event.getEventType().getName().startsWith("vocabularyquest.")));
+    }
+
+    private static Configuration bundledConfiguration() throws Exception {
+        try (InputStream in = JfrEvents.class.getClassLoader().getResourceAsStream(JfrEvents.SETTINGS_RESOURCE)) {
+            assertNotNull(in);
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return Configuration.create(reader);
+            }
+        }
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String type, String field, String value) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(type))
+                .filter(event -> value.equals(event.getString(field)))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + type + " with " + field + "=" + value));
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MyersPatternTest {
+
+    @Test
+    void matchesKnownEditDistances() {
+        MyersPattern pattern = MyersPattern.compile("kitten");
+
+        assertEquals(0, pattern.distance("kitten", 3));
+        assertEquals(1, pattern.distance("kiten", 3));
+        assertEquals(1, pattern.distance("kitteen", 3));
+        assertEquals(1, pattern.distance("kitsen", 3));
+        assertEquals(3, pattern.distance("sitting", 3));
+        assertEquals(6, pattern.distance("", 10));
+        assertEquals(0, MyersPattern.compile("").distance("", 1));
+        assertEquals(2, MyersPattern.compile("").distance("ab", 5));
+    }
+
+    @Test
+    void capsResultAtMaxDistancePlusOne() {
+        MyersPattern pattern = MyersPattern.compile("refrigerator");
+
+        assertEquals(2, pattern.distance("fridge", 1));
+        assertEquals(2, pattern.distance("refridgeratorr", 1));
+        assertEquals(1, pattern.distance("refridgerator", 1));
+    }
+
+    @Test
+    void handlesNonAsciiAndMaxLengthPatterns() {
+        assertEquals(1, MyersPattern.compile("straße").distance("strase", 2));
+        assertEquals(0, MyersPattern.compile("øre").distance("øre", 1));
+        assertEquals(1, MyersPattern.compile("øre").distance("ore", 1));
+
+        String longest = "a".repeat(MyersPattern.MAX_LENGTH);
+        assertEquals(0, MyersPattern.compile(longest).distance(longest, 1));
+        assertEquals(1, MyersPattern.compile(longest).distance(longest.substring(1), 1));
+        assertThrows(IllegalArgumentException.class, () -> MyersPattern.compile(longest + "a"));
+    }
+
+    @Test
+    void agreesWithDynamicProgrammingOnRandomInputs() {
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            String pattern = randomWord(random, 1 + random.nextInt(MyersPattern.MAX_LENGTH));
+            String text = random.nextBoolean()
+                    ? mutate(random, pattern)
+                    : randomWord(random, random.nextInt(MyersPattern.MAX_LENGTH + 4));
+            int maxDistance = random.nextInt(4);
+
+            int expected = Math.min(levenshtein(pattern, text), maxDistance + 1);
+            assertEquals(expected, MyersPattern.compile(pattern).distance(text, maxDistance),
+                    pattern + " vs " + text);
+        }
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append("abcäé".charAt(random.nextInt(5)));
+        }
+        return builder.toString();
+    }
+
+    private static String mutate(Random random, String value) {
+        StringBuilder builder = new StringBuilder(value);
+        int edits = random.nextInt(4);
+        for (int i = 0; i < edits && builder.length() > 0; i++) {
+            int position = random.nextInt(builder.length());
+            switch (random.nextInt(3)) {
+                case 0 -> builder.deleteCharAt(position);
+                case 1 -> builder.insert(position, 'x');
+                default -> builder.setCharAt(position, 'y');
+            }
+        }
+        return builder.toString();
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersonalQuestsTest {
+    @Test
+    void keepsOneQuestPerPlayer() {
+        PersonalQuests<String> quests = new PersonalQuests<>();
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+
+        assertTrue(quests.start(alice, "haus", 100L));
+        assertFalse(quests.start(alice, "baum", 200L));
+        assertTrue(quests.start(bob, "baum", 200L));
+        assertEquals("haus", quests.current(alice));
+        assertEquals(2, quests.size());
+
+        assertFalse(quests.complete(alice, "baum", 50L));
+        assertTrue(quests.complete(alice, "haus", 50L));
+        assertFalse(quests.complete(alice, "haus", 60L));
+        assertNull(quests.current(alice));
+
+        quests.cancel(bob, 70L);
+        assertEquals(0, quests.size());
+        assertEquals(new PersonalQuests.Finished<>("baum", 70L, true), quests.lastFinished(bob),
+                "Quitting counts as failing the quest.");
+        assertTrue(quests.expire(1_000L, Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void expiresOnlyOverdueQuestsThatAreStillOpen() {
+        PersonalQuests<String> quests = new PersonalQuests<>();
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        UUID carol = UUID.randomUUID();
+        quests.start(alice, "haus", 100L);
+        quests.start(bob, "baum", 300L);
+        quests.start(carol, "maus", 200L);
+        quests.complete(carol, "maus", 10L);
+
+        assertTrue(quests.expire(99L, Long.MAX_VALUE).isEmpty());
+        List<PersonalQuests.Entry<String>> expired = quests.expire(250L, Long.MAX_VALUE);
+        assertEquals(List.of(new PersonalQuests.Entry<>(alice, "haus", 100L)), expired);
+        assertEquals("baum", quests.current(bob));
+
+        // A new quest for the same player must not be expired by the old deadline.
+        quests.start(alice, "katze", 1_000L);
+        assertEquals(List.of(new PersonalQuests.Entry<>(bob, "baum", 300L)), quests.expire(500L, Long.MAX_VALUE));
+        assertEquals("katze", quests.current(alice));
+    }
+
+    @Test
+    void countsMissesAndRemembersHowTheLastQuestEnded() {
+        PersonalQuests<String> quests = new PersonalQuests<>();
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        quests.start(alice, "haus", 1_000L);
+        quests.start(bob, "baum", 100L);
+
+        assertEquals(1, quests.miss(alice, "haus"));
+        assertEquals(2, quests.miss(alice, "haus"));
+        assertEquals(-1, quests.miss(alice, "baum"));
+        assertTrue(quests.fail(alice, "haus", 40L));
+        assertFalse(quests.complete(alice, "haus", 50L));
+        assertEquals(new PersonalQuests.Finished<>("haus", 40L, true), quests.lastFinished(alice));
+
+        quests.start(alice, "maus", 1_000L);
+        assertEquals(1, quests.miss(alice, "maus"), "A new quest starts without misses.");
+        assertTrue(quests.complete(alice, "maus", 60L));
+        assertEquals(new PersonalQuests.Finished<>("maus", 60L, false), quests.lastFinished(alice));
+
+        quests.expire(150L, Long.MAX_VALUE);
+        assertEquals(new PersonalQuests.Finished<>("baum", 150L, true), quests.lastFinished(bob));
+        assertNull(quests.lastFinished(UUID.randomUUID()));
+    }
+
+    @Test
+    void forgetsFinishesOnceTheyArePastTheirRetention() {
+        PersonalQuests<String> quests = new PersonalQuests<>();
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        quests.start(alice, "haus", 1_000L);
+        quests.start(bob, "baum", 1_000L);
+        quests.complete(alice, "haus", 10L);
+        quests.cancel(bob, 20L);
+
+        quests.expire(50L, 40L);
+        assertNull(quests.lastFinished(alice));
+        assertEquals(new PersonalQuests.Finished<>("baum", 20L, true), quests.lastFinished(bob));
+
+        // A newer finish for the same player survives the older one being dropped.
+        quests.start(bob, "maus", 1_000L);
+        quests.complete(bob, "maus", 55L);
+        quests.expire(60L, 40L);
+        assertEquals(new PersonalQuests.Finished<>("maus", 55L, false), quests.lastFinished(bob));
+        quests.expire(95L, 40L);
+        assertNull(quests.lastFinished(bob));
+    }
+
+    @Test
+    void answerAndExpiryRaceResolvesEachQuestOnce() throws Exception {
+        PersonalQuests<String> quests = new PersonalQuests<>();
+        List<UUID> players = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            UUID player = UUID.randomUUID();
+            players.add(player);
+            quests.start(player, "word" + i, i);
+        }
+
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger expired = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 3; t++) {
+            int offset = t;
+            executor.execute(() -> {
+                await(start);
+                for (int i = offset; i < players.size(); i += 3) {
+                    if (quests.complete(players.get(i), "word" + i, i)) {
+                        completed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.execute(() -> {
+            await(start);
+            for (long now = 0; now < 500; now += 10) {
+                expired.addAndGet(quests.expire(now, Long.MAX_VALUE).size());
+            }
+        });
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        expired.addAndGet(quests.expire(Long.MAX_VALUE, Long.MAX_VALUE).size());
+        assertEquals(500, completed.get() + expired.get());
+        assertEquals(0, quests.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PluginMetricsTest {
+    @Test
+    void bucketsKeepSmallValuesExactAndLargeValuesWithinSixPercent() {
+        for (long value = 0L; value < 32L; value++) {
+            int index = PluginMetrics.LatencyHistogram.bucketIndex(value);
+            assertEquals(value, PluginMetrics.LatencyHistogram.bucketUpperBound(index));
+        }
+
+        for (long value = 32L; value < 1L << 40; value = value * 3 / 2 + 7) {
+            long upper = PluginMetrics.LatencyHistogram.bucketUpperBound(
+                    PluginMetrics.LatencyHistogram.bucketIndex(value));
+            assertTrue(upper >= value, "upper bound below value " + value);
+            assertTrue(upper - value <= value / 16, "bucket too wide for " + value);
+        }
+        assertEquals(Long.MAX_VALUE, PluginMetrics.LatencyHistogram.bucketUpperBound(
+                PluginMetrics.LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void percentilesFollowTheRecordedDistribution() {
+        PluginMetrics.LatencyHistogram histogram = new PluginMetrics.LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        assertEquals(1000L, histogram.count());
+        assertEquals(1_000_000L, histogram.max());
+        assertWithin(500_000L, histogram.percentile(50d));
+        assertWithin(990_000L, histogram.percentile(99d));
+        assertEquals(1_000_000L, histogram.percentile(100d));
+    }
+
+    @Test
+    void reportsRatesSinceTheLastReset() {
+        AtomicLong now = new AtomicLong(0L);
+        PluginMetrics metrics = new PluginMetrics(now::get);
+        metrics.increment("answers.correct");
+        metrics.increment("answers.correct");
+        long started = metrics.nanoTime();
+        now.addAndGet(2_500_000L);
+        metrics.recordSince("quest.select", started);
+        metrics.gauge("quests.open", () -> 3L);
+        now.set(2_000_000_000L);
+
+        List<String> report = metrics.report();
+        assertEquals("window=2.0s", report.get(0));
+        assertTrue(report.contains("quest.select n=1 rate=0.50/s p50=2.50ms p99=2.50ms max=2.50ms"), report.toString());
+        assertTrue(report.contains("answers.correct count=2 rate=1.00/s"), report.toString());
+        assertTrue(report.contains("quests.open value=3"), report.toString());
+
+        metrics.reset();
+        now.addAndGet(1_000_000_000L);
+        report = metrics.report();
+        assertEquals(0L, metrics.counter("answers.correct"));
+        assertTrue(report.stream().noneMatch(line -> line.startsWith("quest.select")), report.toString());
+        assertTrue(report.contains("quests.open value=3"), report.toString());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 16, "expected ~" + expected + " but was " + actual);
+    }
+}
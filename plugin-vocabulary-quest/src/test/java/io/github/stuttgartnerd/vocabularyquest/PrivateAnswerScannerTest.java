@@ -0,0 +1,75 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PrivateAnswerScannerTest {
+
+    @Test
+    void extractsAnswerForPluginTargets() {
+        assertEquals("house", PrivateAnswerScanner.extractAnswer("/msg jenkins house"));
+        assertEquals("the house", PrivateAnswerScanner.extractAnswer("/TELL Jenkins   the house  "));
+        assertEquals("maison", PrivateAnswerScanner.extractAnswer("/w vocabularyquestplugin maison"));
+        assertEquals("", PrivateAnswerScanner.extractAnswer("/msg jenkins"));
+        assertEquals("", PrivateAnswerScanner.extractAnswer("/msg jenkins   "));
+    }
+
+    @Test
+    void rejectsOtherCommandsAndTargets() {
+        assertNull(PrivateAnswerScanner.extractAnswer(null));
+        assertNull(PrivateAnswerScanner.extractAnswer(""));
+        assertNull(PrivateAnswerScanner.extractAnswer("msg jenkins house"));
+        assertNull(PrivateAnswerScanner.extractAnswer("/"));
+        assertNull(PrivateAnswerScanner.extractAnswer("/msg"));
+        assertNull(PrivateAnswerScanner.extractAnswer("/msg alice hi"));
+        assertNull(PrivateAnswerScanner.extractAnswer("/msgs jenkins hi"));
+        assertNull(PrivateAnswerScanner.extractAnswer("/warp spawn"));
+        assertNull(PrivateAnswerScanner.extractAnswer("/msg jenkinsx hi"));
+        assertNull(PrivateAnswerScanner.extractAnswer("/home"));
+    }
+
+    @Test
+    void agreesWithRegexSplitParser() {
+        List<String> messages = List.of(
+                "/msg jenkins house", "/ msg jenkins house", "/msg\tjenkins\thouse", "/MSG JENKINS House ",
+                "/tell vocabularyquest a b c", "/w jenkins", "/w  jenkins  x  y ", "/msg", "/msg ", "/",
+                "/spawn", "/tp alice bob", "/msg bob hi there", "/tellraw @a {}", "/warp", "/w", "/t jenkins x",
+                "/m jenkins x", "/msg jenkins house\n", "hello", "", "   ", "/ ", "/msg jenkins  ", "/w vocabularyquestplugin"
+        );
+
+        for (String message : messages) {
+            assertEquals(regexParser(message), PrivateAnswerScanner.extractAnswer(message), message);
+        }
+    }
+
+    // The parser this scanner replaced.
+    private static String regexParser(String message) {
+        if (message == null || message.isBlank() || !message.startsWith("/")) {
+            return null;
+        }
+
+        String content = message.substring(1).trim();
+        String[] parts = content.split("\\s+", 3);
+        if (parts.length < 2) {
+            return null;
+        }
+
+        String command = parts[0].toLowerCase(Locale.ROOT);
+        if (!"msg".equals(command) && !"tell".equals(command) && !"w".equals(command)) {
+            return null;
+        }
+
+        String target = parts[1].toLowerCase(Locale.ROOT);
+        if (!"jenkins".equals(target) && !"vocabularyquest".equals(target)
+                && !"vocabularyquestplugin".equals(target)) {
+            return null;
+        }
+
+        return parts.length >= 3 ? parts[2].trim() : "";
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrometheusExporterTest {
+    @Test
+    void rendersLabelledFamiliesWithOneTypeLineEach() {
+        AtomicLong now = new AtomicLong(0L);
+        PluginMetrics metrics = new PluginMetrics(now::get);
+        metrics.increment("answers.correct");
+        metrics.add("answers.wrong", 3L);
+        metrics.recordSince("sqlite.recordAttempt", now.getAndAdd(2_000_000L));
+        metrics.recordSince("sqlite.claimReward", now.getAndAdd(1_000L));
+        metrics.recordSince("playtime.tick", now.getAndAdd(500_000L));
+        metrics.gauge("db.file_bytes", () -> 4096L);
+
+        String text = PrometheusExporter.render(metrics);
+
+        assertEquals(1, occurrences(text, "# TYPE vocabquest_sqlite_duration_seconds summary\n"), text);
+        assertTrue(text.contains(
+                "vocabquest_sqlite_duration_seconds{operation=\"recordAttempt\",quantile=\"0.99\"} 0.002\n"), text);
+        assertTrue(text.contains("vocabquest_sqlite_duration_seconds_count{operation=\"claimReward\"} 1\n"), text);
+        assertTrue(text.contains("vocabquest_sqlite_duration_max_seconds{operation=\"recordAttempt\"} 0.002\n"), text);
+        assertTrue(text.contains("vocabquest_playtime_tick_duration_seconds_sum 5.0E-4\n"), text);
+        assertEquals(1, occurrences(text, "# TYPE vocabquest_answers_total counter\n"), text);
+        assertTrue(text.contains("vocabquest_answers_total{outcome=\"correct\"} 1\n"), text);
+        assertTrue(text.contains("vocabquest_answers_total{outcome=\"wrong\"} 3\n"), text);
+        assertTrue(text.contains("# TYPE vocabquest_db_file_bytes gauge\nvocabquest_db_file_bytes 4096\n"), text);
+    }
+
+    @Test
+    void servesMetricsOverHttp() throws Exception {
+        PluginMetrics metrics = new PluginMetrics();
+        metrics.increment("quests.started");
+
+        try (PrometheusExporter exporter = new PrometheusExporter(metrics, Logger.getLogger("test"))) {
+            exporter.start("127.0.0.1", 0);
+            HttpClient client = HttpClient.newHttpClient();
+            URI uri = URI.create("http://127.0.0.1:" + exporter.port() + "/metrics");
+
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertEquals(PrometheusExporter.CONTENT_TYPE, response.headers().firstValue("Content-Type").orElse(""));
+            assertTrue(response.body().contains("vocabquest_quests_total{event=\"started\"} 1\n"), response.body());
+
+            HttpResponse<String> post = client.send(HttpRequest.newBuilder(uri)
+                    .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(405, post.statusCode());
+        }
+    }
+
+    private static int occurrences(String text, String needle) {
+        int count = 0;
+        for (int index = text.indexOf(needle); index >= 0; index = text.indexOf(needle, index + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
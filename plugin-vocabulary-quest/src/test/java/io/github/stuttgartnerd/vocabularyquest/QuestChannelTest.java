@@ -0,0 +1,69 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuestChannelTest {
+    private static final Logger TEST_LOGGER = Logger.getLogger(QuestChannelTest.class.getName());
+
+    @Test
+    void missingSectionYieldsOneDefaultChannelOverEverything() {
+        List<QuestChannel<String>> channels = QuestChannel.fromConfig(null, TEST_LOGGER);
+
+        assertEquals(1, channels.size());
+        QuestChannel<String> channel = channels.get(0);
+        assertEquals(QuestChannel.DEFAULT_NAME, channel.name());
+        assertEquals(SQLiteStore.VOCAB_TABLES, channel.vocabTables());
+        assertTrue(channel.coversAllWorlds());
+        assertTrue(channel.includesWorld("world_nether"));
+    }
+
+    @Test
+    void parsesChannelsPerLanguageAndWorld() {
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(new StringReader("""
+                quest_channels:
+                  english:
+                    languages: [en, EN]
+                    worlds: [world]
+                  french:
+                    languages: [fr, it]
+                    worlds: [world_fr, world_fr_nether]
+                  mixed:
+                    worlds: [lobby]
+                """));
+
+        List<QuestChannel<String>> channels = QuestChannel.fromConfig(
+                config.getConfigurationSection("quest_channels"), TEST_LOGGER);
+
+        assertEquals(List.of("english", "french", "mixed"), channels.stream().map(QuestChannel::name).toList());
+        assertEquals(List.of("de_en"), channels.get(0).vocabTables());
+        assertEquals(List.of("de_fr"), channels.get(1).vocabTables());
+        assertEquals(SQLiteStore.VOCAB_TABLES, channels.get(2).vocabTables());
+
+        assertTrue(channels.get(0).includesWorld("world"));
+        assertFalse(channels.get(0).includesWorld("world_fr"));
+        assertTrue(channels.get(1).includesWorld("world_fr_nether"));
+        assertFalse(channels.get(2).coversAllWorlds());
+    }
+
+    @Test
+    void timerFiringKeepsTheFirstTimestampUntilTaken() {
+        QuestChannel<String> channel = new QuestChannel<>("default", SQLiteStore.VOCAB_TABLES, Set.of());
+
+        assertEquals(-1L, channel.takeTimerFiredNanos());
+        channel.markTimerFired(100L);
+        channel.markTimerFired(250L);
+
+        assertEquals(100L, channel.takeTimerFiredNanos());
+        assertEquals(-1L, channel.takeTimerFiredNanos());
+    }
+}
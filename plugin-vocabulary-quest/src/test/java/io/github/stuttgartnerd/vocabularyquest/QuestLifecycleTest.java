@@ -0,0 +1,137 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuestLifecycleTest {
+
+    @Test
+    void walksOpenWonClosed() {
+        QuestLifecycle<String> lifecycle = new QuestLifecycle<>();
+        String quest = "haus";
+
+        assertTrue(lifecycle.open(quest));
+        assertFalse(lifecycle.open("baum"), "Only one quest can be pending.");
+        assertSame(quest, lifecycle.openQuest());
+
+        assertTrue(lifecycle.tryWin(quest, "alice"));
+        assertFalse(lifecycle.tryWin(quest, "bob"));
+        assertNull(lifecycle.openQuest());
+        assertSame(quest, lifecycle.pendingQuest());
+        assertFalse(lifecycle.expire(quest));
+
+        assertTrue(lifecycle.closeWon(quest, "alice"));
+        assertNull(lifecycle.pendingQuest());
+        assertFalse(lifecycle.tryWin(quest, "bob"));
+        assertTrue(lifecycle.open("baum"));
+    }
+
+    @Test
+    void reopenHandsQuestBackUnlessItExpiredMeanwhile() {
+        QuestLifecycle<String> lifecycle = new QuestLifecycle<>();
+        String quest = "haus";
+        lifecycle.open(quest);
+
+        assertTrue(lifecycle.tryWin(quest, "alice"));
+        assertEquals(QuestLifecycle.ReopenResult.STALE, lifecycle.reopen(quest, "bob"));
+        assertEquals(QuestLifecycle.ReopenResult.REOPENED, lifecycle.reopen(quest, "alice"));
+        assertSame(quest, lifecycle.openQuest());
+
+        assertTrue(lifecycle.tryWin(quest, "alice"));
+        assertFalse(lifecycle.expire(quest), "The holder of a WON quest finishes it.");
+        assertEquals(QuestLifecycle.ReopenResult.EXPIRED, lifecycle.reopen(quest, "alice"));
+        assertNull(lifecycle.pendingQuest());
+    }
+
+    @Test
+    void staleQuestsCannotMoveNewerRounds() {
+        QuestLifecycle<String> lifecycle = new QuestLifecycle<>();
+        String first = new String("haus");
+        String second = new String("haus");
+
+        lifecycle.open(first);
+        assertTrue(lifecycle.expire(first));
+        assertTrue(lifecycle.open(second));
+
+        assertFalse(lifecycle.expire(first));
+        assertFalse(lifecycle.tryWin(first, "alice"));
+        assertSame(second, lifecycle.openQuest());
+        assertSame(second, lifecycle.clear());
+        assertNull(lifecycle.pendingQuest());
+    }
+
+    @Test
+    void exactlyOneWinnerUnderContention() throws Exception {
+        int threads = 16;
+        int rounds = 2_000;
+        QuestLifecycle<Object> lifecycle = new QuestLifecycle<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                Object quest = new Object();
+                assertTrue(lifecycle.open(quest));
+
+                AtomicInteger winners = new AtomicInteger();
+                AtomicInteger timeouts = new AtomicInteger();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    String player = "player-" + t;
+                    boolean alreadyRewarded = t % 3 == 0;
+                    boolean timeoutThread = t == threads - 1;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        if (timeoutThread) {
+                            if (lifecycle.expire(quest)) {
+                                timeouts.incrementAndGet();
+                            }
+                            return null;
+                        }
+
+                        for (int attempt = 0; attempt < 4; attempt++) {
+                            if (!lifecycle.tryWin(quest, player)) {
+                                Thread.onSpinWait();
+                                continue;
+                            }
+                            if (!alreadyRewarded) {
+                                assertTrue(lifecycle.closeWon(quest, player));
+                                winners.incrementAndGet();
+                                return null;
+                            }
+                            if (lifecycle.reopen(quest, player) == QuestLifecycle.ReopenResult.EXPIRED) {
+                                timeouts.incrementAndGet();
+                                return null;
+                            }
+                        }
+                        return null;
+                    }));
+                }
+
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+
+                assertEquals(1, winners.get() + timeouts.get(),
+                        "Round " + round + " must end exactly once (winners=" + winners + ", timeouts=" + timeouts + ").");
+                assertNull(lifecycle.pendingQuest());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
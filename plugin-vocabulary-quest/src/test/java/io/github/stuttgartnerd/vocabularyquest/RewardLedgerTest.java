@@ -0,0 +1,75 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RewardLedgerTest {
+
+    @Test
+    void answersFromLoadedRewardsOnly() {
+        RewardLedger ledger = new RewardLedger();
+        ledger.load("alice", 0L, List.of(new SQLiteStore.RewardedWord("de_en", "haus")));
+
+        assertTrue(ledger.isLoaded("alice", 0L));
+        assertTrue(ledger.isKnownRewarded("alice", 0L, "de_en", "haus"));
+        assertFalse(ledger.isKnownRewarded("alice", 0L, "de_fr", "haus"));
+        assertFalse(ledger.isKnownRewarded("bob", 0L, "de_en", "haus"), "Unknown players are left to the database.");
+        assertFalse(ledger.isKnownRewarded("alice", 1L, "de_en", "haus"), "Stale ledgers are ignored.");
+        assertFalse(ledger.isLoaded("alice", 1L));
+
+        ledger.markRewarded("alice", 0L, "de_en", "baum");
+        ledger.markRewarded("alice", 1L, "de_en", "maus");
+        assertTrue(ledger.isRewarded("alice", "de_en", "baum"));
+        assertFalse(ledger.isRewarded("alice", "de_en", "maus"));
+
+        ledger.evict("alice");
+        assertFalse(ledger.isRewarded("alice", "de_en", "haus"));
+        assertEquals(0, ledger.loadedPlayers());
+    }
+
+    @Test
+    void keepsEveryRewardAcrossFilterGrowth() {
+        RewardLedger ledger = new RewardLedger();
+        ledger.load("alice", 0L, List.of());
+
+        for (int i = 0; i < 2_000; i++) {
+            ledger.markRewarded("alice", 0L, i % 2 == 0 ? "de_en" : "de_fr", "wort" + i);
+        }
+
+        for (int i = 0; i < 2_000; i++) {
+            assertTrue(ledger.isRewarded("alice", i % 2 == 0 ? "de_en" : "de_fr", "wort" + i), "wort" + i);
+            assertFalse(ledger.isRewarded("alice", i % 2 == 0 ? "de_fr" : "de_en", "wort" + i), "wort" + i);
+        }
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndFewFalsePositives() {
+        int entries = 5_000;
+        RewardLedger.BloomFilter filter = new RewardLedger.BloomFilter(entries);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < entries; i++) {
+            String word = "vokabel-" + i;
+            words.add(word);
+            filter.add("de_en", word);
+        }
+
+        for (String word : words) {
+            assertTrue(filter.mightContain("de_en", word));
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("de_en", "anderes-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < probes / 50, "False positive rate too high: " + falsePositives + "/" + probes);
+    }
+}
@@ -12,6 +12,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.logging.Logger;
 
@@ -140,6 +141,269 @@ class SQLiteStoreTest {
         }
     }
 
+    @Test
+    void tracksLocalVocabularySourceStateAndForgetsItOnFlush() throws Exception {
+        Path db = tempDir.resolve("source-state.db");
+
+        try (SQLiteStore store = new SQLiteStore(db)) {
+            store.initializeSchema();
+            assertNull(store.findVocabularySourceState("en"));
+
+            SQLiteStore.VocabSourceState loaded = new SQLiteStore.VocabSourceState(42L, 1_700_000_000_000L, "abc");
+            store.applyVocabularyDiff("en", List.of(
+                    new SQLiteStore.VocabEntry("haus", "house"),
+                    new SQLiteStore.VocabEntry("baum", "tree")
+            ), loaded);
+
+            assertEquals(loaded, store.findVocabularySourceState("en"));
+            assertNull(store.findVocabularySourceState("fr"));
+            assertEquals(2, store.dumpToLog(TEST_LOGGER).deEnEntries());
+
+            SQLiteStore.VocabSourceState touched = new SQLiteStore.VocabSourceState(42L, 1_700_000_060_000L, "abc");
+            store.saveVocabularySourceState("en", touched);
+            assertEquals(touched, store.findVocabularySourceState("en"));
+
+            store.clearVocabularyLanguageAndTracking("en");
+            assertNull(store.findVocabularySourceState("en"));
+            assertThrows(SQLException.class, () -> store.findVocabularySourceState("it"));
+        }
+    }
+
+    @Test
+    void vocabularyDiffOnlyTouchesChangedRowsAndKeepsIds() throws Exception {
+        Path db = tempDir.resolve("vocab-diff.db");
+
+        try (SQLiteStore store = new SQLiteStore(db)) {
+            store.initializeSchema();
+            store.applyVocabularyDiff("en", List.of(
+                    new SQLiteStore.VocabEntry("haus", "house"),
+                    new SQLiteStore.VocabEntry("baum", "tree"),
+                    new SQLiteStore.VocabEntry("wasser", "water"),
+                    new SQLiteStore.VocabEntry("wasser", "water")
+            ), null);
+            store.recordAttempt("alice", "de_en", "baum", false);
+            long hausId = selectId(db, "vocab_de_en", "haus");
+
+            SQLiteStore.VocabDiffSummary diff = store.applyVocabularyDiff("en", List.of(
+                    new SQLiteStore.VocabEntry("haus", "house"),
+                    new SQLiteStore.VocabEntry("baum", "tree"),
+                    new SQLiteStore.VocabEntry("wasser", "water"),
+                    new SQLiteStore.VocabEntry("katze", "cat"),
+                    new SQLiteStore.VocabEntry("baum", "tree")
+            ), null);
+
+            assertEquals(2, diff.inserted());
+            assertEquals(1, diff.deleted());
+            assertEquals(3, diff.unchanged());
+            assertEquals(hausId, selectId(db, "vocab_de_en", "haus"));
+            assertEquals(5, store.dumpToLog(TEST_LOGGER).deEnEntries());
+            assertEquals(1, store.dumpToLog(TEST_LOGGER).attempts());
+
+            SQLiteStore.VocabDiffSummary noop = store.applyVocabularyDiff("en",
+                    store.listVocabularyEntries("en"), null);
+            assertEquals(new SQLiteStore.VocabDiffSummary(0, 0, 5), noop);
+        }
+    }
+
+    @Test
+    void vocabularyDiffOnlyDeletesRowsTheFileOwns() throws Exception {
+        Path db = tempDir.resolve("vocab-diff-owned.db");
+
+        try (SQLiteStore store = new SQLiteStore(db)) {
+            store.initializeSchema();
+            store.replaceDeEn(List.of(
+                    new SQLiteStore.VocabEntry("haus", "house"),
+                    new SQLiteStore.VocabEntry("baum", "tree")
+            ));
+            assertTrue(store.claimReward("alice", "de_en", "haus"));
+            long hausId = selectId(db, "vocab_de_en", "haus");
+
+            // Rows that were already there are adopted, not inserted a second time.
+            assertEquals(new SQLiteStore.VocabDiffSummary(1, 0, 1), store.applyVocabularyDiff("en", List.of(
+                    new SQLiteStore.VocabEntry("haus", "house"),
+                    new SQLiteStore.VocabEntry("maus", "mouse")
+            ), null));
+            assertEquals(hausId, selectId(db, "vocab_de_en", "haus"));
+
+            store.insertVocabularyEntry("en", "katze", "cat");
+            long version = store.trackingVersion();
+            SQLiteStore.VocabDiffSummary diff = store.applyVocabularyDiff("en", List.of(
+                    new SQLiteStore.VocabEntry("maus", "mouse")
+            ), null);
+
+            assertEquals(new SQLiteStore.VocabDiffSummary(0, 1, 1), diff);
+            assertEquals(-1L, selectId(db, "vocab_de_en", "haus"));
+            assertTrue(selectId(db, "vocab_de_en", "baum") > 0L, "Rows the file never owned must survive.");
+            assertTrue(selectId(db, "vocab_de_en", "katze") > 0L, "/addvocab rows must survive.");
+            assertEquals(0, store.dumpToLog(TEST_LOGGER).rewards());
+            assertTrue(store.trackingVersion() > version, "Deleting rows must invalidate cached tracking.");
+        }
+    }
+
+    @Test
+    void syncImportInsertsUpdatesDeletesAndKeepsUnchangedTracking() throws Exception {
+        Path db = tempDir.resolve("sync-import.db");
+
+        try (SQLiteStore store = new SQLiteStore(db)) {
+            store.initializeSchema();
+            store.replaceDeEn(List.of(
+                    new SQLiteStore.VocabEntry("haus", "house"),
+                    new SQLiteStore.VocabEntry("baum", "tre"),
+                    new SQLiteStore.VocabEntry("maus", "mouse")
+            ));
+            store.replaceDeFr(List.of(new SQLiteStore.VocabEntry("haus", "maison")));
+            long baumId = selectId(db, "vocab_de_en", "baum");
+            store.recordAttempt("alice", "de_en", "haus", true);
+            assertTrue(store.claimReward("alice", "de_en", "haus"));
+            store.recordAttempt("alice", "de_en", "baum", false);
+            store.recordAttempt("alice", "de_en", "maus", false);
+            assertTrue(store.claimReward("alice", "de_en", "maus"));
+            store.recordAttempt("alice", "de_fr", "haus", false);
+
+            SQLiteStore.VocabSyncSummary summary = store.syncVocabularyEntries("en", List.of(
+                    new SQLiteStore.VocabEntry("haus", "house"),
+                    new SQLiteStore.VocabEntry("baum", "tree"),
+                    new SQLiteStore.VocabEntry("katze", "cat"),
+                    new SQLiteStore.VocabEntry("Katze", "kitten")
+            ));
+
+            assertEquals(new SQLiteStore.VocabSyncSummary(1, 1, 1, 1), summary);
+            assertEquals("tree", selectTranslation(db, "vocab_de_en", "en", "baum"));
+            assertEquals(baumId, selectId(db, "vocab_de_en", "baum"));
+            assertEquals("cat", selectTranslation(db, "vocab_de_en", "en", "katze"));
+            assertNull(selectTranslation(db, "vocab_de_en", "en", "maus"));
+
+            SQLiteStore.DumpSummary dump = store.dumpToLog(TEST_LOGGER);
+            assertEquals(3, dump.deEnEntries());
+            assertEquals(1, dump.deFrEntries());
+            assertEquals(1, dump.rewards(), "Only the deleted word's reward should be removed.");
+            assertEquals(3, dump.attempts(), "Only the deleted word's attempts should be removed.");
+            assertFalse(store.claimReward("alice", "de_en", "haus"));
+
+            assertEquals(new SQLiteStore.VocabSyncSummary(0, 0, 0, 0), store.syncVocabularyEntries("en", List.of()));
+            assertThrows(SQLException.class, () -> store.syncVocabularyEntries("it", List.of(
+                    new SQLiteStore.VocabEntry("haus", "casa"))));
+        }
+    }
+
+    @Test
+    void listsRewardedWordsAndVersionsRewardDeletions() throws Exception {
+        Path db = tempDir.resolve("reward-ledger.db");
+
+        try (SQLiteStore store = new SQLiteStore(db)) {
+            store.initializeSchema();
+            store.replaceDeEn(List.of(new SQLiteStore.VocabEntry("haus", "house")));
+            assertTrue(store.claimReward("alice", "de_en", "haus"));
+            assertTrue(store.claimReward("alice", "de_fr", "maus"));
+            assertTrue(store.claimReward("bob", "de_en", "haus"));
+
+            assertEquals(List.of(new SQLiteStore.RewardedWord("de_en", "haus"),
+                            new SQLiteStore.RewardedWord("de_fr", "maus")),
+                    store.listRewardedWords("alice").stream()
+                            .sorted(java.util.Comparator.comparing(SQLiteStore.RewardedWord::vocabTable))
+                            .toList());
+            assertTrue(store.listRewardedWords("carol").isEmpty());
+
+            long version = store.trackingVersion();
+            store.syncVocabularyEntries("en", List.of(new SQLiteStore.VocabEntry("haus", "home")));
+            assertEquals(version, store.trackingVersion(), "Updating a translation keeps rewards valid.");
+
+            store.clearAnswerTracking();
+            assertTrue(store.trackingVersion() > version);
+            assertTrue(store.listRewardedWords("alice").isEmpty());
+        }
+    }
+
+    @Test
+    void persistsSrsCardsAndDropsThemWithTheirWords() throws Exception {
+        Path db = tempDir.resolve("srs.db");
+
+        try (SQLiteStore store = new SQLiteStore(db)) {
+            store.initializeSchema();
+            store.replaceDeEn(List.of(
+                    new SQLiteStore.VocabEntry("haus", "house"),
+                    new SQLiteStore.VocabEntry("baum", "tree")
+            ));
+            store.saveSrsCard("alice", new SQLiteStore.SrsCard("de_en", "haus", 1, 10L));
+            store.saveSrsCard("alice", new SQLiteStore.SrsCard("de_en", "haus", 2, 20L));
+            store.saveSrsCard("alice", new SQLiteStore.SrsCard("de_en", "baum", 3, 30L));
+            store.saveSrsCard("bob", new SQLiteStore.SrsCard("de_en", "baum", 1, 5L));
+            store.recordAttempt("alice", "de_en", "haus", false);
+
+            assertEquals(2, store.listSrsCards("alice").size());
+            assertTrue(store.listSrsCards("alice").contains(new SQLiteStore.SrsCard("de_en", "haus", 2, 20L)));
+
+            SQLiteStore.QuestEntry entry = store.findQuestEntry("de_en", "haus");
+            assertEquals(new SQLiteStore.QuestEntry("de_en", 1L, "haus", "house", 1, 0), entry);
+            assertNull(store.findQuestEntry("de_fr", "haus"));
+            assertNull(store.findQuestEntry("de_it", "haus"));
+
+            store.syncVocabularyEntries("en", List.of(new SQLiteStore.VocabEntry("haus", "house")));
+            assertEquals(List.of(new SQLiteStore.SrsCard("de_en", "haus", 2, 20L)), store.listSrsCards("alice"));
+            assertTrue(store.listSrsCards("bob").isEmpty());
+
+            store.clearAnswerTracking();
+            assertTrue(store.listSrsCards("alice").isEmpty());
+        }
+    }
+
+    @Test
+    void persistsRatingsAndPicksTheWordClosestToTheTargetSuccess() throws Exception {
+        Path db = tempDir.resolve("ratings.db");
+
+        try (SQLiteStore store = new SQLiteStore(db)) {
+            store.initializeSchema();
+            store.replaceDeEn(List.of(
+                    new SQLiteStore.VocabEntry("haus", "house"),
+                    new SQLiteStore.VocabEntry("baum", "tree"),
+                    new SQLiteStore.VocabEntry("katze", "cat")
+            ));
+            long version = store.ratingsVersion();
+
+            assertTrue(store.saveRatings(version, List.of(
+                    new SQLiteStore.ItemRating("de_en", 1L, 1300d, 4),
+                    new SQLiteStore.ItemRating("de_en", 2L, 1650d, 2)
+            ), List.of(new SQLiteStore.PlayerRating("alice", 1550d, 6))));
+            assertTrue(store.saveRatings(version, List.of(new SQLiteStore.ItemRating("de_en", 1L, 1290d, 5)), List.of()));
+
+            assertEquals(2, store.listItemRatings().size());
+            assertTrue(store.listItemRatings().contains(new SQLiteStore.ItemRating("de_en", 1L, 1290d, 5)));
+            assertEquals(new SQLiteStore.PlayerRating("alice", 1550d, 6), store.findPlayerRating("alice"));
+            assertNull(store.findPlayerRating("bob"));
+
+            Map<Long, Double> success = Map.of(1L, 0.95d, 2L, 0.4d, 3L, 0.72d);
+            for (int i = 0; i < 20; i++) {
+                SQLiteStore.QuestEntry entry = store.selectQuestForTargetSuccess(List.of("alice"),
+                        SQLiteStore.VOCAB_TABLES, new Random(i), (username, vocabTable, deWord) -> false,
+                        (vocabTable, vocabId) -> success.get(vocabId), 0.7d);
+                assertEquals("katze", entry.deWord());
+                assertEquals(3L, entry.vocabId());
+            }
+            assertNull(store.selectQuestForTargetSuccess(List.of("alice"), SQLiteStore.VOCAB_TABLES, new Random(1),
+                    (username, vocabTable, deWord) -> true, (vocabTable, vocabId) -> 0.7d, 0.7d));
+
+            store.syncVocabularyEntries("en", List.of(
+                    new SQLiteStore.VocabEntry("baum", "tree"),
+                    new SQLiteStore.VocabEntry("katze", "cat")
+            ));
+            assertEquals(List.of(new SQLiteStore.ItemRating("de_en", 2L, 1650d, 2)), store.listItemRatings());
+            assertEquals(version, store.ratingsVersion(), "Deleting words keeps the other ratings writable.");
+            assertTrue(store.saveRatings(version, List.of(
+                    new SQLiteStore.ItemRating("de_en", 1L, 1280d, 6),
+                    new SQLiteStore.ItemRating("de_en", 2L, 1640d, 3)
+            ), List.of()));
+            assertEquals(List.of(new SQLiteStore.ItemRating("de_en", 2L, 1640d, 3)), store.listItemRatings(),
+                    "A late write must not bring back the rating of a deleted word.");
+
+            store.clearAnswerTracking();
+            assertTrue(store.listItemRatings().isEmpty());
+            assertNull(store.findPlayerRating("alice"));
+            assertFalse(store.saveRatings(version, List.of(), List.of(new SQLiteStore.PlayerRating("alice", 1600d, 7))),
+                    "Ratings loaded before the flush must not be written back.");
+            assertNull(store.findPlayerRating("alice"));
+        }
+    }
+
     @Test
     void reportsTotalVocabularyEntriesAcrossLanguages() throws Exception {
         Path db = tempDir.resolve("total-vocab.db");
@@ -190,6 +454,36 @@ class SQLiteStoreTest {
         }
     }
 
+    @Test
+    void restrictsQuestSelectionToTheRequestedVocabularyTables() throws Exception {
+        Path db = tempDir.resolve("channel-tables.db");
+
+        try (SQLiteStore store = new SQLiteStore(db)) {
+            store.initializeSchema();
+            store.replaceDeEn(List.of(
+                    new SQLiteStore.VocabEntry("haus", "house"),
+                    new SQLiteStore.VocabEntry("baum", "tree")
+            ));
+            store.replaceDeFr(List.of(new SQLiteStore.VocabEntry("maus", "souris")));
+
+            Random random = new Random(7);
+            for (int i = 0; i < 20; i++) {
+                SQLiteStore.QuestEntry quest = store.selectWeightedQuestForOnlinePlayers(List.of("alice"),
+                        List.of("de_fr"), random, (username, vocabTable, deWord) -> false);
+                assertEquals("de_fr", quest.vocabTable());
+                assertEquals("souris", quest.answer());
+            }
+            assertNull(store.selectWeightedQuestForOnlinePlayers(List.of("alice"), List.of(), random,
+                    (username, vocabTable, deWord) -> false));
+            assertThrows(SQLException.class, () -> store.selectWeightedQuestForOnlinePlayers(List.of("alice"),
+                    List.of("de_it"), random, (username, vocabTable, deWord) -> false));
+
+            assertEquals(2, store.totalVocabularyEntries(List.of("de_en")));
+            assertEquals(1, store.totalVocabularyEntries(List.of("de_fr")));
+            assertEquals(3, store.totalVocabularyEntries());
+        }
+    }
+
     @Test
     void selectsQuestOnlyForRewardEligibleOnlinePlayers() throws Exception {
         Path db = tempDir.resolve("online-eligibility.db");
@@ -390,6 +684,23 @@ class SQLiteStoreTest {
         }
     }
 
+    @Test
+    void playtimeCallsRecordOneSampleEach() throws Exception {
+        PluginMetrics metrics = new PluginMetrics();
+        try (SQLiteStore store = new SQLiteStore(tempDir.resolve("playtime-timers.db"), metrics)) {
+            store.initializeSchema();
+            String today = "2026-02-07";
+
+            store.addDailyUsedMinutesForToday("alice", 3, today, 120);
+            store.resetDailyUsedMinutesForToday("alice", today, 120);
+        }
+
+        assertEquals(1L, metrics.timer("sqlite.addDailyUsedMinutesForToday").count());
+        assertEquals(1L, metrics.timer("sqlite.resetDailyUsedMinutesForToday").count());
+        assertEquals(0L, metrics.timer("sqlite.getOrCreatePlayerPlaytimeForToday").count());
+        assertEquals(0L, metrics.timer("sqlite.setDailyUsedMinutesForToday").count());
+    }
+
     @Test
     void playtimeResetAllDoesNotDropLimitOverrides() throws Exception {
         Path db = tempDir.resolve("playtime-reset-preserves-overrides.db");
@@ -439,6 +750,17 @@ class SQLiteStoreTest {
         }
     }
 
+    private long selectId(Path dbPath, String table, String deWord) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + dbPath.toAbsolutePath());
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT id FROM " + table + " WHERE de = ? ORDER BY id ASC LIMIT 1")) {
+            statement.setString(1, deWord);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong("id") : -1L;
+            }
+        }
+    }
+
     private String selectTranslation(Path dbPath, String table, String column, String deWord) throws SQLException {
         try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + dbPath.toAbsolutePath());
              PreparedStatement statement = connection.prepareStatement(
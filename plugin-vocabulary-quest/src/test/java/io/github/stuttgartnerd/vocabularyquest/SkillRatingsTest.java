@@ -0,0 +1,113 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkillRatingsTest {
+    @Test
+    void expectedSuccessFollowsTheRatingGap() {
+        assertEquals(0.5d, SkillRatings.expectedSuccess(1500d, 1500d), 1e-9);
+        assertEquals(1d / 11d, SkillRatings.expectedSuccess(1500d, 1900d), 1e-9);
+        assertEquals(1d, SkillRatings.expectedSuccess(1700d, 1300d) + SkillRatings.expectedSuccess(1300d, 1700d),
+                1e-9);
+    }
+
+    @Test
+    void correctAnswersMakePlayersStrongerAndWordsEasier() {
+        SkillRatings ratings = new SkillRatings(0L, 0L);
+
+        ratings.recordOutcome("alice", "de_en", 3L, true);
+        assertTrue(ratings.playerRating("alice") > SkillRatings.INITIAL_RATING);
+        assertTrue(ratings.itemRating("de_en", 3L) < SkillRatings.INITIAL_RATING);
+        assertEquals(SkillRatings.INITIAL_RATING, ratings.itemRating("de_fr", 3L));
+        assertEquals(SkillRatings.INITIAL_RATING, ratings.itemRating("de_en", 4L));
+
+        ratings.recordOutcome("bob", "de_en", 7L, false);
+        assertTrue(ratings.playerRating("bob") < SkillRatings.INITIAL_RATING);
+        assertTrue(ratings.itemRating("de_en", 7L) > SkillRatings.INITIAL_RATING);
+    }
+
+    @Test
+    void settledRatingsMoveLessThanNewOnes() {
+        SkillRatings ratings = new SkillRatings(0L, 0L);
+        ratings.loadItems(List.of(new SQLiteStore.ItemRating("de_en", 1L, 1500d, 200)));
+        ratings.loadPlayer(new SQLiteStore.PlayerRating("alice", 1500d, 0));
+
+        ratings.recordOutcome("alice", "de_en", 1L, true);
+        double playerGain = ratings.playerRating("alice") - 1500d;
+        double itemLoss = 1500d - ratings.itemRating("de_en", 1L);
+        assertTrue(playerGain > itemLoss * 2d);
+    }
+
+    @Test
+    void growsItemArraysForLargeIds() {
+        SkillRatings ratings = new SkillRatings(0L, 0L);
+        ratings.loadItems(List.of(new SQLiteStore.ItemRating("de_fr", 100_000L, 1234d, 3)));
+        assertEquals(1234d, ratings.itemRating("de_fr", 100_000L));
+        assertEquals(SkillRatings.INITIAL_RATING, ratings.itemRating("de_fr", 99_999L));
+
+        for (int i = 0; i < 100; i++) {
+            ratings.recordOutcome("player" + i, "de_en", i * 37L, i % 2 == 0);
+        }
+        assertEquals(100, ratings.drainDirty().players().size());
+        assertThrows(IllegalArgumentException.class, () -> ratings.recordOutcome("alice", "de_en", -1L, true));
+    }
+
+    @Test
+    void drainsOnlyChangedRatingsAndRequeuesFailedSaves() {
+        SkillRatings ratings = new SkillRatings(3L, 4L);
+        ratings.loadItems(List.of(new SQLiteStore.ItemRating("de_en", 1L, 1400d, 1)));
+        ratings.loadPlayer(new SQLiteStore.PlayerRating("alice", 1500d, 0));
+        assertTrue(ratings.drainDirty().isEmpty());
+
+        ratings.recordOutcome("alice", "de_en", 2L, true);
+        ratings.recordOutcome("alice", "de_en", 2L, false);
+        SkillRatings.Dirty dirty = ratings.drainDirty();
+        assertEquals(1, dirty.items().size());
+        assertEquals(2L, dirty.items().get(0).vocabId());
+        assertEquals(2, dirty.items().get(0).games());
+        assertEquals(List.of(new SQLiteStore.PlayerRating("alice", ratings.playerRating("alice"), 2)),
+                dirty.players());
+        assertTrue(ratings.drainDirty().isEmpty());
+
+        ratings.markDirty(dirty);
+        SkillRatings.Dirty retried = ratings.drainDirty();
+        assertEquals(dirty, retried);
+        assertFalse(retried.isEmpty());
+        assertEquals(3L, ratings.ratingsVersion());
+        assertEquals(4L, ratings.trackingVersion());
+    }
+
+    @Test
+    void reloadingItemsKeepsPlayersAndTheirUnsavedChanges() {
+        SkillRatings ratings = new SkillRatings(1L, 1L);
+        ratings.loadItems(List.of(
+                new SQLiteStore.ItemRating("de_en", 1L, 1400d, 3),
+                new SQLiteStore.ItemRating("de_en", 2L, 1600d, 3)
+        ));
+        ratings.recordOutcome("alice", "de_en", 2L, true);
+        double alice = ratings.playerRating("alice");
+        ratings.drainDirty();
+        ratings.recordOutcome("alice", "de_en", 1L, false);
+        ratings.markDirty(new SkillRatings.Dirty(List.of(),
+                List.of(new SQLiteStore.PlayerRating("alice", ratings.playerRating("alice"), 2))));
+
+        SkillRatings reloaded = ratings.withItems(2L, List.of(new SQLiteStore.ItemRating("de_en", 2L, 1580d, 4)));
+        assertEquals(1L, reloaded.ratingsVersion());
+        assertEquals(2L, reloaded.trackingVersion());
+        assertEquals(SkillRatings.INITIAL_RATING, reloaded.itemRating("de_en", 1L));
+        assertEquals(1580d, reloaded.itemRating("de_en", 2L));
+        assertTrue(reloaded.hasPlayer("alice"));
+        assertTrue(reloaded.playerRating("alice") < alice);
+        SkillRatings.Dirty dirty = reloaded.drainDirty();
+        assertTrue(dirty.items().isEmpty());
+        assertEquals(List.of(new SQLiteStore.PlayerRating("alice", ratings.playerRating("alice"), 2)),
+                dirty.players());
+    }
+}
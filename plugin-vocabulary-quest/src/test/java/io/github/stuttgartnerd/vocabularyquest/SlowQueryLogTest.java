@@ -0,0 +1,180 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlowQueryLogTest {
+    private static final String LOOKUP = """
+            SELECT COUNT(*)
+            FROM attempts
+            WHERE username = ? AND correct = ?
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void logsParameterTypesAndExplainsEachStatementOnce() throws Exception {
+        List<String> messages = new ArrayList<>();
+        SlowQueryLog slowQueryLog = new SlowQueryLog(0L, capturingLogger(messages));
+
+        try (Connection connection = slowQueryLog.wrap(DriverManager.getConnection(
+                "jdbc:sqlite:" + tempDir.resolve("slow.db").toAbsolutePath()))) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("CREATE TABLE attempts (username TEXT NOT NULL, correct INTEGER NOT NULL)");
+            }
+            for (int i = 0; i < 2; i++) {
+                try (PreparedStatement statement = connection.prepareStatement(LOOKUP)) {
+                    statement.setString(1, "alice");
+                    statement.setInt(2, 1);
+                    try (ResultSet rows = statement.executeQuery()) {
+                        assertTrue(rows.next());
+                        assertEquals(0, rows.getInt(1));
+                    }
+                }
+            }
+        }
+
+        List<String> lookups = messages.stream()
+                .filter(message -> message.contains(SlowQueryLog.oneLine(LOOKUP)))
+                .toList();
+        assertEquals(2, lookups.size(), messages.toString());
+        assertTrue(lookups.get(0).contains("params (String, Int)"), lookups.get(0));
+        assertTrue(lookups.get(0).contains("| plan: SCAN"), lookups.get(0));
+        assertFalse(lookups.get(1).contains("plan:"), lookups.get(1));
+        assertTrue(messages.stream().noneMatch(message -> message.contains("alice")), messages.toString());
+    }
+
+    @Test
+    void batchesReportHowManyRowsTheyCarried() throws Exception {
+        List<String> messages = new ArrayList<>();
+        SlowQueryLog slowQueryLog = new SlowQueryLog(0L, capturingLogger(messages));
+
+        try (Connection connection = slowQueryLog.wrap(DriverManager.getConnection(
+                "jdbc:sqlite:" + tempDir.resolve("batch.db").toAbsolutePath()))) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("CREATE TABLE attempts (username TEXT NOT NULL, correct INTEGER NOT NULL)");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO attempts (username, correct) VALUES (?, ?)")) {
+                for (int i = 0; i < 3; i++) {
+                    insert.setString(1, "user" + i);
+                    insert.setInt(2, i % 2);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+
+        assertTrue(messages.stream().anyMatch(message -> message.contains("params (String, Int) x3")
+                && message.contains("INSERT INTO attempts")), messages.toString());
+    }
+
+    @Test
+    void clearedBatchesDoNotCountTowardsTheNextOne() throws Exception {
+        List<String> messages = new ArrayList<>();
+        SlowQueryLog slowQueryLog = new SlowQueryLog(0L, capturingLogger(messages));
+
+        try (Connection connection = slowQueryLog.wrap(DriverManager.getConnection(
+                "jdbc:sqlite:" + tempDir.resolve("cleared.db").toAbsolutePath()))) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("CREATE TABLE attempts (username TEXT NOT NULL, correct INTEGER NOT NULL)");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO attempts (username, correct) VALUES (?, ?)")) {
+                for (int i = 0; i < 3; i++) {
+                    insert.setString(1, "user" + i);
+                    insert.setInt(2, 0);
+                    insert.addBatch();
+                }
+                insert.clearBatch();
+                insert.setString(1, "kept");
+                insert.setInt(2, 1);
+                insert.addBatch();
+                insert.executeBatch();
+            }
+        }
+
+        assertTrue(messages.stream().anyMatch(message -> message.contains("params (String, Int) x1")
+                && message.contains("INSERT INTO attempts")), messages.toString());
+    }
+
+    @Test
+    void resultSetsClosedWithTheirStatementAreStillReported() throws Exception {
+        List<String> messages = new ArrayList<>();
+        SlowQueryLog slowQueryLog = new SlowQueryLog(0L, capturingLogger(messages));
+
+        try (Connection connection = slowQueryLog.wrap(DriverManager.getConnection(
+                "jdbc:sqlite:" + tempDir.resolve("implicit.db").toAbsolutePath()))) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("CREATE TABLE attempts (username TEXT NOT NULL, correct INTEGER NOT NULL)");
+            }
+            try (PreparedStatement statement = connection.prepareStatement(LOOKUP)) {
+                statement.setString(1, "alice");
+                statement.setInt(2, 1);
+                ResultSet rows = statement.executeQuery();
+                assertTrue(rows.next());
+            }
+            try (Statement statement = connection.createStatement()) {
+                ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM attempts");
+                assertTrue(rows.next());
+            }
+        }
+
+        assertEquals(1, messages.stream().filter(message -> message.contains(SlowQueryLog.oneLine(LOOKUP))).count(),
+                messages.toString());
+        assertEquals(1, messages.stream().filter(message -> message.contains("SELECT COUNT(*) FROM attempts")
+                && !message.contains("WHERE")).count(), messages.toString());
+    }
+
+    @Test
+    void statementsBelowTheThresholdStaySilent() throws Exception {
+        List<String> messages = new ArrayList<>();
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Long.MAX_VALUE, capturingLogger(messages));
+
+        try (SQLiteStore store = new SQLiteStore(tempDir.resolve("store.db"), new PluginMetrics(), slowQueryLog)) {
+            store.initializeSchema();
+            store.upsertUser("alice");
+            assertEquals(0, store.listRewardedWords("alice").size());
+        }
+
+        assertTrue(messages.isEmpty(), messages.toString());
+    }
+
+    private static Logger capturingLogger(List<String> sink) {
+        Logger logger = Logger.getLogger("SlowQueryLogTest." + UUID.randomUUID());
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                sink.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        return logger;
+    }
+}
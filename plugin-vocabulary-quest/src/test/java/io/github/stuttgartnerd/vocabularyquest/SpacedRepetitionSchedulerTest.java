@@ -0,0 +1,92 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpacedRepetitionSchedulerTest {
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    void movesWordsThroughLeitnerBoxes() {
+        SQLiteStore.SrsCard first = SpacedRepetitionScheduler.nextCard(null, "de_en", "haus", true, 0L);
+        assertEquals(2, first.box());
+        assertEquals(60 * MINUTE, first.dueAtMillis());
+
+        SQLiteStore.SrsCard card = first;
+        for (int i = 0; i < 10; i++) {
+            card = SpacedRepetitionScheduler.nextCard(card, "de_en", "haus", true, 0L);
+        }
+        assertEquals(SpacedRepetitionScheduler.MAX_BOX, card.box());
+
+        SQLiteStore.SrsCard wrong = SpacedRepetitionScheduler.nextCard(card, "de_en", "haus", false, 5L);
+        assertEquals(1, wrong.box());
+        assertEquals(5L + 10 * MINUTE, wrong.dueAtMillis());
+    }
+
+    @Test
+    void ranksDueWordsByDuePlayersThenOverdueness() {
+        SpacedRepetitionScheduler scheduler = new SpacedRepetitionScheduler();
+        scheduler.load("alice", 0L, List.of(
+                new SQLiteStore.SrsCard("de_en", "haus", 1, 100L),
+                new SQLiteStore.SrsCard("de_en", "baum", 1, 50L),
+                new SQLiteStore.SrsCard("de_fr", "maus", 3, 10_000L)
+        ));
+        scheduler.load("bob", 0L, List.of(
+                new SQLiteStore.SrsCard("de_en", "haus", 2, 200L),
+                new SQLiteStore.SrsCard("de_fr", "wasser", 1, 10L)
+        ));
+
+        List<SpacedRepetitionScheduler.DueWord> due = scheduler.dueWords(List.of("alice", "bob", "carol"), 1_000L, 32);
+
+        assertEquals(List.of(
+                new SpacedRepetitionScheduler.DueWord("de_en", "haus", 2, 100L),
+                new SpacedRepetitionScheduler.DueWord("de_fr", "wasser", 1, 10L),
+                new SpacedRepetitionScheduler.DueWord("de_en", "baum", 1, 50L)
+        ), due);
+        assertTrue(scheduler.dueWords(List.of("alice"), 0L, 32).isEmpty());
+        assertEquals(1, scheduler.dueWords(List.of("alice"), 1_000L, 1).size());
+    }
+
+    @Test
+    void reviewedWordsLeaveTheDueQueueUntilTheyAreDueAgain() {
+        SpacedRepetitionScheduler scheduler = new SpacedRepetitionScheduler();
+        scheduler.load("alice", 7L, List.of(new SQLiteStore.SrsCard("de_en", "haus", 1, 0L)));
+
+        assertNull(scheduler.review("alice", 8L, "de_en", "haus", true, 0L), "Stale decks are not updated.");
+        SQLiteStore.SrsCard reviewed = scheduler.review("alice", 7L, "de_en", "haus", true, 1_000L);
+        assertEquals(2, reviewed.box());
+        assertEquals(reviewed, scheduler.card("alice", "de_en", "haus"));
+
+        assertTrue(scheduler.dueWords(List.of("alice"), 1_000L, 32).isEmpty());
+        assertEquals(1, scheduler.dueWords(List.of("alice"), reviewed.dueAtMillis(), 32).size());
+
+        scheduler.forget("de_en", "haus");
+        assertTrue(scheduler.dueWords(List.of("alice"), Long.MAX_VALUE, 32).isEmpty());
+        scheduler.evict("alice");
+        assertNull(scheduler.card("alice", "de_en", "haus"));
+    }
+
+    @Test
+    void repeatedReviewsKeepOneLiveEntryPerWord() {
+        SpacedRepetitionScheduler scheduler = new SpacedRepetitionScheduler();
+        scheduler.load("alice", 0L, List.of());
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            words.add("wort" + i);
+        }
+
+        for (int round = 0; round < 20; round++) {
+            for (String word : words) {
+                scheduler.review("alice", 0L, "de_en", word, round % 3 != 0, round);
+            }
+        }
+
+        assertEquals(words.size(), scheduler.dueWords(List.of("alice"), Long.MAX_VALUE, 1_000).size());
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TickBudgetMonitorTest {
+    @Test
+    void defersWorkOnlyWhileTheServerIsOverBudget() {
+        double[] mspt = {30d};
+        PluginMetrics metrics = new PluginMetrics();
+        TickBudgetMonitor monitor = new TickBudgetMonitor(() -> mspt[0], 45d, Long.MAX_VALUE, metrics);
+
+        assertTrue(monitor.admit("import"));
+        mspt[0] = 60d;
+        assertTrue(monitor.isOverBudget());
+        assertFalse(monitor.admit("import"));
+        assertFalse(monitor.admit("quest_start"));
+        assertFalse(monitor.admit("import"));
+        mspt[0] = 44d;
+        assertTrue(monitor.admit("import"));
+
+        assertEquals(2L, metrics.counter("deferred.import"));
+        assertEquals(1L, metrics.counter("deferred.quest_start"));
+    }
+
+    @Test
+    void runsWorkAnywayOnceItWasDeferredForTooLong() {
+        AtomicLong now = new AtomicLong();
+        PluginMetrics metrics = new PluginMetrics(now::get);
+        TickBudgetMonitor monitor = new TickBudgetMonitor(() -> 100d, 45d, 1_000L, metrics);
+
+        assertFalse(monitor.admit("ratings_save"));
+        now.addAndGet(999L);
+        assertFalse(monitor.admit("ratings_save"));
+        now.addAndGet(1L);
+        assertTrue(monitor.admit("ratings_save"));
+        assertEquals(1L, metrics.counter("deferred_forced.ratings_save"));
+
+        // The deferral window starts over after a forced run.
+        assertFalse(monitor.admit("ratings_save"));
+        assertEquals(3L, metrics.counter("deferred.ratings_save"));
+    }
+
+    @Test
+    void keepsTheDeferralWindowPerInstance() {
+        AtomicLong now = new AtomicLong();
+        PluginMetrics metrics = new PluginMetrics(now::get);
+        TickBudgetMonitor monitor = new TickBudgetMonitor(() -> 100d, 45d, 1_000L, metrics);
+
+        assertFalse(monitor.admit("quest_start", "english"));
+        now.addAndGet(600L);
+        assertFalse(monitor.admit("quest_start", "french"));
+        now.addAndGet(400L);
+        assertTrue(monitor.admit("quest_start", "english"));
+        assertFalse(monitor.admit("quest_start", "french"), "The French channel has only waited 400 ns.");
+        now.addAndGet(600L);
+        assertTrue(monitor.admit("quest_start", "french"));
+        assertEquals(2L, metrics.counter("deferred_forced.quest_start"));
+
+        assertFalse(monitor.admit("prefetch", "alice"));
+        now.addAndGet(1_000L);
+        monitor.forget("prefetch", "alice");
+        assertFalse(monitor.admit("prefetch", "alice"), "A forgotten instance starts a new window.");
+    }
+
+    @Test
+    void zeroBudgetDisablesTheGuard() {
+        TickBudgetMonitor monitor = new TickBudgetMonitor(() -> 500d, 0d, 0L, new PluginMetrics());
+
+        assertFalse(monitor.isOverBudget());
+        assertTrue(monitor.admit("import"));
+    }
+}
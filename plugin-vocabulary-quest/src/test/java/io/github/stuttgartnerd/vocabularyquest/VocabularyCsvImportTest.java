@@ -4,14 +4,18 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpServer;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class VocabularyCsvImportTest {
     private static final Logger TEST_LOGGER = Logger.getLogger(VocabularyCsvImportTest.class.getName());
@@ -29,8 +33,10 @@ class VocabularyCsvImportTest {
             server.start();
 
             String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/de_en.csv";
-            List<SQLiteStore.VocabEntry> entries = VocabularyCsvImport.loadFromUrl(url, 2, 2, "de", "en",
-                    TEST_LOGGER);
+            List<SQLiteStore.VocabEntry> entries;
+            try (VocabularyHttpFetcher fetcher = new VocabularyHttpFetcher(2, 2)) {
+                entries = VocabularyCsvImport.loadFromUrl(fetcher, url, "de", "en", TEST_LOGGER);
+            }
 
             assertEquals(2, entries.size());
             assertEquals("haus", entries.get(0).left());
@@ -50,8 +56,10 @@ class VocabularyCsvImportTest {
             server.start();
 
             String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/de_fr.csv";
-            assertThrows(IOException.class, () -> VocabularyCsvImport.loadFromUrl(url, 2, 2, "de", "fr",
-                    TEST_LOGGER));
+            try (VocabularyHttpFetcher fetcher = new VocabularyHttpFetcher(2, 2)) {
+                assertThrows(IOException.class, () -> VocabularyCsvImport.loadFromUrl(fetcher, url, "de", "fr",
+                        TEST_LOGGER));
+            }
         } finally {
             server.stop(0);
         }
@@ -72,8 +80,10 @@ class VocabularyCsvImportTest {
             server.start();
 
             String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/abuse.csv";
-            List<SQLiteStore.VocabEntry> entries = VocabularyCsvImport.loadFromUrl(url, 2, 2, "de", "en",
-                    TEST_LOGGER);
+            List<SQLiteStore.VocabEntry> entries;
+            try (VocabularyHttpFetcher fetcher = new VocabularyHttpFetcher(2, 2)) {
+                entries = VocabularyCsvImport.loadFromUrl(fetcher, url, "de", "en", TEST_LOGGER);
+            }
 
             assertEquals(2, entries.size());
             assertEquals(maliciousDe, entries.get(0).left());
@@ -85,6 +95,120 @@ class VocabularyCsvImportTest {
         }
     }
 
+    @Test
+    void sharedFetcherNegotiatesGzipAndIsReusableAcrossRequests() throws Exception {
+        List<String> acceptEncodings = new ArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        try {
+            server.createContext("/gzip.csv", exchange -> {
+                acceptEncodings.add(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+                respondGzipCsv(exchange, """
+                        de,en
+                        haus,house
+                        baum,tree
+                        """);
+            });
+            server.start();
+
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/gzip.csv";
+            try (VocabularyHttpFetcher fetcher = new VocabularyHttpFetcher(2, 2)) {
+                List<SQLiteStore.VocabEntry> first = fetcher.fetch(url, "de", "en", TEST_LOGGER);
+                List<SQLiteStore.VocabEntry> second = fetcher.fetch(url, "de", "en", TEST_LOGGER);
+
+                assertEquals(2, first.size());
+                assertEquals(first, second);
+                assertEquals("haus", first.get(0).left());
+                assertEquals("house", first.get(0).right());
+            }
+
+            assertEquals(List.of("gzip", "gzip"), acceptEncodings);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void stalledBodyFailsAfterTheReadTimeout() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        try {
+            server.createContext("/stalled.csv", exchange -> {
+                exchange.sendResponseHeaders(200, 0);
+                exchange.getResponseBody().write("de,en\nhaus,house\n".getBytes(StandardCharsets.UTF_8));
+                exchange.getResponseBody().flush();
+                try {
+                    Thread.sleep(5_000L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.close();
+            });
+            server.start();
+
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/stalled.csv";
+            long started = System.nanoTime();
+            try (VocabularyHttpFetcher fetcher = new VocabularyHttpFetcher(1, 1)) {
+                assertThrows(IOException.class, () -> fetcher.fetch(url, "de", "en", TEST_LOGGER));
+            }
+            assertTrue(System.nanoTime() - started < 4_000_000_000L,
+                    "A stalled body must fail after the read timeout.");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void slowButSteadyBodyOutlastsTheReadTimeout() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        try {
+            server.createContext("/slow.csv", exchange -> {
+                exchange.sendResponseHeaders(200, 0);
+                try (var body = exchange.getResponseBody()) {
+                    body.write("de,en\n".getBytes(StandardCharsets.UTF_8));
+                    for (int i = 0; i < 6; i++) {
+                        body.write(("wort" + i + ",word" + i + "\n").getBytes(StandardCharsets.UTF_8));
+                        body.flush();
+                        Thread.sleep(400L);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            server.start();
+
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/slow.csv";
+            try (VocabularyHttpFetcher fetcher = new VocabularyHttpFetcher(1, 1)) {
+                List<SQLiteStore.VocabEntry> entries = fetcher.fetch(url, "de", "en", TEST_LOGGER);
+                assertEquals(6, entries.size());
+                assertEquals("word5", entries.get(5).right());
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void rejectsInvalidUrlSyntax() {
+        try (VocabularyHttpFetcher fetcher = new VocabularyHttpFetcher(2, 2)) {
+            assertThrows(IOException.class, () -> VocabularyCsvImport.loadFromUrl(fetcher, "http://bad host/x.csv",
+                    "de", "en", TEST_LOGGER));
+        }
+    }
+
+    private void respondGzipCsv(HttpExchange exchange, String body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] payload = buffer.toByteArray();
+        exchange.getResponseHeaders().set("Content-Type", "text/csv; charset=utf-8");
+        exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        exchange.sendResponseHeaders(200, payload.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(payload);
+        }
+    }
+
     private void respondCsv(HttpExchange exchange, int statusCode, String body) throws IOException {
         byte[] payload = body.getBytes(StandardCharsets.UTF_8);
         exchange.getResponseHeaders().set("Content-Type", "text/csv; charset=utf-8");
@@ -0,0 +1,81 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VocabularyFileWatcherTest {
+    private static final Logger TEST_LOGGER = Logger.getLogger(VocabularyFileWatcherTest.class.getName());
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void collapsesBurstsOfEditsIntoOneCallbackPerRelevantFile() {
+        List<String> changed = new ArrayList<>();
+        VocabularyFileWatcher watcher = new VocabularyFileWatcher(tempDir, 400L,
+                path -> path.getFileName().toString().endsWith(".csv"),
+                path -> changed.add(path.getFileName().toString()), TEST_LOGGER);
+
+        Set<Path> pending = new LinkedHashSet<>();
+        for (int i = 0; i < 5; i++) {
+            watcher.collectChanges(List.of(
+                    event(StandardWatchEventKinds.ENTRY_MODIFY, "de_en.csv"),
+                    event(StandardWatchEventKinds.ENTRY_MODIFY, "notes.txt")
+            ), pending);
+        }
+        watcher.collectChanges(List.of(event(StandardWatchEventKinds.ENTRY_CREATE, "de_fr.csv")), pending);
+        assertEquals(Set.of(tempDir.resolve("de_en.csv"), tempDir.resolve("de_fr.csv")), pending);
+
+        watcher.dispatchAll(pending);
+
+        assertEquals(List.of("de_en.csv", "de_fr.csv"), changed);
+        assertTrue(pending.isEmpty());
+    }
+
+    @Test
+    void failingCallbackDoesNotStopTheOtherFiles() {
+        List<String> changed = new ArrayList<>();
+        VocabularyFileWatcher watcher = new VocabularyFileWatcher(tempDir, 0L, path -> true, path -> {
+            if (path.getFileName().toString().equals("de_en.csv")) {
+                throw new IllegalStateException("broken csv");
+            }
+            changed.add(path.getFileName().toString());
+        }, TEST_LOGGER);
+
+        Set<Path> pending = new LinkedHashSet<>(List.of(tempDir.resolve("de_en.csv"), tempDir.resolve("de_fr.csv")));
+        watcher.dispatchAll(pending);
+
+        assertEquals(List.of("de_fr.csv"), changed);
+    }
+
+    private static WatchEvent<Path> event(WatchEvent.Kind<Path> kind, String fileName) {
+        return new WatchEvent<>() {
+            @Override
+            public Kind<Path> kind() {
+                return kind;
+            }
+
+            @Override
+            public int count() {
+                return 1;
+            }
+
+            @Override
+            public Path context() {
+                return Path.of(fileName);
+            }
+        };
+    }
+}
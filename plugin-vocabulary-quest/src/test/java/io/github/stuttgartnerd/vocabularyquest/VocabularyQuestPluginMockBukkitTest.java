@@ -11,6 +11,7 @@ import org.bukkit.command.PluginCommand;
 import org.bukkit.command.RemoteConsoleCommandSender;
 import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,11 +21,13 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -35,6 +38,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class VocabularyQuestPluginMockBukkitTest {
@@ -77,6 +81,9 @@ class VocabularyQuestPluginMockBukkitTest {
         CommandResult playerPlaytimeResult = server.executePlayer("playtime", "status", "Alice");
         playerPlaytimeResult.assertResponse("This command is restricted to RCON.");
 
+        CommandResult playerStatsResult = server.executePlayer("vqstats");
+        playerStatsResult.assertResponse("This command is restricted to RCON.");
+
         CommandResult consoleDumpResult = server.executeConsole("dbdump");
         consoleDumpResult.assertResponse("This command is restricted to RCON.");
 
@@ -210,6 +217,323 @@ class VocabularyQuestPluginMockBukkitTest {
         assertEquals(emeraldsBefore + 1, countMaterial(player, Material.EMERALD));
     }
 
+    @Test
+    void questAcceptsAlternativeSpellingsOfTheSolution() throws Exception {
+        PlayerMock player = server.addPlayer("VariantUser");
+        SQLiteStore store = getSQLiteStore();
+        store.replaceDeEn(List.of(new SQLiteStore.VocabEntry("haus", "the house / home")));
+        store.replaceDeFr(List.of());
+
+        assertTrue(invokeStartVocabularyQuest(false));
+        int emeraldsBefore = countMaterial(player, Material.EMERALD);
+
+        server.execute("answer", player, "houses");
+        assertNotNull(getActiveQuest());
+
+        server.execute("answer", player, "Home");
+        assertNull(getActiveQuest());
+        assertEquals(emeraldsBefore + 1, countMaterial(player, Material.EMERALD));
+    }
+
+    @Test
+    void vqstatsReportsLatenciesAndCanBeReset() throws Exception {
+        PlayerMock player = server.addPlayer("StatsUser");
+        List<String> rconMessages = new ArrayList<>();
+        RemoteConsoleCommandSender rcon = createRconSender(rconMessages);
+
+        PluginCommand questNow = server.getPluginCommand("questnow");
+        PluginCommand stats = server.getPluginCommand("vqstats");
+        assertNotNull(questNow);
+        assertNotNull(stats);
+        assertTrue(plugin.onCommand(rcon, questNow, "questnow", new String[0]));
+        server.execute("answer", player, "falsch");
+
+        rconMessages.clear();
+        assertTrue(plugin.onCommand(rcon, stats, "vqstats", new String[0]));
+        assertTrue(rconMessages.stream().anyMatch(m -> m.startsWith("quest.select n=1 ")));
+        assertTrue(rconMessages.stream().anyMatch(m -> m.startsWith("answer.handle n=1 ") && m.contains("p99=")));
+        assertTrue(rconMessages.stream().anyMatch(m -> m.startsWith("sqlite.recordAttempt n=1 ")));
+        assertTrue(rconMessages.stream().anyMatch(m -> m.startsWith("answers.wrong count=1 ")));
+        assertTrue(rconMessages.stream().anyMatch(m -> m.equals("quests.open value=1")));
+
+        rconMessages.clear();
+        assertTrue(plugin.onCommand(rcon, stats, "vqstats", new String[]{"reset"}));
+        assertTrue(rconMessages.contains("Plugin metrics reset."));
+
+        rconMessages.clear();
+        assertTrue(plugin.onCommand(rcon, stats, "vqstats", new String[0]));
+        assertTrue(rconMessages.stream().noneMatch(m -> m.startsWith("answer.handle ")));
+        assertTrue(rconMessages.stream().anyMatch(m -> m.startsWith("answers.wrong count=0 ")));
+    }
+
+    @Test
+    void alreadyRewardedCorrectAnswerKeepsQuestOpenForOthers() throws Exception {
+        PlayerMock veteran = server.addPlayer("Veteran");
+        PlayerMock newcomer = server.addPlayer("Newcomer");
+        SQLiteStore store = getSQLiteStore();
+        store.replaceDeEn(List.of(new SQLiteStore.VocabEntry("haus", "house")));
+        store.replaceDeFr(List.of());
+        assertTrue(store.claimReward("Veteran", "de_en", "haus"));
+
+        assertTrue(invokeStartVocabularyQuest(false));
+        server.execute("answer", veteran, "house");
+        assertNotNull(getActiveQuest(), "A winner without reward must hand the quest back.");
+        assertEquals(0, countMaterial(veteran, Material.EMERALD));
+
+        server.execute("answer", newcomer, "house");
+        assertNull(getActiveQuest());
+        assertEquals(1, countMaterial(newcomer, Material.EMERALD));
+
+        server.execute("answer", veteran, "house");
+        assertEquals(0, countMaterial(veteran, Material.EMERALD));
+    }
+
+    @Test
+    void answerSpamIsThrottledBeforeAttemptsAreRecorded() throws Exception {
+        PlayerMock spammer = server.addPlayer("Spammer");
+        SQLiteStore store = getSQLiteStore();
+        store.replaceDeEn(List.of(new SQLiteStore.VocabEntry("haus", "house")));
+        store.replaceDeFr(List.of());
+        assertTrue(invokeStartVocabularyQuest(false));
+
+        for (int i = 0; i < 20; i++) {
+            server.execute("answer", spammer, "falsch" + i);
+        }
+
+        SQLiteStore.DumpSummary summary = store.dumpToLog(java.util.logging.Logger.getLogger("test"));
+        assertEquals(5, summary.attempts(), "Only the configured burst should reach the database.");
+        assertNotNull(getActiveQuest());
+
+        List<String> messages = new ArrayList<>();
+        PluginCommand stats = server.getPluginCommand("vqstats");
+        assertNotNull(stats);
+        assertTrue(plugin.onCommand(createRconSender(messages), stats, "vqstats", new String[0]));
+        assertTrue(messages.stream().anyMatch(m -> m.startsWith("answers.throttled count=15 ")), messages.toString());
+
+        plugin.onPlayerQuit(new PlayerQuitEvent(spammer, "left"));
+        server.execute("answer", spammer, "house");
+        assertNotNull(getActiveQuest(), "Relogging must not refill the bucket.");
+        assertTrue(playerReceivedMessageContaining(spammer, "Du antwortest zu schnell"));
+    }
+
+    @Test
+    void flushAnswersInvalidatesResidentRewardsOfOnlinePlayers() throws Exception {
+        PlayerMock player = server.addPlayer("LedgerUser");
+        SQLiteStore store = getSQLiteStore();
+        store.replaceDeEn(List.of(new SQLiteStore.VocabEntry("haus", "house")));
+        store.replaceDeFr(List.of());
+
+        assertTrue(invokeStartVocabularyQuest(false));
+        server.execute("answer", player, "house");
+        assertEquals(1, countMaterial(player, Material.EMERALD));
+
+        assertFalse(invokeStartVocabularyQuest(false), "No rewardable word is left for the only online player.");
+
+        PluginCommand flushAnswers = server.getPluginCommand("flushanswers");
+        assertNotNull(flushAnswers);
+        assertTrue(plugin.onCommand(createRconSender(new ArrayList<>()), flushAnswers, "flushanswers", new String[0]));
+
+        assertTrue(invokeStartVocabularyQuest(false));
+        server.execute("answer", player, "house");
+        assertEquals(2, countMaterial(player, Material.EMERALD));
+    }
+
+    @Test
+    void spacedRepetitionAsksDueWordsFirstAndRecordsReviews() throws Exception {
+        plugin.getConfig().set("quest_selection.strategy", "spaced_repetition");
+        SQLiteStore store = getSQLiteStore();
+        store.replaceDeEn(List.of(
+                new SQLiteStore.VocabEntry("haus", "house"),
+                new SQLiteStore.VocabEntry("baum", "tree"),
+                new SQLiteStore.VocabEntry("katze", "cat")
+        ));
+        store.replaceDeFr(List.of(new SQLiteStore.VocabEntry("maus", "souris")));
+        store.saveSrsCard("Reviewer", new SQLiteStore.SrsCard("de_en", "baum", 3, 0L));
+        // Due longest, but already rewarded for the only player online, so it is skipped.
+        store.saveSrsCard("Reviewer", new SQLiteStore.SrsCard("de_en", "katze", 5, -1L));
+        assertTrue(store.claimReward("Reviewer", "de_en", "katze"));
+        PlayerMock player = server.addPlayer("Reviewer");
+        plugin.onPlayerJoin(new PlayerJoinEvent(player, "joined"));
+
+        assertTrue(invokeStartVocabularyQuest(false));
+        assertEquals("tree", getQuestAnswer(getActiveQuest()));
+
+        server.execute("answer", player, "wrong");
+        SQLiteStore.SrsCard demoted = srsCard(store, "Reviewer", "baum");
+        assertEquals(1, demoted.box());
+        assertTrue(demoted.dueAtMillis() > System.currentTimeMillis());
+
+        server.execute("answer", player, "tree");
+        assertNull(getActiveQuest());
+        assertEquals(2, srsCard(store, "Reviewer", "baum").box());
+    }
+
+    @Test
+    void targetSuccessStrategyAsksWordsThatFitThePlayerAndSavesRatings() throws Exception {
+        plugin.getConfig().set("quest_selection.strategy", "target_success");
+        SQLiteStore store = getSQLiteStore();
+        store.replaceDeEn(List.of(
+                new SQLiteStore.VocabEntry("haus", "house"),
+                new SQLiteStore.VocabEntry("baum", "tree"),
+                new SQLiteStore.VocabEntry("katze", "cat")
+        ));
+        store.replaceDeFr(List.of());
+        long baumId = store.findQuestEntry("de_en", "baum").vocabId();
+        assertTrue(store.saveRatings(store.ratingsVersion(), List.of(
+                new SQLiteStore.ItemRating("de_en", store.findQuestEntry("de_en", "haus").vocabId(), 1000d, 50),
+                new SQLiteStore.ItemRating("de_en", baumId, 1350d, 50),
+                new SQLiteStore.ItemRating("de_en", store.findQuestEntry("de_en", "katze").vocabId(), 2000d, 50)
+        ), List.of(new SQLiteStore.PlayerRating("Rated", 1500d, 50))));
+        PlayerMock player = server.addPlayer("Rated");
+        plugin.onPlayerJoin(new PlayerJoinEvent(player, "joined"));
+
+        assertTrue(invokeStartVocabularyQuest(false));
+        assertEquals("tree", getQuestAnswer(getActiveQuest()));
+        server.execute("answer", player, "tree");
+        assertNull(getActiveQuest());
+
+        Method save = VocabularyQuestPlugin.class.getDeclaredMethod("saveSkillRatings");
+        save.setAccessible(true);
+        save.invoke(plugin);
+
+        SQLiteStore.PlayerRating rated = store.findPlayerRating("Rated");
+        assertEquals(51, rated.games());
+        assertTrue(rated.rating() > 1500d);
+        assertTrue(store.listItemRatings().stream()
+                .anyMatch(item -> item.vocabId() == baumId && item.games() == 51 && item.rating() < 1350d));
+    }
+
+    @Test
+    void personalQuestIsAnsweredPrivatelyWhileTheGlobalQuestStaysOpen() throws Exception {
+        plugin.getConfig().set("personal_quests.cooldown_seconds", 0);
+        SQLiteStore store = getSQLiteStore();
+        store.replaceDeEn(List.of(new SQLiteStore.VocabEntry("haus", "house")));
+        store.replaceDeFr(List.of());
+        PlayerMock solo = server.addPlayer("Solo");
+        PlayerMock other = server.addPlayer("Other");
+
+        assertTrue(invokeStartVocabularyQuest(false));
+        Object globalQuest = getActiveQuest();
+
+        server.execute("quest", solo);
+        assertTrue(playerReceivedMessageContaining(solo, "Deine Vokabel-Quest: Was ist das englische Wort für: haus?"));
+
+        server.execute("answer", solo, "falsch");
+        assertTrue(playerReceivedMessageContaining(solo, "Leider falsch"));
+        server.execute("answer", solo, "house");
+        assertEquals(1, countMaterial(solo, Material.EMERALD));
+        assertTrue(playerReceivedMessageContaining(solo, "Richtig! Du hast 1 Emerald erhalten."));
+        assertSame(globalQuest, getActiveQuest(), "A personal answer must not touch the global quest.");
+
+        server.execute("quest", solo);
+        assertTrue(playerReceivedMessageContaining(solo, "keine belohnbare Vokabel für dich"));
+
+        server.execute("answer", other, "house");
+        assertNull(getActiveQuest());
+        assertEquals(1, countMaterial(other, Material.EMERALD));
+    }
+
+    @Test
+    void personalQuestLetsOtherAnswersThroughAndLimitsRetries() throws Exception {
+        SQLiteStore store = getSQLiteStore();
+        store.replaceDeEn(List.of(
+                new SQLiteStore.VocabEntry("haus", "house"),
+                new SQLiteStore.VocabEntry("baum", "tree")
+        ));
+        store.replaceDeFr(List.of());
+        PlayerMock solo = server.addPlayer("Solo");
+
+        assertTrue(invokeStartVocabularyQuest(false));
+        String globalAnswer = getQuestAnswer(getActiveQuest());
+        server.execute("quest", solo);
+        Object personal = personalQuestOf(solo);
+        assertNotNull(personal);
+        String personalAnswer = getQuestAnswer(personal);
+        if (!personalAnswer.equals(globalAnswer)) {
+            server.execute("answer", solo, globalAnswer);
+            assertNull(getActiveQuest(), "An open personal quest must not swallow the answer to the global quest.");
+            assertSame(personal, personalQuestOf(solo));
+        }
+
+        server.execute("answer", solo, "falsch");
+        server.execute("answer", solo, "falsch");
+        assertTrue(playerReceivedMessageContaining(solo, "Leider falsch. Noch 1 Versuch."));
+        server.execute("answer", solo, "falsch");
+        assertTrue(playerReceivedMessageContaining(solo, "Keine Versuche mehr. Lösung: "));
+        assertNull(personalQuestOf(solo));
+        assertEquals(1L, getPluginMetrics().counter("quests.personal_failed"));
+
+        server.execute("quest", solo);
+        assertTrue(playerReceivedMessageContaining(solo, "Bitte warte noch"));
+        assertNull(personalQuestOf(solo));
+
+        plugin.getConfig().set("personal_quests.cooldown_seconds", 0);
+        server.execute("quest", solo);
+        Object next = personalQuestOf(solo);
+        if (next != null) {
+            assertFalse(personalAnswer.equals(getQuestAnswer(next)), "The failed word must not come right back.");
+        } else {
+            // The other word was already rewarded through the global quest.
+            assertFalse(personalAnswer.equals(globalAnswer));
+        }
+    }
+
+    @Test
+    void quittingDuringAPersonalQuestCountsAsFailingIt() throws Exception {
+        SQLiteStore store = getSQLiteStore();
+        store.replaceDeEn(List.of(new SQLiteStore.VocabEntry("haus", "house")));
+        store.replaceDeFr(List.of());
+        PlayerMock quitter = server.addPlayer("Quitter");
+
+        server.execute("quest", quitter);
+        assertNotNull(personalQuestOf(quitter));
+        plugin.onPlayerQuit(new PlayerQuitEvent(quitter, "left"));
+        assertNull(personalQuestOf(quitter));
+
+        server.execute("quest", quitter);
+        assertTrue(playerReceivedMessageContaining(quitter, "Bitte warte noch"));
+
+        plugin.getConfig().set("personal_quests.cooldown_seconds", 0);
+        server.execute("quest", quitter);
+        assertNull(personalQuestOf(quitter), "The abandoned word must not come right back.");
+        assertTrue(playerReceivedMessageContaining(quitter, "keine belohnbare Vokabel"));
+    }
+
+    @Test
+    void languageChannelsRunIndependentQuests() throws Exception {
+        plugin.getConfig().set("quest_channels.english.languages", List.of("en"));
+        plugin.getConfig().set("quest_channels.french.languages", List.of("fr"));
+        Method configure = VocabularyQuestPlugin.class.getDeclaredMethod("configureQuestChannels");
+        configure.setAccessible(true);
+        configure.invoke(plugin);
+
+        SQLiteStore store = getSQLiteStore();
+        store.replaceDeEn(List.of(new SQLiteStore.VocabEntry("haus", "house")));
+        store.replaceDeFr(List.of(new SQLiteStore.VocabEntry("baum", "arbre")));
+        PlayerMock player = server.addPlayer("Bilingual");
+
+        assertTrue(invokeStartVocabularyQuest(false));
+        assertEquals("house", getQuestAnswer(getActiveQuest(0)));
+        assertEquals("arbre", getQuestAnswer(getActiveQuest(1)));
+
+        server.execute("answer", player, "falsch");
+        assertTrue(playerReceivedMessageContaining(player, "passt zu keiner der offenen Vokabel-Quests"));
+        assertEquals(0, store.dumpToLog(java.util.logging.Logger.getLogger("test")).attempts(),
+                "A wrong answer with two open quests must not count as a miss on either word.");
+
+        server.execute("answer", player, "arbre");
+        assertNotNull(getActiveQuest(0), "Solving the French quest must leave the English one open.");
+        assertNull(getActiveQuest(1));
+
+        server.execute("answer", player, "falsch");
+        assertEquals(2, store.dumpToLog(java.util.logging.Logger.getLogger("test")).attempts(),
+                "With one open quest left the miss is recorded against it.");
+
+        server.execute("answer", player, "house");
+        assertNull(getActiveQuest(0));
+        assertEquals(2, countMaterial(player, Material.EMERALD));
+    }
+
     @Test
     void timedQuestRequiresAtLeastTenEntriesButQuestNowCanStillStart() throws Exception {
         server.addPlayer("ThresholdUser");
@@ -363,6 +687,49 @@ class VocabularyQuestPluginMockBukkitTest {
         }
     }
 
+    @Test
+    void importVocabSyncModeUpdatesTranslationsAndReportsCounts() throws Exception {
+        SQLiteStore store = getSQLiteStore();
+        store.replaceDeEn(List.of(
+                new SQLiteStore.VocabEntry("haus", "hose"),
+                new SQLiteStore.VocabEntry("wasser", "water"),
+                new SQLiteStore.VocabEntry("maus", "mouse")
+        ));
+        store.recordAttempt("alice", "de_en", "wasser", false);
+
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        try {
+            httpServer.createContext("/sync-en.csv", exchange -> respondCsv(exchange, """
+                    de,en
+                    haus,house
+                    wasser,water
+                    baum,tree
+                    """));
+            httpServer.start();
+            plugin.getConfig().set("vocab_import.sheet_urls.en",
+                    "http://127.0.0.1:" + httpServer.getAddress().getPort() + "/sync-en.csv");
+
+            List<String> messages = new ArrayList<>();
+            RemoteConsoleCommandSender rcon = createRconSender(messages);
+            PluginCommand importVocab = server.getPluginCommand("importvocab");
+            assertNotNull(importVocab);
+            assertTrue(plugin.onCommand(rcon, importVocab, "importvocab", new String[]{"en", "replace"}));
+            assertTrue(messages.stream().anyMatch(m -> m.contains("Import mode must be merge or sync.")));
+
+            assertTrue(plugin.onCommand(rcon, importVocab, "importvocab", new String[]{"en", "sync"}));
+            assertTrue(messages.stream().anyMatch(m -> m.contains(
+                    "Synced de_en from sheet: added 1, updated 1, deleted 1, unchanged 1.")));
+
+            Path dbPath = plugin.getDataFolder().toPath().resolve("mindcraft.db");
+            assertEquals("house", selectTranslation(dbPath, "vocab_de_en", "en", "haus"));
+            assertEquals("tree", selectTranslation(dbPath, "vocab_de_en", "en", "baum"));
+            assertNull(selectTranslation(dbPath, "vocab_de_en", "en", "maus"));
+            assertEquals(1, store.dumpToLog(java.util.logging.Logger.getLogger("test")).attempts());
+        } finally {
+            httpServer.stop(0);
+        }
+    }
+
     @Test
     void startupImportMergesConfiguredSheetsWhenUrlsExist() throws Exception {
         SQLiteStore store = getSQLiteStore();
@@ -403,6 +770,51 @@ class VocabularyQuestPluginMockBukkitTest {
         }
     }
 
+    @Test
+    void unchangedLocalCsvIsNotReloadedButEditedCsvIs() throws Exception {
+        stopVocabularyFileWatcher();
+        Path dbPath = plugin.getDataFolder().toPath().resolve("mindcraft.db");
+        Path csv = plugin.getDataFolder().toPath().resolve("vocabulary").resolve("de_en.csv");
+        List<Long> idsBefore = selectIds(dbPath, "vocab_de_en");
+        assertFalse(idsBefore.isEmpty());
+
+        invokeLoadLocalVocabularyIfChanged("en", csv);
+        assertEquals(idsBefore, selectIds(dbPath, "vocab_de_en"), "Unchanged CSV must not rewrite the table.");
+
+        Files.writeString(csv, """
+                de,en
+                haus,house
+                katze,cat
+                """, StandardCharsets.UTF_8);
+        invokeLoadLocalVocabularyIfChanged("en", csv);
+
+        assertEquals("cat", selectTranslation(dbPath, "vocab_de_en", "en", "katze"));
+        assertNull(selectTranslation(dbPath, "vocab_de_en", "en", "baum"));
+    }
+
+    @Test
+    void editedLocalCsvIsHotReloadedWithoutRestart() throws Exception {
+        stopVocabularyFileWatcher();
+        SQLiteStore store = getSQLiteStore();
+        Path dbPath = plugin.getDataFolder().toPath().resolve("mindcraft.db");
+        Path csv = plugin.getDataFolder().toPath().resolve("vocabulary").resolve("de_fr.csv");
+        long hausIdBefore = selectIds(dbPath, "vocab_de_fr").get(0);
+
+        Files.writeString(csv, """
+                de,fr
+                haus,maison
+                katze,chat
+                """, StandardCharsets.UTF_8);
+
+        invokeReloadChangedLocalVocabulary(csv);
+
+        assertEquals("chat", selectTranslation(dbPath, "vocab_de_fr", "fr", "katze"));
+        assertNull(selectTranslation(dbPath, "vocab_de_fr", "fr", "baum"));
+        assertEquals(hausIdBefore, (long) selectIds(dbPath, "vocab_de_fr").get(0),
+                "Unchanged rows must keep their ids.");
+        assertEquals(2, store.dumpToLog(java.util.logging.Logger.getLogger("test")).deFrEntries());
+    }
+
     @Test
     void playtimeCommandRejectsInvalidInputAndResistsSqlLikePayload() throws Exception {
         SQLiteStore store = getSQLiteStore();
@@ -437,6 +849,60 @@ class VocabularyQuestPluginMockBukkitTest {
         assertEquals(120, normal.effectiveLimitMinutes());
     }
 
+    @Test
+    void laggingServerDefersImportButKeepsCountingPlaytime() throws Exception {
+        stopVocabularyFileWatcher();
+        SQLiteStore store = getSQLiteStore();
+        store.replaceDeEn(List.of(new SQLiteStore.VocabEntry("haus", "house")));
+        double[] mspt = {80d};
+        PluginMetrics metrics = getPluginMetrics();
+        setTickBudget(new TickBudgetMonitor(() -> mspt[0], 45d, 3_600_000_000_000L, metrics));
+
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        try {
+            httpServer.createContext("/de_en.csv", exchange -> respondCsv(exchange, """
+                    de,en
+                    haus,house
+                    baum,tree
+                    """));
+            httpServer.start();
+            plugin.getConfig().set("vocab_import.sheet_urls.en",
+                    "http://127.0.0.1:" + httpServer.getAddress().getPort() + "/de_en.csv");
+
+            List<String> messages = new ArrayList<>();
+            RemoteConsoleCommandSender rcon = createRconSender(messages);
+            PluginCommand importVocab = server.getPluginCommand("importvocab");
+            assertNotNull(importVocab);
+
+            assertTrue(plugin.onCommand(rcon, importVocab, "importvocab", new String[]{"en"}));
+            assertTrue(messages.stream().anyMatch(m -> m.contains("will be retried")));
+            server.addPlayer("LaggyJoin");
+            assertEquals(1L, metrics.counter("deferred.prefetch"));
+            assertEquals(1, store.dumpToLog(java.util.logging.Logger.getLogger("test")).deEnEntries());
+            assertEquals(1L, metrics.counter("deferred.import"));
+
+            server.getScheduler().performTicks(100L);
+            assertEquals(1, store.dumpToLog(java.util.logging.Logger.getLogger("test")).deEnEntries());
+            assertEquals(2L, metrics.counter("deferred.import"));
+            assertEquals(2L, metrics.counter("deferred.prefetch"), "A deferred join prefetch is retried.");
+
+            // Playtime accounting is critical work and ignores the budget.
+            server.addPlayer("LagUser");
+            invokeTrackOnlinePlaytimeUsage();
+            assertEquals(1, store.getOrCreatePlayerPlaytimeForToday("LagUser", LocalDate.now().toString(), 120)
+                    .dailyUsedMinutes());
+
+            mspt[0] = 20d;
+            server.getScheduler().performTicks(100L);
+            assertEquals(2, store.dumpToLog(java.util.logging.Logger.getLogger("test")).deEnEntries());
+            assertFalse(messages.stream().anyMatch(m -> m.contains("Merged de_en")),
+                    "The deferred run must report to the console, not to the closed RCON connection.");
+            assertEquals(2L, metrics.counter("deferred.import"));
+        } finally {
+            httpServer.stop(0);
+        }
+    }
+
     @Test
     void playtimeWarningsCountDownFromFiveMinutes() throws Exception {
         SQLiteStore store = getSQLiteStore();
@@ -509,6 +975,18 @@ class VocabularyQuestPluginMockBukkitTest {
         );
     }
 
+    private PluginMetrics getPluginMetrics() throws Exception {
+        Field field = VocabularyQuestPlugin.class.getDeclaredField("metrics");
+        field.setAccessible(true);
+        return (PluginMetrics) field.get(plugin);
+    }
+
+    private void setTickBudget(TickBudgetMonitor monitor) throws Exception {
+        Field field = VocabularyQuestPlugin.class.getDeclaredField("tickBudget");
+        field.setAccessible(true);
+        field.set(plugin, monitor);
+    }
+
     private SQLiteStore getSQLiteStore() throws Exception {
         Field field = VocabularyQuestPlugin.class.getDeclaredField("sqliteStore");
         field.setAccessible(true);
@@ -516,9 +994,20 @@ class VocabularyQuestPluginMockBukkitTest {
     }
 
     private Object getActiveQuest() throws Exception {
-        Field field = VocabularyQuestPlugin.class.getDeclaredField("activeQuest");
+        return getActiveQuest(0);
+    }
+
+    private Object getActiveQuest(int channelIndex) throws Exception {
+        Field field = VocabularyQuestPlugin.class.getDeclaredField("questChannels");
+        field.setAccessible(true);
+        List<?> channels = (List<?>) field.get(plugin);
+        return ((QuestChannel<?>) channels.get(channelIndex)).lifecycle().pendingQuest();
+    }
+
+    private Object personalQuestOf(PlayerMock player) throws Exception {
+        Field field = VocabularyQuestPlugin.class.getDeclaredField("personalQuests");
         field.setAccessible(true);
-        return field.get(plugin);
+        return ((PersonalQuests<?>) field.get(plugin)).current(player.getUniqueId());
     }
 
     private String getQuestAnswer(Object activeQuest) throws Exception {
@@ -538,6 +1027,32 @@ class VocabularyQuestPluginMockBukkitTest {
         method.invoke(plugin);
     }
 
+    private void stopVocabularyFileWatcher() throws Exception {
+        Method method = VocabularyQuestPlugin.class.getDeclaredMethod("stopVocabularyFileWatcher");
+        method.setAccessible(true);
+        method.invoke(plugin);
+    }
+
+    private void invokeLoadLocalVocabularyIfChanged(String language, Path csv) throws Exception {
+        Method method = VocabularyQuestPlugin.class.getDeclaredMethod("loadLocalVocabularyIfChanged",
+                String.class, Path.class);
+        method.setAccessible(true);
+        method.invoke(plugin, language, csv);
+    }
+
+    private SQLiteStore.SrsCard srsCard(SQLiteStore store, String username, String deWord) throws SQLException {
+        return store.listSrsCards(username).stream()
+                .filter(card -> card.deWord().equals(deWord))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void invokeReloadChangedLocalVocabulary(Path changedFile) throws Exception {
+        Method method = VocabularyQuestPlugin.class.getDeclaredMethod("reloadChangedLocalVocabulary", Path.class);
+        method.setAccessible(true);
+        method.invoke(plugin, changedFile);
+    }
+
     private void invokeTrackOnlinePlaytimeUsage() throws Exception {
         Method method = VocabularyQuestPlugin.class.getDeclaredMethod("trackOnlinePlaytimeUsage");
         method.setAccessible(true);
@@ -605,6 +1120,18 @@ class VocabularyQuestPluginMockBukkitTest {
         }
     }
 
+    private List<Long> selectIds(Path dbPath, String table) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + dbPath.toAbsolutePath());
+             PreparedStatement statement = connection.prepareStatement("SELECT id FROM " + table + " ORDER BY id");
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong("id"));
+            }
+        }
+        return ids;
+    }
+
     private String selectTranslation(Path dbPath, String table, String column, String deWord) throws Exception {
         try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + dbPath.toAbsolutePath());
              PreparedStatement statement = connection.prepareStatement(
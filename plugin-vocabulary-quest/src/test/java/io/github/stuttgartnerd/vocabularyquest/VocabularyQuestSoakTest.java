@@ -0,0 +1,298 @@
+package io.github.stuttgartnerd.vocabularyquest;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Runs the plugin inside MockBukkit with a few hundred simulated players for several simulated days.
+ * Every server tick advances the plugin clock by a fixed step, so one Minecraft day (24000 ticks) is
+ * one calendar day for playtime limits, review due dates and personal quest deadlines. Prints one line
+ * per day with tick time percentiles, database size and retained heap. Tagged "soak" and excluded from
+ * the normal test task; run it with `gradle :plugin-vocabulary-quest:soakTest`.
+ */
+@Tag("soak")
+class VocabularyQuestSoakTest {
+    private static final int VOCABULARY_SIZE = 500;
+
+    private final int playerCount = Integer.getInteger("soak.players", 300);
+    private final int days = Integer.getInteger("soak.days", 3);
+    private final int ticksPerDay = Integer.getInteger("soak.ticksPerDay", 24_000);
+    private final double joinChance = doubleProperty("soak.joinChance", 0.002d);
+    private final double leaveChance = doubleProperty("soak.leaveChance", 0.0005d);
+    private final double answerChance = doubleProperty("soak.answerChance", 0.002d);
+    private final double correctChance = doubleProperty("soak.correctChance", 0.4d);
+    private final double spamChance = doubleProperty("soak.spamChance", 0.001d);
+    private final long seed = Long.getLong("soak.seed", 42L);
+
+    private ServerMock server;
+    private VocabularyQuestPlugin plugin;
+    private SimulatedClock clock;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(VocabularyQuestPlugin.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void populationSoak() throws Exception {
+        clock = new SimulatedClock(Instant.parse("2026-01-05T06:00:00Z"), ZoneOffset.UTC);
+        setField("clock", clock);
+        plugin.getConfig().set("playtime.default_daily_limit_minutes", Integer.getInteger("soak.dailyLimitMinutes", 10));
+        seedVocabulary();
+
+        Random random = new Random(seed);
+        List<SimulatedPlayer> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new SimulatedPlayer(server.addPlayer(String.format(Locale.ROOT, "soak%04d", i))));
+        }
+
+        long clockStepMillis = 86_400_000L / ticksPerDay;
+        PluginMetrics metrics = (PluginMetrics) getField("metrics");
+        Path report = reportFile();
+        StringBuilder csv = new StringBuilder(
+                "day,date,online,ticks,tick_p50_us,tick_p99_us,tick_max_us,db_bytes,heap_mb,"
+                        + "quests_started,answers_correct,answers_wrong,personal_started\n");
+        long[] previous = new long[4];
+
+        for (int day = 1; day <= days; day++) {
+            PluginMetrics.LatencyHistogram ticks = new PluginMetrics.LatencyHistogram();
+            for (int tick = 0; tick < ticksPerDay; tick++) {
+                long started = System.nanoTime();
+                for (SimulatedPlayer player : players) {
+                    act(player, random);
+                }
+                server.getScheduler().performOneTick();
+                ticks.record(System.nanoTime() - started);
+                clock.advance(clockStepMillis);
+            }
+
+            server.getScheduler().waitAsyncTasksFinished();
+            for (SimulatedPlayer player : players) {
+                player.drainMessages();
+            }
+            System.gc();
+            long heapBytes = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+
+            long[] totals = {
+                    metrics.counter("quests.started"),
+                    metrics.counter("answers.correct"),
+                    metrics.counter("answers.wrong"),
+                    metrics.counter("quests.personal_started")
+            };
+            String line = String.format(Locale.ROOT, "%d,%s,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d",
+                    day,
+                    clock.instant().atZone(ZoneOffset.UTC).toLocalDate(),
+                    players.stream().filter(SimulatedPlayer::online).count(),
+                    ticks.count(),
+                    ticks.percentile(50d) / 1_000L,
+                    ticks.percentile(99d) / 1_000L,
+                    ticks.max() / 1_000L,
+                    databaseBytes(),
+                    heapBytes / (1024L * 1024L),
+                    totals[0] - previous[0],
+                    totals[1] - previous[1],
+                    totals[2] - previous[2],
+                    totals[3] - previous[3]);
+            previous = totals;
+            csv.append(line).append('\n');
+            System.out.println("[soak] " + line);
+        }
+
+        if (report != null) {
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            Files.writeString(report, csv);
+        }
+        System.out.println("[soak] plugin metrics:\n" + metrics.report());
+
+        assertTrue(metrics.counter("answers.correct") + metrics.counter("answers.wrong") > 0L,
+                "simulated players never got an answer evaluated");
+        assertTrue(databaseBytes() > 0L, "database file was not written");
+    }
+
+    private void act(SimulatedPlayer player, Random random) throws Exception {
+        if (!player.online()) {
+            if (random.nextDouble() < joinChance) {
+                player.join();
+            }
+            return;
+        }
+
+        if (random.nextDouble() < leaveChance) {
+            player.leave();
+            return;
+        }
+        if (random.nextDouble() < answerChance) {
+            String answer = openAnswer(player.mock.getUniqueId());
+            if (answer != null && random.nextDouble() < correctChance) {
+                player.mock.performCommand("answer " + answer);
+            } else {
+                player.mock.performCommand("answer " + word(random.nextInt(VOCABULARY_SIZE)));
+            }
+        }
+        if (random.nextDouble() < spamChance) {
+            switch (random.nextInt(3)) {
+                case 0 -> player.mock.performCommand("quest");
+                case 1 -> player.mock.performCommand("answer");
+                default -> player.mock.chat("hallo " + random.nextInt(100));
+            }
+        }
+    }
+
+    private String openAnswer(UUID playerId) throws Exception {
+        Object personal = ((PersonalQuests<?>) getField("personalQuests")).current(playerId);
+        if (personal != null) {
+            return answerOf(personal);
+        }
+        for (Object channel : (List<?>) getField("questChannels")) {
+            Object pending = ((QuestChannel<?>) channel).lifecycle().pendingQuest();
+            if (pending != null) {
+                return answerOf(pending);
+            }
+        }
+        return null;
+    }
+
+    private static String answerOf(Object activeQuest) throws Exception {
+        var method = activeQuest.getClass().getDeclaredMethod("answer");
+        method.setAccessible(true);
+        return String.valueOf(method.invoke(activeQuest)).toLowerCase(Locale.ROOT);
+    }
+
+    private void seedVocabulary() throws Exception {
+        SQLiteStore store = (SQLiteStore) getField("sqliteStore");
+        List<SQLiteStore.VocabEntry> english = new ArrayList<>(VOCABULARY_SIZE);
+        List<SQLiteStore.VocabEntry> french = new ArrayList<>(VOCABULARY_SIZE);
+        for (int i = 0; i < VOCABULARY_SIZE; i++) {
+            english.add(new SQLiteStore.VocabEntry("wort" + i, word(i)));
+            french.add(new SQLiteStore.VocabEntry("wort" + i, "mot" + word(i)));
+        }
+        store.insertMissingVocabularyEntries("en", english);
+        store.insertMissingVocabularyEntries("fr", french);
+    }
+
+    private static String word(int index) {
+        StringBuilder word = new StringBuilder();
+        int value = index;
+        do {
+            word.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return word.append("word").toString();
+    }
+
+    private long databaseBytes() throws IOException {
+        Path database = plugin.getDataFolder().toPath().resolve("mindcraft.db");
+        return Files.exists(database) ? Files.size(database) : 0L;
+    }
+
+    private static Path reportFile() {
+        String property = System.getProperty("soak.reportFile");
+        return property == null || property.isBlank() ? null : Path.of(property);
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+    }
+
+    private Object getField(String name) throws Exception {
+        Field field = VocabularyQuestPlugin.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(plugin);
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = VocabularyQuestPlugin.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(plugin, value);
+    }
+
+    private static final class SimulatedPlayer {
+        private final PlayerMock mock;
+        private boolean online = true;
+
+        SimulatedPlayer(PlayerMock mock) {
+            this.mock = mock;
+        }
+
+        boolean online() {
+            return online && mock.isOnline();
+        }
+
+        void join() {
+            online = mock.reconnect();
+        }
+
+        void leave() {
+            mock.disconnect();
+            online = false;
+        }
+
+        void drainMessages() {
+            while (mock.nextMessage() != null) {
+                // MockBukkit keeps every message until it is read.
+            }
+        }
+    }
+
+    private static final class SimulatedClock extends Clock {
+        private final ZoneId zone;
+        private long millis;
+
+        SimulatedClock(Instant start, ZoneId zone) {
+            this.zone = zone;
+            this.millis = start.toEpochMilli();
+        }
+
+        void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new SimulatedClock(Instant.ofEpochMilli(millis), zone);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}